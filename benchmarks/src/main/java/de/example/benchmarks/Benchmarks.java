@@ -0,0 +1,50 @@
+package de.example.benchmarks;
+
+import java.io.IOException;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * This type runs the benchmarks and writes the results in JSON format.
+ *
+ * <br><br><b>Discussion</b><br>
+ * It accepts the same arguments as the JMH runner. Unless a result format or file is given, the results are written
+ * to {@code jmh-result.json} in the working directory, so that they can be compared with the results of previous
+ * runs.
+ */
+public final class Benchmarks {
+
+    //: SECTION: - ATTRIBUTES
+
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    //: SECTION: - CONSTRUCTORS
+
+    private Benchmarks() {}
+
+    //: SECTION: - METHODS
+
+    public static void main(String[] args) throws CommandLineOptionException, IOException, RunnerException {
+        CommandLineOptions options = new CommandLineOptions(args);
+
+        if (options.shouldHelp()) {
+            options.showHelp();
+            return;
+        }
+
+        Runner runner = new Runner(new OptionsBuilder()
+                .parent(options)
+                .resultFormat(options.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(options.getResult().orElse(DEFAULT_RESULT_FILE))
+                .build());
+
+        if (options.shouldList())
+            runner.list();
+        else
+            runner.run();
+    }
+}
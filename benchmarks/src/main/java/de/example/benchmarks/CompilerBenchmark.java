@@ -0,0 +1,51 @@
+package de.example.benchmarks;
+
+import de.example.domain.entities.Status;
+import de.example.domain.entities.machines.Program;
+import de.example.domain.entities.machines.ram.RandomAccessMachineCompiler;
+import de.example.domain.entities.machines.ram.RandomAccessMachineDecoder;
+import io.vavr.control.Either;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** This type measures compiling a whole program, which is decoding every line of it. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompilerBenchmark {
+
+    //: SECTION: - ATTRIBUTES
+
+    @Param({"factorial", "sieve", "bubbleSort"})
+    public String program;
+
+    private final RandomAccessMachineCompiler compiler =
+            new RandomAccessMachineCompiler(new RandomAccessMachineDecoder());
+
+    private String source;
+
+    //: SECTION: - METHODS
+
+    @Setup
+    public void setUp() {
+        this.source = Programs.get(this.program);
+    }
+
+    @Benchmark
+    public Either<Status, Program> compile() {
+        return this.compiler.compile(this.source);
+    }
+}
@@ -0,0 +1,39 @@
+package de.example.benchmarks;
+
+import de.example.domain.entities.machines.Command;
+import de.example.domain.entities.machines.ram.RandomAccessMachineDecoder;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** This type measures decoding a single line of a program. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecoderBenchmark {
+
+    //: SECTION: - ATTRIBUTES
+
+    @Param({"LDK 7", "  STA   12  ", "JGZ 11", "HLT 0", "ADD A"})
+    public String line;
+
+    private final RandomAccessMachineDecoder decoder = new RandomAccessMachineDecoder();
+
+    //: SECTION: - METHODS
+
+    @Benchmark
+    public Command decode() {
+        return this.decoder.decode(this.line);
+    }
+}
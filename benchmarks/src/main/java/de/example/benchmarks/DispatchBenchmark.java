@@ -0,0 +1,62 @@
+package de.example.benchmarks;
+
+import de.example.domain.entities.InputQueue;
+import de.example.domain.entities.Status;
+import de.example.domain.entities.machines.ram.RandomAccessMachine;
+import de.example.domain.entities.machines.ram.RandomAccessMachineCommand;
+import de.example.domain.entities.machines.ram.RandomAccessMachineDecoder;
+import de.example.domain.entities.machines.ram.RandomAccessMachineOpcode;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * This type measures executing a single decoded command, which includes dispatching it to the corresponding method of
+ * the machine.
+ *
+ * <br><br><b>Discussion</b><br>
+ * INP and SET are not measured, as INP waits for an input and SET allocates the memory.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchBenchmark {
+
+    //: SECTION: - ATTRIBUTES
+
+    @Param({"HOP", "ADD", "SUB", "MUL", "DIV", "LDA", "LDK", "STA", "OUT", "JMP", "JEZ", "JNE", "JLZ", "JLE", "JGZ",
+            "JGE", "HLT"})
+    public String opcode;
+
+    private RandomAccessMachine machine;
+    private RandomAccessMachineCommand command;
+
+    //: SECTION: - METHODS
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        int[] memory = {0, 3};
+
+        this.machine = new RandomAccessMachine(memory, new InputQueue(), new RandomAccessMachineDecoder());
+        this.machine.setOutput(blackhole::consume);
+        this.command = new RandomAccessMachineCommand(RandomAccessMachineOpcode.valueOf(this.opcode), 1);
+    }
+
+    @Benchmark
+    public Status execute() {
+        return this.command.execute(this.machine);
+    }
+}
@@ -0,0 +1,92 @@
+package de.example.benchmarks;
+
+import de.example.domain.entities.InputQueue;
+import de.example.domain.entities.Status;
+import de.example.domain.entities.machines.Command;
+import de.example.domain.entities.machines.Machine;
+import de.example.domain.entities.machines.Program;
+import de.example.domain.entities.machines.ram.CompiledRandomAccessMachine;
+import de.example.domain.entities.machines.ram.RandomAccessMachine;
+import de.example.domain.entities.machines.ram.RandomAccessMachineBytecodeGenerator;
+import de.example.domain.entities.machines.ram.RandomAccessMachineCompiler;
+import de.example.domain.entities.machines.ram.RandomAccessMachineDecoder;
+import de.example.domain.usecases.ExecuteUsecase;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * This type measures executing a whole compiled program, from loading it into the machine until its final status.
+ *
+ * <br><br><b>Discussion</b><br>
+ * The program is executed by the same use case as in the headless mode, which resets the machine after every
+ * execution. Every program is measured with both engines, the interpreter and the machine translating the program
+ * into JVM bytecode. The interpreter is additionally measured with an unverified copy of the program, for which it
+ * executes every command on its own instead of using superinstructions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProgramBenchmark {
+
+    //: SECTION: - ATTRIBUTES
+
+    @Param({"factorial", "sieve", "bubbleSort"})
+    public String program;
+
+    @Param({"interpreter", "unoptimized", "compiled"})
+    public String engine;
+
+    private ExecuteUsecase executeUsecase;
+    private Program compiled;
+
+    //: SECTION: - METHODS
+
+    @Setup
+    public void setUp() {
+        RandomAccessMachineDecoder decoder = new RandomAccessMachineDecoder();
+        RandomAccessMachineCompiler compiler = new RandomAccessMachineCompiler(decoder);
+
+        Machine machine = switch (this.engine) {
+            case "interpreter", "unoptimized" -> new RandomAccessMachine(new InputQueue(), decoder);
+            case "compiled" -> new CompiledRandomAccessMachine(new InputQueue(), decoder,
+                                                               new RandomAccessMachineBytecodeGenerator());
+            default -> throw new IllegalArgumentException("unknown engine: " + this.engine);
+        };
+
+        this.executeUsecase = new ExecuteUsecase(machine, compiler);
+        this.compiled = compiler.compile(Programs.get(this.program))
+                .getOrElseThrow(status -> new IllegalStateException("program could not be compiled: " + status));
+
+        if (this.engine.equals("unoptimized")) {
+            Command[] commands = new Command[this.compiled.size()];
+            for (int i = 0; i < commands.length; i++)
+                commands[i] = this.compiled.get(i);
+
+            this.compiled = new Program(commands);
+        }
+    }
+
+    @Benchmark
+    public Status execute(Blackhole blackhole) {
+        Status status = this.executeUsecase.execute(this.compiled, () -> null, blackhole::consume);
+
+        if (status != Status.FINISH_SUCCESS)
+            throw new IllegalStateException("program finished with " + status);
+
+        return status;
+    }
+}
@@ -0,0 +1,146 @@
+package de.example.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This type provides the programs executed by the benchmarks.
+ *
+ * <br><br><b>Discussion</b><br>
+ * The random access machine does not support indirect addressing, which is why the programs working on several memory
+ * cells, i.e. the prime sieve and the bubble sort, are unrolled. They are generated instead of written by hand, so
+ * that the program addresses of the jumps are always correct. All programs use at most 100 memory cells and do not
+ * require any input.
+ */
+public final class Programs {
+
+    //: SECTION: - CONSTRUCTORS
+
+    private Programs() {}
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method returns the program with the given name.
+     *
+     * @param name The name of the program, which is {@code factorial}, {@code sieve} or {@code bubbleSort}
+     * @return The program, whose lines are separated by the {@code \n} character
+     */
+    public static String get(String name) {
+        return switch (name) {
+            case "factorial" -> factorial();
+            case "sieve" -> sieve();
+            case "bubbleSort" -> bubbleSort();
+            default -> throw new IllegalArgumentException("unknown program: " + name);
+        };
+    }
+
+    /**
+     * This method returns a program calculating 12! a thousand times in a nested loop and printing the result once.
+     *
+     * @return The program
+     */
+    public static String factorial() {
+        return """
+                SET 4
+                LDK 1000
+                STA 4
+                LDK 1
+                STA 3
+                LDK 12
+                STA 1
+                LDK 1
+                STA 2
+                LDA 2
+                MUL 1
+                STA 2
+                LDA 1
+                SUB 3
+                STA 1
+                JGZ 10
+                LDA 4
+                SUB 3
+                STA 4
+                JGZ 6
+                OUT 2
+                HLT 0""";
+    }
+
+    /**
+     * This method returns a program printing all prime numbers up to 97 using the sieve of Eratosthenes.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The memory cell {@code i} is set to 1 as soon as {@code i} is known to be composite. Memory cell 98 is used to
+     * print a number.
+     *
+     * @return The program
+     */
+    public static String sieve() {
+        int n = 97;
+        List<String> lines = new ArrayList<>();
+        lines.add("SET 100");
+
+        for (int p = 2; p * p <= n; p++) {
+            List<String> block = new ArrayList<>();
+            block.add("LDK 1");
+
+            for (int m = p * p; m <= n; m += p)
+                block.add("STA " + m);
+
+            lines.add("LDA " + p);
+            lines.add("JNE " + (lines.size() + block.size() + 2));
+            lines.addAll(block);
+        }
+
+        for (int i = 2; i <= n; i++) {
+            lines.add("LDA " + i);
+            lines.add("JNE " + (lines.size() + 5));
+            lines.add("LDK " + i);
+            lines.add("STA 98");
+            lines.add("OUT 98");
+        }
+
+        lines.add("HLT 0");
+        return String.join("\n", lines);
+    }
+
+    /**
+     * This method returns a program sorting 30 numbers in ascending order using bubble sort and printing them.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The numbers are stored in the memory cells 1 to 30 in a scrambled order. Memory cell 31 is used to swap two
+     * numbers.
+     *
+     * @return The program
+     */
+    public static String bubbleSort() {
+        int n = 30;
+        List<String> lines = new ArrayList<>();
+        lines.add("SET " + (n + 1));
+
+        for (int i = 1; i <= n; i++) {
+            lines.add("LDK " + (i * 17 % (n + 1)));
+            lines.add("STA " + i);
+        }
+
+        for (int pass = 0; pass < n - 1; pass++) {
+            for (int j = 1; j < n - pass; j++) {
+                lines.add("LDA " + (j + 1));
+                lines.add("SUB " + j);
+                lines.add("JGE " + (lines.size() + 8));
+                lines.add("LDA " + j);
+                lines.add("STA " + (n + 1));
+                lines.add("LDA " + (j + 1));
+                lines.add("STA " + j);
+                lines.add("LDA " + (n + 1));
+                lines.add("STA " + (j + 1));
+            }
+        }
+
+        for (int i = 1; i <= n; i++)
+            lines.add("OUT " + i);
+
+        lines.add("HLT 0");
+        return String.join("\n", lines);
+    }
+}
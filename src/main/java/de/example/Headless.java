@@ -0,0 +1,18 @@
+package de.example;
+
+import de.example.presentation.cli.HeadlessRunner;
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+
+/**
+ * This type is used as a launcher class to run programs from the command line. In contrast to {@code Main}, the
+ * JavaFX runtime is never started, so that programs can also be run on machines without a display.
+ */
+public class Headless {
+    public static void main(String[] args) {
+        PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)), false);
+        System.exit(new HeadlessRunner(System.in, out, System.err).run(args));
+    }
+}
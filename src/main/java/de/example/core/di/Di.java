@@ -2,7 +2,6 @@ package de.example.core.di;
 
 public class Di {
     public static final String MUTABLE_DATASOURCE = "0";
-    public static final String RAM_STRING_BUFFER = "1";
     public static final String RAM_DECODER = "2";
     public static final String REPOSITORY = "3";
     public static final String DELETE_USECASE = "4";
@@ -12,12 +11,28 @@ public class Di {
     public static final String STOP_USECASE = "8";
     public static final String MODEL = "9";
     public static final String MACHINE = "10";
-    public static final String OUTPUT_USECASE = "11";
     public static final String INPUT_USECASE = "12";
     public static final String CLOSE_USECASE = "13";
-    public static final String RUN_EXCHANGER = "14";
     public static final String PRINTER_THREAD = "15";
-    public static final String RUN_CYCLIC_BARRIER = "16";
     public static final String QUIT_CYCLIC_BARRIER = "17";
     public static final String FONT_CHECKER = "18";
+    public static final String RAM_COMPILER = "19";
+    public static final String RAM_BYTECODE_GENERATOR = "20";
+    public static final String EXECUTE_USECASE = "21";
+    public static final String BATCH_MACHINE = "22";
+    public static final String BATCH_USECASE = "23";
+    public static final String PAUSE_USECASE = "24";
+    public static final String RESUME_USECASE = "25";
+    public static final String STEP_USECASE = "26";
+    public static final String RUN_EVENT_QUEUE = "27";
+    public static final String OUTPUT_SCROLLBACK = "28";
+    public static final String OUTPUT_CONSOLE = "29";
+    public static final String RAM_DOCUMENT = "30";
+    public static final String EDIT_USECASE = "31";
+    public static final String TIER_UP_THRESHOLD = "32";
+    public static final String MEMORY_LIMIT = "33";
+    public static final String RAM_INPUT_QUEUE = "34";
+    public static final String LOOP_DETECTION = "35";
+    public static final String RUN_LIMITS = "36";
+    public static final String EVALUATION_LIMIT = "37";
 }
@@ -2,24 +2,31 @@ package de.example.core.di;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Singleton;
-import com.google.inject.TypeLiteral;
 import com.google.inject.name.Names;
 import de.example.core.FontChecker;
 import de.example.data.datasources.FileDatasource;
 import de.example.data.datasources.MutableDatasource;
 import de.example.data.repository.RepositoryImpl;
-import de.example.domain.entities.Buffer;
-import de.example.domain.entities.Status;
+import de.example.domain.entities.EventQueue;
+import de.example.domain.entities.InputQueue;
+import de.example.domain.entities.Limits;
+import de.example.domain.entities.machines.Compiler;
 import de.example.domain.entities.machines.Decoder;
 import de.example.domain.entities.machines.Machine;
+import de.example.domain.entities.machines.ram.CompiledRandomAccessMachine;
 import de.example.domain.entities.machines.ram.RandomAccessMachine;
+import de.example.domain.entities.machines.ram.RandomAccessMachineBytecodeGenerator;
+import de.example.domain.entities.machines.ram.RandomAccessMachineCompiler;
 import de.example.domain.entities.machines.ram.RandomAccessMachineDecoder;
+import de.example.domain.entities.machines.ram.RandomAccessMachineDocument;
+import de.example.domain.entities.machines.ram.RandomAccessMachineEvaluator;
 import de.example.domain.repository.Repository;
 import de.example.domain.usecases.*;
 import de.example.presentation.Model;
 import de.example.presentation.MessagePrinter;
+import de.example.presentation.OutputConsole;
+import java.time.Duration;
 import java.util.concurrent.CyclicBarrier;
-import java.util.concurrent.Exchanger;
 
 public class InterpreditModule extends AbstractModule {
     @Override
@@ -29,14 +36,27 @@ public class InterpreditModule extends AbstractModule {
                 .to(FileDatasource.class)
                 .in(Singleton.class);
 
-        bind(new TypeLiteral<Buffer<String>>(){})
-                .annotatedWith(Names.named(Di.RAM_STRING_BUFFER))
-                .to(new TypeLiteral<>(){});
+        bind(InputQueue.class)
+                .annotatedWith(Names.named(Di.RAM_INPUT_QUEUE))
+                .to(InputQueue.class);
 
         bind(Decoder.class)
                 .annotatedWith(Names.named(Di.RAM_DECODER))
                 .to(RandomAccessMachineDecoder.class);
 
+        bind(Compiler.class)
+                .annotatedWith(Names.named(Di.RAM_COMPILER))
+                .to(RandomAccessMachineCompiler.class);
+
+        bind(RandomAccessMachineDocument.class)
+                .annotatedWith(Names.named(Di.RAM_DOCUMENT))
+                .to(RandomAccessMachineDocument.class)
+                .in(Singleton.class);
+
+        bind(RandomAccessMachineBytecodeGenerator.class)
+                .annotatedWith(Names.named(Di.RAM_BYTECODE_GENERATOR))
+                .to(RandomAccessMachineBytecodeGenerator.class);
+
         bind(Repository.class)
                 .annotatedWith(Names.named(Di.REPOSITORY))
                 .to(RepositoryImpl.class)
@@ -54,6 +74,18 @@ public class InterpreditModule extends AbstractModule {
                 .annotatedWith(Names.named(Di.RUN_USECASE))
                 .to(RunUsecase.class);
 
+        bind(ExecuteUsecase.class)
+                .annotatedWith(Names.named(Di.EXECUTE_USECASE))
+                .to(ExecuteUsecase.class);
+
+        bind(BatchUsecase.class)
+                .annotatedWith(Names.named(Di.BATCH_USECASE))
+                .to(BatchUsecase.class);
+
+        bind(EditUsecase.class)
+                .annotatedWith(Names.named(Di.EDIT_USECASE))
+                .to(EditUsecase.class);
+
         bind(SaveUsecase.class)
                 .annotatedWith(Names.named(Di.SAVE_USECASE))
                 .to(SaveUsecase.class);
@@ -62,19 +94,64 @@ public class InterpreditModule extends AbstractModule {
                 .annotatedWith(Names.named(Di.STOP_USECASE))
                 .to(StopUsecase.class);
 
+        bind(PauseUsecase.class)
+                .annotatedWith(Names.named(Di.PAUSE_USECASE))
+                .to(PauseUsecase.class);
+
+        bind(ResumeUsecase.class)
+                .annotatedWith(Names.named(Di.RESUME_USECASE))
+                .to(ResumeUsecase.class);
+
+        bind(StepUsecase.class)
+                .annotatedWith(Names.named(Di.STEP_USECASE))
+                .to(StepUsecase.class);
+
+        bindConstant()
+                .annotatedWith(Names.named(Di.OUTPUT_SCROLLBACK))
+                .to(Integer.getInteger("interpredit.scrollback", 10_000));
+
+        bind(OutputConsole.class)
+                .annotatedWith(Names.named(Di.OUTPUT_CONSOLE))
+                .to(OutputConsole.class)
+                .in(Singleton.class);
+
         bind(Model.class)
                 .annotatedWith(Names.named(Di.MODEL))
                 .to(Model.class)
                 .in(Singleton.class);
 
+        bindConstant()
+                .annotatedWith(Names.named(Di.TIER_UP_THRESHOLD))
+                .to(Integer.getInteger("interpredit.tierUpThreshold",
+                                       CompiledRandomAccessMachine.DEFAULT_TIER_UP_THRESHOLD));
+
+        bindConstant()
+                .annotatedWith(Names.named(Di.LOOP_DETECTION))
+                .to(Boolean.getBoolean("interpredit.loopDetection"));
+
+        bind(Limits.class)
+                .annotatedWith(Names.named(Di.RUN_LIMITS))
+                .toInstance(new Limits(Long.getLong("interpredit.stepLimit", Limits.DEFAULT_STEP_LIMIT),
+                                       Duration.ofMillis(Long.getLong("interpredit.timeLimit",
+                                                                      Limits.DEFAULT_TIME_LIMIT)),
+                                       Long.getLong("interpredit.outputLimit", Limits.DEFAULT_OUTPUT_LIMIT)));
+
+        bindConstant()
+                .annotatedWith(Names.named(Di.MEMORY_LIMIT))
+                .to(Integer.getInteger("interpredit.memoryLimit", RandomAccessMachine.DEFAULT_MEMORY_LIMIT));
+
+        bindConstant()
+                .annotatedWith(Names.named(Di.EVALUATION_LIMIT))
+                .to(Long.getLong("interpredit.evaluationLimit", RandomAccessMachineEvaluator.DEFAULT_LIMIT));
+
         bind(Machine.class)
                 .annotatedWith(Names.named(Di.MACHINE))
-                .to(RandomAccessMachine.class)
+                .to(CompiledRandomAccessMachine.class)
                 .in(Singleton.class);
 
-        bind(OutputUsecase.class)
-                .annotatedWith(Names.named(Di.OUTPUT_USECASE))
-                .to(OutputUsecase.class);
+        bind(Machine.class)
+                .annotatedWith(Names.named(Di.BATCH_MACHINE))
+                .to(RandomAccessMachine.class);
 
         bind(InputUsecase.class)
                 .annotatedWith(Names.named(Di.INPUT_USECASE))
@@ -84,19 +161,14 @@ public class InterpreditModule extends AbstractModule {
                 .annotatedWith(Names.named(Di.CLOSE_USECASE))
                 .to(CloseUsecase.class);
 
-        bind(new TypeLiteral<Exchanger<Status>>(){})
-                .annotatedWith(Names.named(Di.RUN_EXCHANGER))
-                .to(new TypeLiteral<>(){})
-                .in(Singleton.class);
+        bind(EventQueue.class)
+                .annotatedWith(Names.named(Di.RUN_EVENT_QUEUE))
+                .toInstance(new EventQueue(4096));
 
         bind(MessagePrinter.class)
                 .annotatedWith(Names.named(Di.PRINTER_THREAD))
                 .to(MessagePrinter.class);
 
-        bind(CyclicBarrier.class)
-                .annotatedWith(Names.named(Di.RUN_CYCLIC_BARRIER))
-                .toInstance(new CyclicBarrier(2));
-
         bind(CyclicBarrier.class)
                 .annotatedWith(Names.named(Di.QUIT_CYCLIC_BARRIER))
                 .toInstance(new CyclicBarrier(2));
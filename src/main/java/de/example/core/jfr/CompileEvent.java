@@ -0,0 +1,28 @@
+package de.example.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This type is a flight recorder event covering the compilation of a program, which is decoding every line of it.
+ */
+@Name("de.example.Compile")
+@Label("Compile")
+@Category("Interpredit")
+@Description("Decoding and validation of every line of a program")
+@StackTrace(false)
+public class CompileEvent extends Event {
+
+    //: SECTION: - ATTRIBUTES
+
+    @Label("Lines")
+    public int lines;
+
+    @Label("Status")
+    @Description("OK if the program has been compiled, otherwise the reason why it has been rejected")
+    public String status;
+}
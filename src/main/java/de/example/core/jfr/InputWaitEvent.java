@@ -0,0 +1,25 @@
+package de.example.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This type is a flight recorder event covering the time an INP command waits for the user to enter an input.
+ */
+@Name("de.example.InputWait")
+@Label("Input Wait")
+@Category("Interpredit")
+@Description("Time an INP command waits for an input")
+@StackTrace(false)
+public class InputWaitEvent extends Event {
+
+    //: SECTION: - ATTRIBUTES
+
+    @Label("Memory Address")
+    @Description("Memory address the input is stored in")
+    public int address;
+}
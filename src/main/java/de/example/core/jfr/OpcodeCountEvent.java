@@ -0,0 +1,70 @@
+package de.example.core.jfr;
+
+import de.example.domain.entities.machines.ram.RandomAccessMachineOpcode;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This type is a flight recorder event containing the number of executed commands of a single opcode during a
+ * program execution.
+ *
+ * <br><br><b>Discussion</b><br>
+ * In contrast to the other events of Interpredit, this one is disabled even if a recording is started with the
+ * default settings, as counting the commands adds a little work to every executed command. It has to be enabled
+ * explicitly, e.g. with {@code jcmd <pid> JFR.start +de.example.OpcodeCount#enabled=true}. A machine only counts the
+ * commands if the event is enabled when the program is loaded.
+ */
+@Name("de.example.OpcodeCount")
+@Label("Opcode Count")
+@Category("Interpredit")
+@Description("Number of executed commands of a single opcode during a program execution")
+@StackTrace(false)
+@Enabled(false)
+public class OpcodeCountEvent extends Event {
+
+    //: SECTION: - ATTRIBUTES
+
+    private static final EventType TYPE = EventType.getEventType(OpcodeCountEvent.class);
+
+    @Label("Opcode")
+    public String opcode;
+
+    @Label("Count")
+    public long count;
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method checks whether this event is enabled in any running recording.
+     *
+     * @return {@code true} if the event is enabled, otherwise {@code false}
+     */
+    public static boolean isRecording() {
+        return TYPE.isEnabled();
+    }
+
+    /**
+     * This method commits one event for every opcode that has been executed at least once.
+     *
+     * @param counts The number of executed commands, indexed by the ordinal of their opcode
+     */
+    public static void commit(long[] counts) {
+        RandomAccessMachineOpcode[] opcodes = RandomAccessMachineOpcode.values();
+
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0)
+                continue;
+
+            OpcodeCountEvent event = new OpcodeCountEvent();
+            event.opcode = opcodes[i].name();
+            event.count = counts[i];
+            event.commit();
+        }
+    }
+}
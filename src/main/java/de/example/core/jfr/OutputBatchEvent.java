@@ -0,0 +1,34 @@
+package de.example.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This type is a flight recorder event covering the printing of a batch of events read from the event queue at once.
+ */
+@Name("de.example.OutputBatch")
+@Label("Output Batch")
+@Category("Interpredit")
+@Description("Events read from the event queue and printed at once")
+@StackTrace(false)
+public class OutputBatchEvent extends Event {
+
+    //: SECTION: - ATTRIBUTES
+
+    @Label("Events")
+    @Description("Number of events read from the event queue")
+    public int events;
+
+    @Label("Outputs")
+    @Description("Number of outputs among the events")
+    public int outputs;
+
+    @Label("Characters")
+    @DataAmount(DataAmount.BYTES)
+    public int characters;
+}
@@ -0,0 +1,42 @@
+package de.example.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This type is a flight recorder event covering a single program execution, from loading the program into the
+ * machine until its final status.
+ *
+ * <br><br><b>Discussion</b><br>
+ * The start time of the event is the start of the execution, its duration is the wall time of the execution. Like
+ * all events of Interpredit, it is only recorded if it is enabled, e.g. by starting a recording with
+ * {@code jcmd <pid> JFR.start}. Otherwise, creating and committing it costs next to nothing.
+ */
+@Name("de.example.ProgramRun")
+@Label("Program Run")
+@Category("Interpredit")
+@Description("Execution of a program from loading it until its final status")
+@StackTrace(false)
+public class ProgramRunEvent extends Event {
+
+    //: SECTION: - ATTRIBUTES
+
+    @Label("Program Hash")
+    @Description("Hash code of the compiled program, equal for programs consisting of the same commands")
+    public int programHash;
+
+    @Label("Lines")
+    public int lines;
+
+    @Label("Status")
+    @Description("Final status of the program")
+    public String status;
+
+    @Label("Instructions")
+    @Description("Number of commands executed by the machine")
+    public long instructions;
+}
@@ -0,0 +1,158 @@
+package de.example.domain.entities;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This type is a bounded queue of events, each one consisting of a status and an integer value, which is written by
+ * exactly one thread and read by exactly one other thread.
+ *
+ * <br><br><b>Discussion</b><br>
+ * In the context of Interpredit, the runner thread writes an event for every output of the program and for every
+ * status other than {@code OK}, whereas the printer thread reads all available events at once and prints them in a
+ * single batch. Thus, the runner thread does not have to wait for the printer thread after every output, but only if
+ * the queue is full.
+ * <br><br>
+ * The events are stored in two preallocated arrays which are used as a ring, so that writing an event does not
+ * allocate any memory. Since there is only one writing and one reading thread, no lock is required. The position of
+ * the next event to be written is only changed by the writing thread and the position of the next event to be read is
+ * only changed by the reading thread. A thread waiting for the queue to be (not) full or empty is parked and unparked
+ * by the other thread.
+ */
+public class EventQueue {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute stores the statuses of the events. */
+    private final Status[] statuses;
+
+    /**
+     * This attribute stores the values of the events, which is the output value for {@code OUTPUT} events and the line
+     * for errors found before the program is executed.
+     */
+    private final int[] values;
+
+    /** This attribute is used to map a position to an index of the arrays, as the capacity is a power of two. */
+    private final int mask;
+
+    /** This attribute stores the position of the next event to be read. */
+    private final AtomicLong head = new AtomicLong();
+
+    /** This attribute stores the position of the next event to be written. */
+    private final AtomicLong tail = new AtomicLong();
+
+    /** This attribute stores the reading thread while it waits for the queue not to be empty. */
+    private volatile Thread waitingReader;
+
+    /** This attribute stores the writing thread while it waits for the queue not to be full. */
+    private volatile Thread waitingWriter;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /**
+     * This constructor creates an empty queue which is able to store at least the given number of events.
+     *
+     * @param capacity The minimum number of events the queue is able to store, which is rounded up to a power of two
+     */
+    public EventQueue(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("capacity must be positive");
+
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity)
+            size <<= 1;
+
+        this.statuses = new Status[size];
+        this.values = new int[size];
+        this.mask = size - 1;
+    }
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method writes the given event to the queue.
+     *
+     * <br><br><b>Discussion</b><br>
+     * Note that this method is blocking, which means it blocks the writing thread as long as the queue is full. The
+     * time is only measured if the thread is actually blocked.
+     *
+     * @param status The status of the event
+     * @param value The value of the event
+     * @return The time in nanoseconds the writing thread has been blocked
+     */
+    public long put(Status status, int value) {
+        long tail = this.tail.get();
+        long waitTime = 0;
+
+        if (tail - this.head.get() > this.mask) {
+            long start = System.nanoTime();
+            this.waitingWriter = Thread.currentThread();
+
+            while (tail - this.head.get() > this.mask)
+                LockSupport.park(this);
+
+            this.waitingWriter = null;
+            waitTime = System.nanoTime() - start;
+        }
+
+        int index = (int) tail & this.mask;
+        this.statuses[index] = status;
+        this.values[index] = value;
+        this.tail.set(tail + 1);
+
+        Thread reader = this.waitingReader;
+        if (reader != null)
+            LockSupport.unpark(reader);
+
+        return waitTime;
+    }
+
+    /**
+     * This method reads as many events as available, but at most as many as fit into the given arrays.
+     *
+     * <br><br><b>Discussion</b><br>
+     * Note that this method is blocking, which means it blocks the reading thread as long as the queue is empty.
+     *
+     * @param statuses The array the statuses of the read events are stored in
+     * @param values The array the values of the read events are stored in, which must be as long as {@code statuses}
+     * @return The number of read events, which is at least 1
+     */
+    public int drain(Status[] statuses, int[] values) {
+        long head = this.head.get();
+
+        if (this.tail.get() == head) {
+            this.waitingReader = Thread.currentThread();
+
+            while (this.tail.get() == head)
+                LockSupport.park(this);
+
+            this.waitingReader = null;
+        }
+
+        int count = (int) Math.min(this.tail.get() - head, statuses.length);
+
+        for (int i = 0; i < count; i++) {
+            int index = (int) (head + i) & this.mask;
+            statuses[i] = this.statuses[index];
+            values[i] = this.values[index];
+            this.statuses[index] = null;
+        }
+
+        this.head.set(head + count);
+
+        Thread writer = this.waitingWriter;
+        if (writer != null)
+            LockSupport.unpark(writer);
+
+        return count;
+    }
+
+    /**
+     * This method checks whether the queue is empty or not.
+     *
+     * @return {@code true} if the queue is empty, otherwise {@code false}
+     */
+    public boolean isEmpty() {
+        return this.tail.get() == this.head.get();
+    }
+}
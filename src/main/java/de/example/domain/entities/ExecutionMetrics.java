@@ -0,0 +1,115 @@
+package de.example.domain.entities;
+
+/**
+ * This type measures a single program execution, which includes the elapsed time and the number of executed commands.
+ *
+ * <br><br><b>Discussion</b><br>
+ * All times are measured with {@code System.nanoTime()}. Besides the wall time between start and end, the time the
+ * program has been waiting for inputs and for the printer thread to take over outputs is measured, so that the time
+ * actually spent on executing the program can be calculated.
+ * <br><br>
+ * A new object is created for every program execution. It is only written by the runner thread and read by the
+ * printer thread after the final status has been passed through the event queue, which guarantees that the printer
+ * thread sees all written values. For this reason, no synchronization is required.
+ */
+public final class ExecutionMetrics {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute stores the time in nanoseconds at which the program execution has started. */
+    private long start;
+
+    /** This attribute stores the time in nanoseconds at which the program execution has ended. */
+    private long end;
+
+    /** This attribute stores the time in nanoseconds the program has been waiting for inputs. */
+    private long inputWaitTime;
+
+    /** This attribute stores the time in nanoseconds the program has been waiting to pass outputs. */
+    private long outputWaitTime;
+
+    /** This attribute stores the number of executed commands. */
+    private long instructions;
+
+    /** This attribute contains the number of executions of every line or {@code null}, if it has not been profiled. */
+    private long[] profile;
+
+    //: SECTION: - METHODS
+
+    /** This method starts the time measurement. */
+    public void start() {
+        this.start = System.nanoTime();
+        this.end = this.start;
+    }
+
+    /**
+     * This method adds the given time to the time the program has been waiting to pass an output.
+     *
+     * @param nanos The time in nanoseconds
+     */
+    public void addOutputWaitTime(long nanos) {
+        this.outputWaitTime += nanos;
+    }
+
+    /**
+     * This method ends the time measurement.
+     *
+     * @param instructions The number of commands executed by the machine
+     * @param inputWaitTime The time in nanoseconds the machine has been waiting for inputs
+     */
+    public void end(long instructions, long inputWaitTime) {
+        this.end = System.nanoTime();
+        this.instructions = instructions;
+        this.inputWaitTime = inputWaitTime;
+    }
+
+    /**
+     * This method sets the number of executions of every line of the program.
+     *
+     * @param profile The number of executions indexed by the line of code minus 1 or {@code null}, if the program has
+     *                not been profiled
+     */
+    public void setProfile(long[] profile) {
+        this.profile = profile;
+    }
+
+    /** This method returns the time in nanoseconds between start and end. */
+    public long getWallTime() {
+        return this.end - this.start;
+    }
+
+    /** This method returns the time in nanoseconds between start and end without waiting for inputs and outputs. */
+    public long getComputeTime() {
+        return Math.max(0, this.getWallTime() - this.inputWaitTime - this.outputWaitTime);
+    }
+
+    /** This method returns the time in nanoseconds the program has been waiting for inputs. */
+    public long getInputWaitTime() {
+        return this.inputWaitTime;
+    }
+
+    /** This method returns the time in nanoseconds the program has been waiting to pass outputs. */
+    public long getOutputWaitTime() {
+        return this.outputWaitTime;
+    }
+
+    /** This method returns the number of executed commands. */
+    public long getInstructions() {
+        return this.instructions;
+    }
+
+    /** This method returns the number of executions of every line or {@code null}, if the program was not profiled. */
+    public long[] getProfile() {
+        return this.profile;
+    }
+
+    /**
+     * This method returns the number of executed commands per second of compute time.
+     *
+     * @return The number of commands per second or 0, if no time has been measured
+     */
+    public double getInstructionsPerSecond() {
+        long computeTime = this.getComputeTime();
+        return computeTime == 0 ? 0 : this.instructions * 1e9 / computeTime;
+    }
+}
@@ -0,0 +1,180 @@
+package de.example.domain.entities;
+
+/**
+ * This type stores the inputs delivered to a machine in the order of their arrival and grants read and write access
+ * to them.
+ *
+ * <br><br><b>Discussion</b><br>
+ * Several inputs can be delivered at once, separated by whitespaces, e.g. a pasted list or the content of a file.
+ * Every input is parsed into an integer as soon as it arrives, so that reading an input neither parses it nor waits
+ * for another thread, as long as an input is available. An input that is not an integer is kept as an invalid input,
+ * which is read after all inputs delivered before it. Since the program fails when it reads the invalid input, all
+ * inputs delivered afterwards are dropped.
+ * <br><br>
+ * In the context of Interpredit, this class is a passive one, as its state is accessed from multiple threads. The
+ * runner thread reads the inputs to execute the INP command and restores the original state after a program
+ * execution. The main thread writes the entered inputs. For this reason, all methods that access the state are
+ * synchronized. The monitor here is the object itself.
+ */
+public class InputQueue {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This value is returned by {@code poll()} if the queue neither contains an input nor is closed. */
+    public static final long EMPTY = Long.MIN_VALUE;
+
+    /** This value is returned if the queue does not contain an input and is closed. */
+    public static final long CLOSED = Long.MIN_VALUE + 1;
+
+    /** This value is returned if the next input is not an integer. */
+    public static final long INVALID = Long.MIN_VALUE + 2;
+
+    /** This attribute contains the inputs in a ring, starting at {@code head}. */
+    private int[] values = new int[16];
+
+    /** This attribute stores the index of the next input. */
+    private int head = 0;
+
+    /** This attribute stores the number of inputs. */
+    private int size = 0;
+
+    /** This attribute stores whether an invalid input has been delivered after the stored inputs. */
+    private boolean isInvalid = false;
+
+    /** This attribute stores whether the queue is closed or not. */
+    private boolean isClosed = false;
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method parses the given inputs and appends them to the queue.
+     *
+     * <br><br><b>Discussion</b><br>
+     * In the context of Interpredit, this method is used to deliver inputs, which causes the program to continue if
+     * it has been waiting for an input from the user. A string without any input is regarded as an invalid input.
+     *
+     * @param inputs The inputs, which are separated by whitespaces
+     */
+    public synchronized void write(String inputs) {
+        int length = inputs.length();
+        int start = 0;
+        boolean written = false;
+
+        while (!this.isInvalid) {
+            while (start < length && Character.isWhitespace(inputs.charAt(start)))
+                start++;
+
+            if (start == length)
+                break;
+
+            int end = start;
+            while (end < length && !Character.isWhitespace(inputs.charAt(end)))
+                end++;
+
+            try {
+                this.append(Integer.parseInt(inputs, start, end, 10));
+            } catch (NumberFormatException e) {
+                this.isInvalid = true;
+            }
+
+            written = true;
+            start = end;
+        }
+
+        if (!written)
+            this.isInvalid = true;
+
+        this.notify();
+    }
+
+    /**
+     * This method appends the given input to the queue, which is enlarged if it is full.
+     *
+     * @param value The input to be appended
+     */
+    private void append(int value) {
+        if (this.size == this.values.length) {
+            int[] values = new int[this.size * 2];
+
+            for (int i = 0; i < this.size; i++)
+                values[i] = this.values[(this.head + i) % this.size];
+
+            this.values = values;
+            this.head = 0;
+        }
+
+        this.values[(this.head + this.size) % this.values.length] = value;
+        this.size++;
+    }
+
+    /**
+     * This method removes the next input from the queue and returns it without waiting for it.
+     *
+     * @return The next input, {@code INVALID}, if the next input is not an integer, {@code CLOSED}, if there is no
+     *         input and the queue is closed, otherwise {@code EMPTY}
+     */
+    public synchronized long poll() {
+        if (this.size > 0) {
+            int value = this.values[this.head];
+            this.head = (this.head + 1) % this.values.length;
+            this.size--;
+            return value;
+        }
+
+        if (this.isInvalid)
+            return INVALID;
+
+        return this.isClosed ? CLOSED : EMPTY;
+    }
+
+    /**
+     * This method removes the next input from the queue and returns it.
+     *
+     * <br><br><b>Discussion</b><br>
+     * Note that this method is blocking, which means it blocks the corresponding thread as long as the queue is
+     * empty. It only continues when an input has been delivered or the queue has been closed.
+     * <br><br>
+     * In the context of Interpredit, the blocking mechanism is used to await an input from the user.
+     *
+     * @return The next input, {@code INVALID}, if the next input is not an integer, or {@code CLOSED}, if there is no
+     *         input and the queue is closed
+     */
+    public synchronized long read() throws InterruptedException {
+        long value;
+
+        while ((value = this.poll()) == EMPTY)
+            this.wait();
+
+        return value;
+    }
+
+    /**
+     * This method closes the queue, so that reading from an empty queue does not wait anymore.
+     *
+     * <br><br><b>Discussion</b><br>
+     * In the context of Interpredit, this method is used to close the queue and cause the program to continue if
+     * it has been waiting for input from the user.
+     */
+    public synchronized void close() {
+        this.isClosed = true;
+        this.notify();
+    }
+
+    /**
+     * This method checks whether the queue is empty, which means that reading from it would wait.
+     *
+     * @return {@code true} if the queue neither contains an input nor an invalid input and is not closed, otherwise
+     *         {@code false}
+     */
+    public synchronized boolean isEmpty() {
+        return this.size == 0 && !this.isInvalid && !this.isClosed;
+    }
+
+    /** This method resets the queue, which is clearing and opening it. */
+    public synchronized void reset() {
+        this.head = 0;
+        this.size = 0;
+        this.isInvalid = false;
+        this.isClosed = false;
+    }
+}
@@ -0,0 +1,88 @@
+package de.example.domain.entities;
+
+import java.time.Duration;
+
+/**
+ * This type represents the limits a single program execution must not exceed.
+ *
+ * <br><br><b>Discussion</b><br>
+ * The number of executed commands and the number of outputs are limited by the machine itself, whereas the time limit
+ * is enforced by a {@code Watchdog} interrupting the machine. A program exceeding a limit is stopped with
+ * {@code STEP_LIMIT_ERROR}, {@code TIME_LIMIT_ERROR} or {@code OUTPUT_LIMIT_ERROR} respectively.
+ */
+public final class Limits {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute represents a program execution without any limit. */
+    public static final Limits NONE = new Limits(Long.MAX_VALUE, null, Long.MAX_VALUE);
+
+    /** This attribute stores the default maximum number of commands a program is allowed to execute. */
+    public static final long DEFAULT_STEP_LIMIT = 1_000_000_000L;
+
+    /** This attribute stores the default maximum time in milliseconds a program is allowed to run. */
+    public static final long DEFAULT_TIME_LIMIT = 60_000L;
+
+    /** This attribute stores the default maximum number of values a program is allowed to output. */
+    public static final long DEFAULT_OUTPUT_LIMIT = 100_000L;
+
+    /** This attribute stores the maximum number of commands a program is allowed to execute. */
+    private final long steps;
+
+    /** This attribute stores the maximum time a program is allowed to run or {@code null}, if there is none. */
+    private final Duration time;
+
+    /** This attribute stores the maximum number of values a program is allowed to output. */
+    private final long outputs;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /**
+     * This constructor creates new limits.
+     *
+     * @param steps The maximum number of commands, where {@code Long.MAX_VALUE} means that there is no limit
+     * @param time The maximum time or {@code null}, if there is no time limit
+     * @param outputs The maximum number of outputs, where {@code Long.MAX_VALUE} means that there is no limit
+     */
+    public Limits(long steps, Duration time, long outputs) {
+        if (steps < 0 || outputs < 0)
+            throw new IllegalArgumentException("limits must not be negative");
+
+        if (time != null && time.isNegative())
+            throw new IllegalArgumentException("time must not be negative");
+
+        this.steps = steps;
+        this.time = time;
+        this.outputs = outputs;
+    }
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method returns the maximum number of commands a program is allowed to execute.
+     *
+     * @return The maximum number of commands, where {@code Long.MAX_VALUE} means that there is no limit
+     */
+    public long getSteps() {
+        return this.steps;
+    }
+
+    /**
+     * This method returns the maximum time a program is allowed to run, excluding the time it waits for inputs or is
+     * paused.
+     *
+     * @return The maximum time or {@code null}, if there is no time limit
+     */
+    public Duration getTime() {
+        return this.time;
+    }
+
+    /**
+     * This method returns the maximum number of values a program is allowed to output.
+     *
+     * @return The maximum number of outputs, where {@code Long.MAX_VALUE} means that there is no limit
+     */
+    public long getOutputs() {
+        return this.outputs;
+    }
+}
@@ -11,7 +11,10 @@ public enum Status {
      */
     OK,
 
-    /** This status indicates that the buffer contains a value to be printed and is only returned by the OUT command. */
+    /**
+     * This status indicates that a value has to be printed. It is not returned by any command, but used for the
+     * events passed from the runner thread to the printer thread.
+     */
     OUTPUT,
 
     /** This status indicates that the program is waiting for user input and is only returned by the INP command. */
@@ -19,7 +22,8 @@ public enum Status {
 
     /**
      * This status indicates that the memory has been initialized with an invalid number of fields. Invalid means
-     * either negative or more than 100. It is only used by the SET command.
+     * either negative or more than the memory limit, which is 100 by default. It is only used by the SET
+     * command.
      */
     SET_ERROR,
 
@@ -31,8 +35,8 @@ public enum Status {
 
     /**
      * This status indicates that the program contains an invalid command. Invalid commands are those that do not
-     * appear as a method of the random access machine and therefore cannot be called using reflection. The only
-     * exception here is the HOP command, which is also classified as invalid if it is user-generated.
+     * appear as an opcode of the random access machine and therefore cannot be dispatched. The only exception here is
+     * the HOP command, which is also classified as invalid if it is user-generated.
      */
     COMMAND_ERROR,
 
@@ -42,6 +46,12 @@ public enum Status {
      */
     DECODE_ERROR,
 
+    /**
+     * This status indicates that the program counter has left the program, which happens if the program does not have
+     * an HLT command at the end or if a jump command is used to jump out of the program.
+     */
+    PROGRAM_ADDRESS_ERROR,
+
     /** This status indicates that the program contains a division by zero. */
     DIVISION_BY_ZERO_ERROR,
 
@@ -51,6 +61,31 @@ public enum Status {
      */
     INPUT_ERROR,
 
+    /**
+     * This status indicates that the program has executed the maximum number of commands it is allowed to execute
+     * and is returned by the machine instead of executing the next command.
+     */
+    STEP_LIMIT_ERROR,
+
+    /**
+     * This status indicates that the program has been running longer than it is allowed to and is reported instead of
+     * {@code FINISH_FAILURE} if the machine has been interrupted for this reason.
+     */
+    TIME_LIMIT_ERROR,
+
+    /**
+     * This status indicates that the program has output the maximum number of values it is allowed to output and is
+     * returned by the machine instead of executing the next OUT command.
+     */
+    OUTPUT_LIMIT_ERROR,
+
+    /**
+     * This status indicates that the program has reached a state of the machine it has already been in without
+     * reading an input in between, which means that it runs forever. It is only returned if the machine detects
+     * infinite loops.
+     */
+    INFINITE_LOOP_ERROR,
+
     /** This status indicates that the program has been finished successfully and is returned by the HLT command. */
     FINISH_SUCCESS,
 
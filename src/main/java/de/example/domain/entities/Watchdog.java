@@ -0,0 +1,139 @@
+package de.example.domain.entities;
+
+import de.example.domain.entities.machines.Machine;
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This type interrupts a machine as soon as the program executed on it has been running longer than it is allowed to.
+ *
+ * <br><br><b>Discussion</b><br>
+ * All watchdogs share a single daemon thread, which only wakes up when a time limit expires. Thus, the program
+ * execution itself is not slowed down at all, since the machine checks whether it has been interrupted at every
+ * backward jump anyway.
+ * <br><br>
+ * An interrupted machine is not able to tell why it has been interrupted. For this reason, the watchdog records
+ * whether it has interrupted the machine, so that the final status {@code FINISH_FAILURE} can be reported as
+ * {@code TIME_LIMIT_ERROR} instead. The interruption and the cancellation are mutually exclusive, so that the machine
+ * is never interrupted after the watchdog has been cancelled, e.g. right after the machine has been reset for the
+ * next program.
+ * <br><br>
+ * The time limit only applies to the time the program is actually executed. The machine suspends the watchdog while
+ * it waits for an input or is paused by the user, so that the remaining time is kept until the watchdog is resumed.
+ */
+public final class Watchdog {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute is used to interrupt the machines whose time limit has expired. */
+    private static final ScheduledThreadPoolExecutor TIMER = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "interpredit-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        // Programs usually finish in time, so that their timeouts are cancelled and must not pile up in the queue.
+        TIMER.setRemoveOnCancelPolicy(true);
+    }
+
+    /** This attribute stores whether the time limit has expired and the machine has been interrupted. */
+    private boolean expired = false;
+
+    /** This attribute stores whether the watchdog has been cancelled. */
+    private boolean cancelled = false;
+
+    /** This attribute stores the machine executing the program. */
+    private final Machine machine;
+
+    /**
+     * This attribute stores the time in nanoseconds at which the time limit expires or the remaining time, while the
+     * watchdog is suspended.
+     */
+    private long deadline;
+
+    /** This attribute stores whether the watchdog has been suspended. */
+    private boolean suspended = false;
+
+    /** This attribute contains the scheduled interruption or {@code null}, if there is no time limit. */
+    private ScheduledFuture<?> timeout;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /**
+     * This constructor creates a new watchdog, which interrupts the given machine after the given time.
+     *
+     * @param machine The machine executing the program
+     * @param limit The maximum time the program is allowed to run or {@code null}, if there is no time limit
+     */
+    public Watchdog(Machine machine, Duration limit) {
+        this.machine = machine;
+        this.deadline = limit == null ? 0 : System.nanoTime() + limit.toNanos();
+        this.timeout = limit == null ? null : this.schedule(limit.toNanos());
+    }
+
+    //: SECTION: - METHODS
+
+    /** This method schedules the interruption of the machine after the given number of nanoseconds. */
+    private ScheduledFuture<?> schedule(long delay) {
+        return TIMER.schedule(this::expire, delay, TimeUnit.NANOSECONDS);
+    }
+
+    /** This method interrupts the machine, unless the watchdog has already been cancelled or suspended. */
+    private synchronized void expire() {
+        if (this.cancelled || this.suspended)
+            return;
+
+        this.expired = true;
+        this.machine.interrupt();
+    }
+
+    /**
+     * This method stops the time running out, which has to be done as soon as the machine waits for the user.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The remaining time is kept until the watchdog is resumed. Suspending a watchdog without any time limit, or one
+     * that has already expired, been cancelled or suspended, does not have any effect.
+     */
+    public synchronized void suspend() {
+        if (this.timeout == null || this.cancelled || this.expired || this.suspended)
+            return;
+
+        this.suspended = true;
+        this.timeout.cancel(false);
+        this.deadline = Math.max(this.deadline - System.nanoTime(), 0);
+    }
+
+    /** This method lets the remaining time of the suspended watchdog run out again. */
+    public synchronized void resume() {
+        if (!this.suspended || this.cancelled)
+            return;
+
+        this.suspended = false;
+        this.timeout = this.schedule(this.deadline);
+        this.deadline += System.nanoTime();
+    }
+
+    /**
+     * This method cancels the interruption, which has to be done as soon as the program has ended and before the
+     * machine is reset.
+     */
+    public synchronized void cancel() {
+        this.cancelled = true;
+
+        if (this.timeout != null)
+            this.timeout.cancel(false);
+    }
+
+    /**
+     * This method checks whether the time limit has expired, which means that the machine has been interrupted by this
+     * watchdog.
+     *
+     * @return {@code true} if the time limit has expired, otherwise {@code false}
+     */
+    public synchronized boolean hasExpired() {
+        return this.expired;
+    }
+}
@@ -0,0 +1,42 @@
+package de.example.domain.entities.batch;
+
+import java.util.List;
+import java.util.Objects;
+
+/** This type represents a single program execution of a batch, which is one program together with its inputs. */
+public final class BatchJob {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute stores the name of the job, e.g. the path of the program file. */
+    private final String name;
+
+    /** This attribute stores the program, whose lines are separated by the {@code \n} character. */
+    private final String program;
+
+    /** This attribute stores the inputs which are delivered to the program in the given order. */
+    private final List<String> inputs;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /** This constructor creates a new job for the given program and inputs. */
+    public BatchJob(String name, String program, List<String> inputs) {
+        this.name = Objects.requireNonNull(name);
+        this.program = Objects.requireNonNull(program);
+        this.inputs = List.copyOf(inputs);
+    }
+
+    //: SECTION: - METHODS
+
+    public String getName() {
+        return this.name;
+    }
+
+    public String getProgram() {
+        return this.program;
+    }
+
+    public List<String> getInputs() {
+        return this.inputs;
+    }
+}
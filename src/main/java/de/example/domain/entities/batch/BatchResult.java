@@ -0,0 +1,72 @@
+package de.example.domain.entities.batch;
+
+import de.example.domain.entities.Status;
+import java.util.List;
+import java.util.Objects;
+
+/** This type represents the result of a single job of a batch. */
+public final class BatchResult {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute stores the job this result belongs to. */
+    private final BatchJob job;
+
+    /** This attribute stores the final status of the program. */
+    private final Status status;
+
+    /** This attribute stores all outputs of the program in the order in which they were made. */
+    private final List<String> outputs;
+
+    /** This attribute stores the number of commands the program has executed. */
+    private final long steps;
+
+    /** This attribute stores the time in nanoseconds the program has been executed or its result has been looked up. */
+    private final long duration;
+
+    /** This attribute stores whether the result has been taken from a cache instead of executing the program. */
+    private final boolean cached;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /** This constructor creates a new result of the given job. */
+    public BatchResult(BatchJob job, Status status, List<String> outputs, long steps, long duration, boolean cached) {
+        this.job = Objects.requireNonNull(job);
+        this.status = Objects.requireNonNull(status);
+        this.outputs = List.copyOf(outputs);
+        this.steps = steps;
+        this.duration = duration;
+        this.cached = cached;
+    }
+
+    /** This constructor creates a new result of the given job, which has been executed. */
+    public BatchResult(BatchJob job, Status status, List<String> outputs, long steps, long duration) {
+        this(job, status, outputs, steps, duration, false);
+    }
+
+    //: SECTION: - METHODS
+
+    public BatchJob getJob() {
+        return this.job;
+    }
+
+    public Status getStatus() {
+        return this.status;
+    }
+
+    public List<String> getOutputs() {
+        return this.outputs;
+    }
+
+    public long getSteps() {
+        return this.steps;
+    }
+
+    public long getDuration() {
+        return this.duration;
+    }
+
+    public boolean isCached() {
+        return this.cached;
+    }
+}
@@ -0,0 +1,238 @@
+package de.example.domain.entities.batch;
+
+import de.example.domain.entities.Limits;
+import de.example.domain.entities.Status;
+import de.example.domain.entities.machines.Program;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This type stores the results of program executions, so that a program executed again with the same inputs does not
+ * have to be executed at all.
+ *
+ * <br><br><b>Discussion</b><br>
+ * A result is identified by a SHA-256 hash of the compiled program, the inputs, the limits and the configuration of
+ * the machine, e.g. whether it detects infinite loops. Since the commands of the compiled program are hashed instead of
+ * its source, programs which only differ in their comments, whitespaces or case share their results.
+ * <br><br>
+ * The most recently used results are kept in memory, whereas the least recently used one is evicted as soon as the
+ * capacity is exceeded. Optionally, every result is additionally stored in a directory, one file per key, so that the
+ * results survive the process, e.g. when a batch is graded again. A file is written to a temporary file first and
+ * moved afterwards, so that a concurrent reader never sees a partially written result.
+ * <br><br>
+ * Only deterministic results must be stored. A program interrupted due to its time limit or by the user may finish
+ * differently when it is executed again.
+ */
+public final class ResultCache {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute stores the default maximum number of results kept in memory. */
+    public static final int DEFAULT_CAPACITY = 10_000;
+
+    /** This type represents a cached result, which is everything a program execution yields apart from its duration. */
+    public static final class Entry {
+
+        /** This attribute stores the final status of the program. */
+        private final Status status;
+
+        /** This attribute stores all outputs of the program in the order in which they were made. */
+        private final List<String> outputs;
+
+        /** This attribute stores the number of commands the program has executed. */
+        private final long steps;
+
+        /** This constructor creates a new cached result. */
+        public Entry(Status status, List<String> outputs, long steps) {
+            this.status = Objects.requireNonNull(status);
+            this.outputs = List.copyOf(outputs);
+            this.steps = steps;
+        }
+
+        public Status getStatus() {
+            return this.status;
+        }
+
+        public List<String> getOutputs() {
+            return this.outputs;
+        }
+
+        public long getSteps() {
+            return this.steps;
+        }
+    }
+
+    /** This attribute contains the results kept in memory in the order in which they have been used. */
+    private final Map<String, Entry> entries;
+
+    /** This attribute stores the directory the results are stored in or {@code null}, if they are only kept in memory. */
+    private final Path directory;
+
+    /** This attribute stores the configuration of the machine, which is part of every key. */
+    private final String configuration;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /**
+     * This constructor creates a new cache.
+     *
+     * @param capacity The maximum number of results kept in memory
+     * @param directory The directory the results are stored in or {@code null}, if they are only kept in memory
+     * @param configuration The configuration of the machine the programs are executed on, whose results must not be
+     *                      mixed up with those of a differently configured machine
+     */
+    public ResultCache(int capacity, Path directory, String configuration) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("capacity must be positive");
+
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return this.size() > capacity;
+            }
+        };
+        this.directory = directory;
+        this.configuration = Objects.requireNonNull(configuration);
+    }
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method determines the key of the execution of the given program with the given inputs.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The time limit is not part of the key, since a result exceeding it is not cached and every other result is the
+     * same for every time limit.
+     *
+     * @param program The compiled program
+     * @param inputs The inputs which are delivered to the program in the given order
+     * @param limits The limits of the program execution
+     * @return The hexadecimal SHA-256 hash identifying the result
+     */
+    public String key(Program program, List<String> inputs, Limits limits) {
+        StringBuilder text = new StringBuilder(this.configuration).append('\n')
+                .append(limits.getSteps()).append(' ').append(limits.getOutputs()).append('\n');
+
+        for (int i = 0; i < program.size(); i++)
+            text.append(program.get(i)).append('\n');
+
+        // Commands never contain the separator, so that the inputs cannot be confused with further commands.
+        text.append('\0').append(String.join(" ", inputs));
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // Every implementation of the Java platform is required to support SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * This method returns the result of the given key, which is looked up in the directory if it is not kept in
+     * memory.
+     *
+     * @param key The key of the result
+     * @return The result or {@code null}, if there is none or it could not be read
+     */
+    public Entry get(String key) {
+        synchronized (this.entries) {
+            Entry entry = this.entries.get(key);
+            if (entry != null || this.directory == null)
+                return entry;
+        }
+
+        Entry entry = this.read(key);
+
+        if (entry != null) {
+            synchronized (this.entries) {
+                this.entries.put(key, entry);
+            }
+        }
+
+        return entry;
+    }
+
+    /**
+     * This method stores the given result, which is also written to the directory if there is one.
+     *
+     * @param key The key of the result
+     * @param entry The result, which must be deterministic
+     */
+    public void put(String key, Entry entry) {
+        synchronized (this.entries) {
+            this.entries.put(key, Objects.requireNonNull(entry));
+        }
+
+        if (this.directory != null)
+            this.write(key, entry);
+    }
+
+    /**
+     * This method reads the result of the given key from the directory.
+     *
+     * <br><br><b>Discussion</b><br>
+     * A file contains the status, the number of executed commands and the outputs separated by spaces, each in a line of
+     * its own.
+     *
+     * @param key The key of the result
+     * @return The result or {@code null}, if there is no such file or it is invalid
+     */
+    private Entry read(String key) {
+        Path file = this.directory.resolve(key);
+
+        if (!Files.isRegularFile(file))
+            return null;
+
+        try {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+
+            if (lines.size() != 3)
+                return null;
+
+            String outputs = lines.get(2);
+            return new Entry(Status.valueOf(lines.get(0)),
+                             outputs.isEmpty() ? List.of() : Arrays.asList(outputs.split(" ")),
+                             Long.parseLong(lines.get(1)));
+        } catch (IOException | IllegalArgumentException _) {
+            return null;
+        }
+    }
+
+    /**
+     * This method writes the given result to the directory. A result that cannot be written is only kept in memory.
+     *
+     * @param key The key of the result
+     * @param entry The result
+     */
+    private void write(String key, Entry entry) {
+        String text = entry.getStatus().name() + "\n" + entry.getSteps() + "\n" + String.join(" ", entry.getOutputs()) +
+                      "\n";
+
+        Path temporary = null;
+
+        try {
+            Files.createDirectories(this.directory);
+            temporary = Files.createTempFile(this.directory, key, ".tmp");
+            Files.writeString(temporary, text, StandardCharsets.UTF_8);
+            Files.move(temporary, this.directory.resolve(key),
+                       StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException _) {
+            try {
+                if (temporary != null)
+                    Files.deleteIfExists(temporary);
+            } catch (IOException _) {}
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package de.example.domain.entities.machines;
+
+import de.example.domain.entities.Status;
+import io.vavr.control.Either;
+import java.util.List;
+
+/** A type that compiles a program. */
+public interface Compiler {
+    Either<Status, Program> compile(String program);
+
+    /**
+     * This method finds all problems of the given program without compiling it.
+     *
+     * @param program The program to be validated
+     * @return The problems in ascending order of their lines or an empty list, if the program does not have any
+     *         problem
+     */
+    List<Problem> validate(String program);
+}
@@ -3,4 +3,20 @@ package de.example.domain.entities.machines;
 /** A type that decodes a string. */
 public interface Decoder {
     Command decode(String command);
+
+    /**
+     * This method decodes the command located between the given indices of the given string.
+     *
+     * <br><br><b>Discussion</b><br>
+     * It enables decoding the lines of a program without copying every line into a string of its own. By default, the
+     * command is copied and decoded with {@code decode(String)}.
+     *
+     * @param text The string containing the command
+     * @param begin The index of the first character of the command
+     * @param end The index after the last character of the command
+     * @return The decoded command or {@code null}, if the command could not be decoded successfully
+     */
+    default Command decode(String text, int begin, int end) {
+        return this.decode(text.substring(begin, end));
+    }
 }
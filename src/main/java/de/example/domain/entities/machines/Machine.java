@@ -1,29 +1,38 @@
 package de.example.domain.entities.machines;
 
 import de.example.domain.entities.Status;
+import de.example.domain.entities.Watchdog;
+import java.util.function.IntConsumer;
 
 /**
  * A type that defines the basic functions of a machine.
  *
  * <br><br><b>Discussion</b><br>
  * In the context of Interpredit, this class is a passive one, as its state is accessed from multiple threads. The
- * runner thread uses the method {@code isInterrupt()} and thus uses the state. The main thread uses the method
- * {@code interrupt()} if the user deliberately interrupts the program execution by clicking on the corresponding
- * menu item. This also accesses the state. For this reason, all methods that access the {@code interrupted}
- * attribute are synchronized. The monitor here is the object itself.
+ * runner thread reads the state while it executes the program. The main thread changes the state if the user
+ * interrupts, pauses, resumes or steps the program execution by clicking on the corresponding menu item.
+ * <br><br>
+ * The state is stored in a volatile attribute, so that the runner thread can read it without acquiring the monitor.
+ * This is crucial, as the state is read on the hot path of the program execution. Only the methods changing the state
+ * are synchronized, since the runner thread waits on the monitor, which is the object itself, while the machine is
+ * paused.
  */
 public abstract class Machine {
 
     //: SECTION: - ATTRIBUTES
 
-    /** This attribute stores whether the machine is interrupted or not. */
-    private boolean interrupted = false;
+    /** This attribute stores the state the machine is currently controlled with. */
+    private volatile MachineState state = MachineState.RUNNING;
+
+    /** This attribute stores the watchdog enforcing the time limit of the program or {@code null}, if there is none. */
+    private volatile Watchdog watchdog;
 
     //: SECTION: - METHODS
 
     /** This method interrupts the machine. */
     public synchronized void interrupt() {
-        this.interrupted = true;
+        this.state = MachineState.INTERRUPTED;
+        this.notifyAll();
     }
 
     /**
@@ -31,17 +40,141 @@ public abstract class Machine {
      *
      * @return {@code true} if the machine is interrupted, otherwise {@code false}
      */
-    public synchronized boolean isInterrupt() {
-        return this.interrupted;
+    public boolean isInterrupt() {
+        return this.state == MachineState.INTERRUPTED;
+    }
+
+    /**
+     * This method checks whether the machine executes the program without any restriction.
+     *
+     * <br><br><b>Discussion</b><br>
+     * Execution engines call this method at every backward jump and only call {@code proceed()} if it returns
+     * {@code false}. Thus, the running program is only slowed down by a single volatile read per loop iteration.
+     *
+     * @return {@code true} if the machine is neither paused, stepping nor interrupted, otherwise {@code false}
+     */
+    public boolean isRunning() {
+        return this.state == MachineState.RUNNING;
+    }
+
+    /**
+     * This method pauses the machine, which causes the runner thread to wait before the next command is executed.
+     *
+     * @return {@code true} if the machine has been running, otherwise {@code false}
+     */
+    public synchronized boolean pause() {
+        if (this.state != MachineState.RUNNING)
+            return false;
+
+        this.state = MachineState.PAUSED;
+        return true;
+    }
+
+    /**
+     * This method resumes the paused machine, which causes the runner thread to continue the program execution.
+     *
+     * @return {@code true} if the machine has been paused, otherwise {@code false}
+     */
+    public synchronized boolean resume() {
+        if (this.state != MachineState.PAUSED && this.state != MachineState.STEPPING)
+            return false;
+
+        this.state = MachineState.RUNNING;
+        this.notifyAll();
+        return true;
+    }
+
+    /**
+     * This method causes the paused machine to execute exactly one command before it is paused again.
+     *
+     * @return {@code true} if the machine has been paused, otherwise {@code false}
+     */
+    public synchronized boolean step() {
+        if (this.state != MachineState.PAUSED)
+            return false;
+
+        this.state = MachineState.STEPPING;
+        this.notifyAll();
+        return true;
+    }
+
+    /**
+     * This method is called by the runner thread before the next command is executed if the machine is not running.
+     *
+     * <br><br><b>Discussion</b><br>
+     * Note that this method is blocking, which means it blocks the runner thread as long as the machine is paused.
+     * If the machine is stepping, it is paused again, so that exactly one command is executed.
+     *
+     * @return {@code true} if the next command may be executed, otherwise {@code false}, which is the case if the
+     *         machine has been interrupted
+     */
+    protected synchronized boolean proceed() {
+        boolean paused = this.state == MachineState.PAUSED;
+
+        // The time the user takes to resume or step the program does not count towards its time limit.
+        if (paused)
+            this.suspendWatchdog();
+
+        try {
+            while (this.state == MachineState.PAUSED)
+                this.wait();
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            if (paused)
+                this.resumeWatchdog();
+        }
+
+        if (this.state == MachineState.STEPPING)
+            this.state = MachineState.PAUSED;
+
+        return this.state != MachineState.INTERRUPTED;
+    }
+
+    /**
+     * This method sets the watchdog enforcing the time limit of the program, which is suspended while the machine
+     * waits for the user.
+     *
+     * @param watchdog The watchdog or {@code null}, if there is no time limit
+     */
+    public void setWatchdog(Watchdog watchdog) {
+        this.watchdog = watchdog;
+    }
+
+    /** This method suspends the watchdog, if there is one, before the machine starts waiting for the user. */
+    protected void suspendWatchdog() {
+        Watchdog watchdog = this.watchdog;
+
+        if (watchdog != null)
+            watchdog.suspend();
+    }
+
+    /** This method resumes the watchdog, if there is one, after the machine has been waiting for the user. */
+    protected void resumeWatchdog() {
+        Watchdog watchdog = this.watchdog;
+
+        if (watchdog != null)
+            watchdog.resume();
     }
 
-    /** This method resets the machine, which is restoring the uninterrupted state. */
+    /** This method resets the machine, which is restoring the running state and removing the watchdog. */
     public synchronized void reset() {
-        interrupted = false;
+        this.state = MachineState.RUNNING;
+        this.watchdog = null;
     }
 
     public abstract int getPc();
+    public abstract long getSteps();
+    public abstract long getInputWaitTime();
+    public abstract long[] getProfile();
+    public abstract void setProfiling(boolean profiling);
+    public abstract void setLoopDetection(boolean detecting);
+    public abstract void setOutputLimit(long limit);
+    public abstract void load(Program program);
+    public abstract Status run();
+    public abstract Status run(long limit);
     public abstract Status run(String cmd);
-    public abstract String requestOutput();
+    public abstract void setOutput(IntConsumer output);
     public abstract boolean deliverInput(String input);
 }
@@ -0,0 +1,16 @@
+package de.example.domain.entities.machines;
+
+/** This enumeration contains all states a machine can be controlled with during program execution. */
+public enum MachineState {
+    /** This state indicates that the machine executes the program without any restriction. */
+    RUNNING,
+
+    /** This state indicates that the machine waits before executing the next command until it is resumed or stepped. */
+    PAUSED,
+
+    /** This state indicates that the machine executes exactly one command before it is paused again. */
+    STEPPING,
+
+    /** This state indicates that the machine has been interrupted and must not execute any further command. */
+    INTERRUPTED
+}
@@ -0,0 +1,76 @@
+package de.example.domain.entities.machines;
+
+import de.example.domain.entities.Status;
+import java.util.Objects;
+
+/**
+ * This type represents a problem found in a line of a program before the program is executed.
+ *
+ * <br><br><b>Discussion</b><br>
+ * The status of a problem is the same one the machine would return when executing the line, e.g. {@code
+ * MEMORY_ADDRESS_ERROR} for a command accessing a memory address that is never accessible.
+ */
+public final class Problem {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute contains the line of the program the problem has been found in, starting from 1. */
+    private final int line;
+
+    /** This attribute contains the status describing the problem. */
+    private final Status status;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /**
+     * This constructor creates a new problem.
+     *
+     * @param line The line of the program the problem has been found in, starting from 1
+     * @param status The status describing the problem
+     */
+    public Problem(int line, Status status) {
+        this.line = line;
+        this.status = Objects.requireNonNull(status);
+    }
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method returns the line of the program the problem has been found in.
+     *
+     * @return The line, starting from 1
+     */
+    public int getLine() {
+        return this.line;
+    }
+
+    /**
+     * This method returns the status describing the problem.
+     *
+     * @return The status
+     */
+    public Status getStatus() {
+        return this.status;
+    }
+
+    /**
+     * This method checks whether the given object is a problem found in the same line with the same status.
+     *
+     * @param o The object to be compared
+     * @return {@code true} if the given object is an equal problem, otherwise {@code false}
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Problem problem && this.line == problem.line && this.status == problem.status;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.line + this.status.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return this.status + " in line " + this.line;
+    }
+}
@@ -0,0 +1,139 @@
+package de.example.domain.entities.machines;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * This type represents a compiled program, which is an immutable sequence of decoded commands.
+ *
+ * <br><br><b>Discussion</b><br>
+ * The command at index {@code i} corresponds to the line {@code i + 1} of the editor. Since every line is decoded
+ * exactly once when the program is compiled, a machine can execute the program by accessing the commands through its
+ * program counter without decoding the same line over and over again.
+ */
+public final class Program {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute contains the decoded commands. One element is equal to one line of the editor text field. */
+    private final Command[] commands;
+
+    /**
+     * This attribute stores whether the program has been verified before its execution.
+     *
+     * <br><br><b>Discussion</b><br>
+     * A verified program is proven to neither access an inaccessible memory address nor to leave the program with its
+     * program counter, so that a machine is allowed to skip the corresponding checks while executing it.
+     */
+    private final boolean verified;
+
+    /**
+     * This attribute contains the state of the machine after the beginning of the program that does not depend on
+     * any input or {@code null}, if the program has not been evaluated at compile time.
+     */
+    private final Snapshot snapshot;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /**
+     * This constructor creates a new program consisting of the given commands, which has not been verified.
+     *
+     * @param commands The decoded commands, one for each line of the program
+     */
+    public Program(Command[] commands) {
+        this(commands, false);
+    }
+
+    /**
+     * This constructor creates a new program consisting of the given commands.
+     *
+     * @param commands The decoded commands, one for each line of the program
+     * @param verified {@code true} if the program has been verified, otherwise {@code false}
+     */
+    public Program(Command[] commands, boolean verified) {
+        this(commands, verified, null);
+    }
+
+    /**
+     * This constructor creates a new program consisting of the given commands, whose beginning has already been
+     * executed.
+     *
+     * @param commands The decoded commands, one for each line of the program
+     * @param verified {@code true} if the program has been verified, otherwise {@code false}
+     * @param snapshot The state of the machine after the beginning of the program or {@code null}, if there is none
+     */
+    public Program(Command[] commands, boolean verified, Snapshot snapshot) {
+        this.commands = Objects.requireNonNull(commands).clone();
+        this.verified = verified;
+        this.snapshot = snapshot;
+    }
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method returns the number of commands, which is equal to the number of lines of the program.
+     *
+     * @return The number of commands
+     */
+    public int size() {
+        return this.commands.length;
+    }
+
+    /**
+     * This method returns the command at the given index.
+     *
+     * @param index The index of the command, which is equal to the line of code minus 1
+     * @return The command at the given index
+     */
+    public Command get(int index) {
+        return this.commands[index];
+    }
+
+    /**
+     * This method checks whether the program has been verified before its execution.
+     *
+     * @return {@code true} if the program has been verified, otherwise {@code false}
+     */
+    public boolean isVerified() {
+        return this.verified;
+    }
+
+    /**
+     * This method returns the state of the machine after the beginning of the program that does not depend on any
+     * input.
+     *
+     * @return The snapshot or {@code null}, if the program has not been evaluated at compile time
+     */
+    public Snapshot getSnapshot() {
+        return this.snapshot;
+    }
+
+    /**
+     * This method creates a copy of this program, whose beginning has already been executed.
+     *
+     * @param snapshot The state of the machine after the beginning of the program or {@code null}, if there is none
+     * @return The same program together with the given snapshot
+     */
+    public Program withSnapshot(Snapshot snapshot) {
+        return new Program(this.commands, this.verified, snapshot);
+    }
+
+    /**
+     * This method checks whether the given object is a program consisting of the same commands as this program.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The snapshot is not compared, since it only saves executing the beginning of the same commands.
+     *
+     * @param o The object to be compared
+     * @return {@code true} if the given object is an equal program, otherwise {@code false}
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Program program && Arrays.equals(this.commands, program.commands);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.commands);
+    }
+}
@@ -0,0 +1,88 @@
+package de.example.domain.entities.machines;
+
+import java.util.Objects;
+
+/**
+ * This type represents the state of a machine after it has executed the beginning of a program, which does not depend
+ * on any input.
+ *
+ * <br><br><b>Discussion</b><br>
+ * A snapshot is taken when the program is compiled, so that every execution of the program is able to start from it
+ * instead of executing the same commands over and over again. Besides the program counter, the memory and the number
+ * of executed commands, it contains the outputs made so far, which the machine outputs again before it continues.
+ * <br><br>
+ * The program counter refers to the first command that has not been executed, e.g. the first INP command, the HLT
+ * command of a program without any input or a command causing an error. Thus, the machine executes this command as if
+ * it had executed the whole program on its own.
+ */
+public final class Snapshot {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute stores the program counter of the first command that has not been executed. */
+    private final int pc;
+
+    /** This attribute contains the memory including the accumulator at index 0. */
+    private final int[] memory;
+
+    /** This attribute stores the number of commands that have been executed. */
+    private final long steps;
+
+    /** This attribute contains the outputs in the order in which they were made. */
+    private final int[] outputs;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /**
+     * This constructor creates a new snapshot.
+     *
+     * @param pc The program counter of the first command that has not been executed
+     * @param memory The memory including the accumulator at index 0
+     * @param steps The number of commands that have been executed
+     * @param outputs The outputs in the order in which they were made
+     */
+    public Snapshot(int pc, int[] memory, long steps, int[] outputs) {
+        this.pc = pc;
+        this.memory = Objects.requireNonNull(memory).clone();
+        this.steps = steps;
+        this.outputs = Objects.requireNonNull(outputs).clone();
+    }
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method returns the program counter the execution continues at.
+     *
+     * @return The program counter of the first command that has not been executed
+     */
+    public int getPc() {
+        return this.pc;
+    }
+
+    /**
+     * This method returns the memory of the machine.
+     *
+     * @return A copy of the memory including the accumulator at index 0
+     */
+    public int[] getMemory() {
+        return this.memory.clone();
+    }
+
+    /**
+     * This method returns the number of commands that have been executed.
+     *
+     * @return The number of executed commands
+     */
+    public long getSteps() {
+        return this.steps;
+    }
+
+    /**
+     * This method returns the outputs made so far.
+     *
+     * @return A copy of the outputs in the order in which they were made
+     */
+    public int[] getOutputs() {
+        return this.outputs.clone();
+    }
+}
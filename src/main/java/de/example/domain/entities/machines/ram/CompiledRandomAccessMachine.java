@@ -0,0 +1,237 @@
+package de.example.domain.entities.machines.ram;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import de.example.core.di.Di;
+import de.example.domain.entities.InputQueue;
+import de.example.domain.entities.Status;
+import de.example.domain.entities.machines.Decoder;
+import de.example.domain.entities.machines.Program;
+import java.util.Objects;
+
+/**
+ * This type represents a random access machine which starts interpreting the loaded program and translates it into
+ * JVM bytecode as soon as one of its loops turns out to be hot.
+ *
+ * <br><br><b>Discussion</b><br>
+ * Most programs only run briefly, so that translating them would take longer than interpreting them. For this reason,
+ * the machine counts how often every line is jumped to by a backward jump, which makes it the header of a loop. As soon
+ * as a loop header reaches the threshold, the program is translated and the execution continues in the generated code
+ * at the loop header. Since the generated code is able to start at every line, the whole program is translated at
+ * once instead of the loop only.
+ * <br><br>
+ * The machine behaves exactly like the {@code RandomAccessMachine} and returns the same statuses, since every command
+ * the generated code is not able to execute, e.g. INP, OUT and every command causing an error, is executed by the
+ * interpreter. If the program cannot be translated or it is instrumented, e.g. because it is profiled, the machine
+ * interprets it as a whole.
+ */
+public class CompiledRandomAccessMachine extends RandomAccessMachine {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute stores the number of backward jumps to a line after which the program is translated. */
+    public static final int DEFAULT_TIER_UP_THRESHOLD = 1_000;
+
+    /** This attribute is used to translate the loaded program into JVM bytecode. */
+    private final RandomAccessMachineBytecodeGenerator generator;
+
+    /** This attribute stores the number of backward jumps to a line after which the program is translated. */
+    private final int threshold;
+
+    /** This attribute contains the loaded program. */
+    private Program program;
+
+    /** This attribute contains the translated program or {@code null}, if the program is interpreted. */
+    private RandomAccessMachineCode code;
+
+    /**
+     * This attribute contains the number of backward jumps to every line of the loaded program or {@code null}, if the
+     * program is not going to be translated anymore.
+     */
+    private int[] backwardJumps;
+
+    /**
+     * This attribute stores whether the interpreter is currently executing the program on behalf of {@code run(long)}.
+     */
+    private boolean tiering = false;
+
+    /**
+     * This attribute stores the program that has been translated last or {@code null}, if there is none.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The same program is often executed several times in a row, e.g. for every input vector of a batch. Its
+     * translation is kept across resets, so that a program is translated at most once.
+     */
+    private Program translatedProgram;
+
+    /** This attribute contains the translation of {@code translatedProgram}. */
+    private RandomAccessMachineCode translatedCode;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /** This constructor creates a new compiling random access machine. */
+    @Inject
+    public CompiledRandomAccessMachine(@Named(Di.RAM_INPUT_QUEUE) InputQueue inputs,
+                                       @Named(Di.RAM_DECODER) Decoder decoder,
+                                       @Named(Di.RAM_BYTECODE_GENERATOR) RandomAccessMachineBytecodeGenerator generator,
+                                       @Named(Di.TIER_UP_THRESHOLD) int threshold,
+                                       @Named(Di.MEMORY_LIMIT) int memoryLimit) {
+        super(inputs, decoder, memoryLimit);
+
+        if (threshold < 1)
+            throw new IllegalArgumentException("threshold must be positive");
+
+        this.generator = Objects.requireNonNull(generator);
+        this.threshold = threshold;
+    }
+
+    /** This constructor creates a new compiling random access machine with the default memory limit. */
+    public CompiledRandomAccessMachine(InputQueue inputs,
+                                       Decoder decoder,
+                                       RandomAccessMachineBytecodeGenerator generator,
+                                       int threshold) {
+        this(inputs, decoder, generator, threshold, DEFAULT_MEMORY_LIMIT);
+    }
+
+    /** This constructor creates a new compiling random access machine with the default threshold and memory limit. */
+    public CompiledRandomAccessMachine(InputQueue inputs,
+                                       Decoder decoder,
+                                       RandomAccessMachineBytecodeGenerator generator) {
+        this(inputs, decoder, generator, DEFAULT_TIER_UP_THRESHOLD, DEFAULT_MEMORY_LIMIT);
+    }
+
+    //: SECTION: - METHODS
+
+    /** This method resets the machine, which includes discarding the translated program. */
+    @Override
+    public void reset() {
+        super.reset();
+        this.program = null;
+        this.code = null;
+        this.backwardJumps = null;
+    }
+
+    /**
+     * This method loads the given compiled program, which is interpreted until one of its loops turns out to be hot.
+     *
+     * @param program The compiled program, which must only consist of random access machine commands
+     */
+    @Override
+    public void load(Program program) {
+        super.load(program);
+        this.program = program;
+        this.code = null;
+        this.backwardJumps = this.isInstrumented() ? null : new int[program.size()];
+    }
+
+    /**
+     * This method counts the backward jumps to the given line and translates the program as soon as the threshold is
+     * reached.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The jumps are only counted while the interpreter executes the program on behalf of {@code run(long)}, so that
+     * executing single commands, e.g. while stepping, never translates the program.
+     *
+     * @param line The index of the line, which is equal to the line of code minus 1
+     * @return {@code true} if the program has been translated, otherwise {@code false}
+     */
+    @Override
+    protected boolean onBackwardJump(int line) {
+        int[] backwardJumps = this.backwardJumps;
+
+        if (!this.tiering || backwardJumps == null || ++backwardJumps[line] < this.threshold)
+            return false;
+
+        // The program is translated at most once, even if it cannot be translated.
+        this.backwardJumps = null;
+
+        if (this.program != this.translatedProgram) {
+            this.translatedCode = this.generator.generate(this.program);
+            this.translatedProgram = this.program;
+        }
+
+        this.code = this.translatedCode;
+        return this.code != null;
+    }
+
+    /**
+     * This method executes the loaded program, starting at the current program counter, until a command returns
+     * a status other than {@code OK} or the machine is interrupted.
+     *
+     * @return The status of the last executed command, {@code PROGRAM_ADDRESS_ERROR}, if the program counter is out of
+     *         program, or {@code OK}, if the machine has been interrupted
+     */
+    @Override
+    public Status run() {
+        return this.run(Long.MAX_VALUE);
+    }
+
+    /**
+     * This method executes the loaded program like {@code run()}, but stops as soon as the given number of commands
+     * has been executed.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The program is interpreted until it has been translated. Afterwards, the generated code is left for every
+     * command it cannot execute. The interpreter then executes exactly this command before the generated code is
+     * entered again.
+     * <br><br>
+     * The generated code checks the state of the machine at every backward jump and is left as soon as the machine is
+     * not running. If the machine has been paused or is stepping, the remaining program is interpreted until the next
+     * status other than {@code OK}, since only the interpreter is able to pause before every single command.
+     * <br><br>
+     * The generated code only checks the limit at backward jumps, which is why its budget is reduced by the number of
+     * lines of the program. As soon as fewer commands remain, the interpreter executes them, so that the program stops
+     * at exactly the same command as if it had been interpreted as a whole.
+     * <br><br>
+     * The generated code accesses the memory as an array. A large memory, which is not stored in a single array, is
+     * therefore always accessed by the interpreter.
+     *
+     * @param limit The maximum number of commands the loaded program is allowed to execute
+     * @return {@code STEP_LIMIT_ERROR}, if the next command would exceed the limit, otherwise the same as {@code run()}
+     */
+    @Override
+    public Status run(long limit) {
+        Status status;
+
+        if (this.code == null) {
+            this.tiering = true;
+            status = super.run(limit);
+            this.tiering = false;
+
+            // The interpreter has only been left with `OK` before the program has ended if the program has been
+            // translated in the meantime or the machine has been interrupted.
+            if (status != Status.OK || this.code == null)
+                return status;
+        }
+
+        RandomAccessMachineCode code = this.code;
+
+        while (true) {
+            if (!this.isRunning())
+                return this.isInterrupt() ? Status.OK : super.run(limit);
+
+            int[] memory = this.memory == null ? null : this.memory.array();
+
+            if (this.memory != null && memory == null)
+                return super.run(limit);
+
+            long budget = limit == Long.MAX_VALUE
+                    ? Long.MAX_VALUE
+                    : limit - this.getSteps() - this.program.size() + 1;
+
+            if (budget < 1)
+                return super.run(limit);
+
+            this.pc = code.run(memory, this.pc, this, budget);
+
+            // The interpreter reports the limit if the generated code has used up the whole budget.
+            if (!this.isRunning() || this.getSteps() == limit)
+                continue;
+
+            status = this.executeNext();
+
+            if (status != Status.OK)
+                return status;
+        }
+    }
+}
@@ -3,19 +3,33 @@ package de.example.domain.entities.machines.ram;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import de.example.core.di.Di;
+import de.example.core.jfr.InputWaitEvent;
+import de.example.core.jfr.OpcodeCountEvent;
 import de.example.domain.entities.Status;
 import de.example.domain.entities.machines.Decoder;
 import de.example.domain.entities.operations.Arithmetic;
 import de.example.domain.entities.operations.Condition;
-import de.example.domain.entities.Buffer;
+import de.example.domain.entities.InputQueue;
 import de.example.domain.entities.machines.Machine;
+import de.example.domain.entities.machines.Program;
+import de.example.domain.entities.machines.Snapshot;
 import java.util.Objects;
+import java.util.function.IntConsumer;
 
 /** This type represents a random access machine. */
 public class RandomAccessMachine extends Machine {
 
     //: SECTION: - ATTRIBUTES
 
+    /** This attribute stores the output function used while no output function has been set. */
+    private static final IntConsumer NO_OUTPUT = _ -> {};
+
+    /** This attribute stores the default maximum number of fields of the memory accessible to the user. */
+    public static final int DEFAULT_MEMORY_LIMIT = 100;
+
+    /** This attribute stores the maximum number of fields of the memory accessible to the user. */
+    private final int memoryLimit;
+
     /**
      * This attribute contains the current program counter.
      *
@@ -27,18 +41,131 @@ public class RandomAccessMachine extends Machine {
      * from 1 to the number of lines of code in the editor, as this is more intuitive. For this reason, the program
      * counter is set to the address minus 1 for all commands in which the user uses a program address.
      */
-    private int pc;
+    protected int pc;
 
     /**
      * This attribute represents the internal memory of the random access machine including the accumulator, which is
-     * located at index 0 and inaccessible to the user.
+     * located at address 0 and inaccessible to the user.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The memory is {@code null} until it is initialized by the SET command, so that an idle machine does not occupy
+     * any memory at all.
+     */
+    protected RandomAccessMachineMemory memory;
+
+    /**
+     * This attribute contains the array the memory is stored in or {@code null}, if the memory has not been
+     * initialized yet or is not stored in a single array.
+     *
+     * <br><br><b>Discussion</b><br>
+     * Almost every program only uses a small memory, which is stored in an array. Accessing this array directly
+     * instead of calling the memory keeps the commands small enough to be inlined into the interpreter loop.
      */
-    private int[] memory;
+    private int[] fields;
 
     /**
-     * This attribute is used to receive an input from or provide an output to the user.
+     * This attribute contains the commands of the loaded program. One element is equal to one line of the editor
+     * text field.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The commands are decoded exactly once when the program is compiled, so that the program counter can be used to
+     * access the next command without decoding its line again.
      */
-    private final Buffer<String> buffer;
+    private RandomAccessMachineCommand[] program = new RandomAccessMachineCommand[0];
+
+    /**
+     * This attribute stores whether the loaded program has been verified, which means that its program counter never
+     * leaves it.
+     */
+    private boolean verified = false;
+
+    /**
+     * This attribute contains the superinstruction of every line of the loaded program or {@code null}, if every
+     * command is executed on its own.
+     *
+     * <br><br><b>Discussion</b><br>
+     * Superinstructions are only used for verified programs whose commands are not counted, since they neither check
+     * memory addresses nor count single commands.
+     */
+    private RandomAccessMachineSuperinstruction[] superinstructions = null;
+
+    /**
+     * This attribute contains the loop starting at every line of the loaded program whose iterations might be skipped
+     * or {@code null}, if every iteration is executed.
+     *
+     * <br><br><b>Discussion</b><br>
+     * Like superinstructions, loops are only skipped for verified programs whose commands are not counted.
+     */
+    private RandomAccessMachineLoop[] loops = null;
+
+    /** This attribute is used to find the superinstructions and loops of the loaded program. */
+    private final RandomAccessMachineOptimizer optimizer = new RandomAccessMachineOptimizer();
+
+    /**
+     * This attribute stores the program whose superinstructions have been found last or {@code null}, if there is
+     * none.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The same program is often executed several times in a row, e.g. for every input vector of a batch. Its
+     * superinstructions are kept across resets, so that they are only found once.
+     */
+    private Program optimizedProgram = null;
+
+    /** This attribute contains the superinstructions of {@code optimizedProgram}. */
+    private RandomAccessMachineSuperinstruction[] optimizedSuperinstructions = null;
+
+    /** This attribute contains the loops of {@code optimizedProgram}. */
+    private RandomAccessMachineLoop[] optimizedLoops = null;
+
+    /**
+     * This attribute contains the state the loaded program continues from or {@code null}, if it is executed from its
+     * beginning.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The snapshot is restored by the first call of {@code run(long)}, since only then it is known whether it exceeds
+     * the limit of executed commands.
+     */
+    private Snapshot snapshot = null;
+
+    /** This attribute contains the number of commands executed since the program has been loaded. */
+    private long steps = 0;
+
+    /** This attribute contains the time in nanoseconds the program has been waiting for inputs since it was loaded. */
+    private long inputWaitTime = 0;
+
+    /**
+     * This attribute contains the number of executed commands indexed by the ordinal of their opcode or {@code null},
+     * if the commands are not counted.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The commands are only counted if the corresponding flight recorder event is enabled when the program is loaded.
+     * The counts are committed as events when the machine is reset.
+     */
+    private long[] opcodeCounts = null;
+
+    /** This attribute stores whether the executions of every line are counted for the next loaded program. */
+    private boolean profiling = false;
+
+    /** This attribute stores the maximum number of values a program is allowed to output. */
+    private long outputLimit = Long.MAX_VALUE;
+
+    /** This attribute contains the number of values the loaded program is still allowed to output. */
+    private long remainingOutputs = Long.MAX_VALUE;
+
+    /** This attribute is used to detect infinite loops or {@code null}, if they are not detected. */
+    private RandomAccessMachineLoopDetector detector = null;
+
+    /**
+     * This attribute contains the number of executions of every line of the loaded program indexed by the program
+     * counter or {@code null}, if the program is not profiled.
+     */
+    private long[] profile = null;
+
+    /** This attribute is used to receive the inputs from the user. */
+    private final InputQueue inputs;
+
+    /** This attribute receives every output of the program, which does nothing until an output is set. */
+    private IntConsumer output = NO_OUTPUT;
 
     /** This attribute is used to decode random access machine commands. */
     private final Decoder decoder;
@@ -54,17 +181,29 @@ public class RandomAccessMachine extends Machine {
     /** This constructor creates a new random access machine. */
     @Inject
     public RandomAccessMachine(
-            @Named(Di.RAM_STRING_BUFFER) Buffer<String> buffer,
-            @Named(Di.RAM_DECODER) Decoder decoder) {
-        this.buffer = Objects.requireNonNull(buffer);
+            @Named(Di.RAM_INPUT_QUEUE) InputQueue inputs,
+            @Named(Di.RAM_DECODER) Decoder decoder,
+            @Named(Di.MEMORY_LIMIT) int memoryLimit) {
+        if (memoryLimit < 0 || memoryLimit == Integer.MAX_VALUE)
+            throw new IllegalArgumentException("memoryLimit must be between 0 and Integer.MAX_VALUE - 1");
+
+        this.inputs = Objects.requireNonNull(inputs);
         this.decoder = Objects.requireNonNull(decoder);
+        this.memoryLimit = memoryLimit;
+    }
+
+    /** This constructor creates a new random access machine with the default memory limit. */
+    public RandomAccessMachine(InputQueue inputs, Decoder decoder) {
+        this(inputs, decoder, DEFAULT_MEMORY_LIMIT);
     }
 
     /** This constructor creates a new random access machine and is only used for testing purposes. */
-    public RandomAccessMachine(int[] memory, Buffer<String> buffer, Decoder decoder) {
-        this.memory = memory;
-        this.buffer = buffer;
+    public RandomAccessMachine(int[] memory, InputQueue inputs, Decoder decoder) {
+        this.memory = memory == null ? null : new RandomAccessMachineArrayMemory(memory);
+        this.fields = memory;
+        this.inputs = inputs;
         this.decoder = decoder;
+        this.memoryLimit = DEFAULT_MEMORY_LIMIT;
     }
 
     //: SECTION: - METHODS
@@ -95,7 +234,37 @@ public class RandomAccessMachine extends Machine {
      * @return {@code true} if the memory address is within the memory accessible to the user, otherwise {@code false}
      */
     private boolean isMemoryAddressWithinBounds(int address) {
-        return address > 0 && address < this.memory.length;
+        int[] fields = this.fields;
+        return address > 0 && address < (fields != null ? fields.length : this.memory.size());
+    }
+
+    /**
+     * This method returns the value stored at the given memory address, which must be within the memory.
+     *
+     * @param address The memory address, where 0 refers to the accumulator
+     * @return The value
+     */
+    int load(int address) {
+        int[] fields = this.fields;
+        return fields != null ? fields[address] : this.memory.get(address);
+    }
+
+    /**
+     * This method stores the given value at the given memory address, which must be within the memory.
+     *
+     * @param address The memory address, where 0 refers to the accumulator
+     * @param value The value to be stored
+     */
+    void store(int address, int value) {
+        int[] fields = this.fields;
+
+        if (this.detector != null)
+            this.detector.write(address, this.load(address), value);
+
+        if (fields != null)
+            fields[address] = value;
+        else
+            this.memory.set(address, value);
     }
 
     /**
@@ -113,12 +282,14 @@ public class RandomAccessMachine extends Machine {
      */
     private Status performArithmetic(int address, Arithmetic arithmetic) {
         if (this.isMemoryAddressWithinBounds(address)) {
+            int value = this.load(address);
+
             switch (arithmetic) {
-                case ADD -> this.memory[0] += this.memory[address];
-                case SUB -> this.memory[0] -= this.memory[address];
-                case MUL -> this.memory[0] *= this.memory[address];
+                case ADD -> this.store(0, this.load(0) + value);
+                case SUB -> this.store(0, this.load(0) - value);
+                case MUL -> this.store(0, this.load(0) * value);
                 case DIV -> {
-                    if (this.memory[address] != 0) this.memory[0] /= this.memory[address];
+                    if (value != 0) this.store(0, this.load(0) / value);
                     else return Status.DIVISION_BY_ZERO_ERROR;
                 }
             }
@@ -142,39 +313,65 @@ public class RandomAccessMachine extends Machine {
      * @return Always {@code OK}
      */
     private Status performBranch(int address, Condition condition) {
+        if (condition == Condition.NN) {
+            this.branch(address);
+            return Status.OK;
+        }
+
+        int accumulator = this.load(0);
+
         switch (condition) {
-            case NN -> this.branch(address);
-            case EZ -> { if (this.memory[0] == 0) { this.branch(address); } else { this.forward(); } }
-            case NE -> { if (this.memory[0] != 0) { this.branch(address); } else { this.forward(); } }
-            case LZ -> { if (this.memory[0] < 0) { this.branch(address); } else { this.forward(); } }
-            case LE -> { if (this.memory[0] <= 0) { this.branch(address); } else { this.forward(); } }
-            case GZ -> { if (this.memory[0] > 0) { this.branch(address); } else { this.forward(); } }
-            case GE -> { if (this.memory[0] >= 0) { this.branch(address); } else { this.forward(); } }
+            case EZ -> { if (accumulator == 0) { this.branch(address); } else { this.forward(); } }
+            case NE -> { if (accumulator != 0) { this.branch(address); } else { this.forward(); } }
+            case LZ -> { if (accumulator < 0) { this.branch(address); } else { this.forward(); } }
+            case LE -> { if (accumulator <= 0) { this.branch(address); } else { this.forward(); } }
+            case GZ -> { if (accumulator > 0) { this.branch(address); } else { this.forward(); } }
+            case GE -> { if (accumulator >= 0) { this.branch(address); } else { this.forward(); } }
         }
 
         return Status.OK;
     }
 
     /**
-     * This method interrupts the machine and closes the buffer.
+     * This method interrupts the machine and closes the input queue.
      *
      * <br><br><b>Discussion</b><br>
-     * In this regard, closing the buffer is crucial to wake up the runner thread from the blocking state.
+     * In this regard, closing the input queue is crucial to wake up the runner thread from the blocking state.
      */
     @Override
     public void interrupt() {
         super.interrupt();
-        this.buffer.close();
+        this.inputs.close();
     }
 
-    /** This method resets the machine, which includes the program counter, the memory and the buffer. */
+    /**
+     * This method resets the machine, which includes the program counter, the memory, the loaded program, the output
+     * function and the input queue.
+     */
     @Override
     public void reset() {
         super.reset();
 
+        if (this.opcodeCounts != null) {
+            OpcodeCountEvent.commit(this.opcodeCounts);
+            this.opcodeCounts = null;
+        }
+
+        this.profiling = false;
+        this.profile = null;
+
         this.pc = 0;
         this.memory = null;
-        this.buffer.reset();
+        this.fields = null;
+        this.program = new RandomAccessMachineCommand[0];
+        this.verified = false;
+        this.superinstructions = null;
+        this.loops = null;
+        this.snapshot = null;
+        this.steps = 0;
+        this.inputWaitTime = 0;
+        this.output = NO_OUTPUT;
+        this.inputs.reset();
     }
 
     /**
@@ -192,6 +389,424 @@ public class RandomAccessMachine extends Machine {
         return this.pc;
     }
 
+    /**
+     * This method returns the number of commands executed since the program has been loaded.
+     *
+     * <br><br><b>Discussion</b><br>
+     * Only commands executed by {@code run(long)} or by an execution engine on behalf of it are counted. An INP command
+     * waiting for an input is counted twice, as it is executed once more after the input has been delivered.
+     *
+     * @return The number of executed commands
+     */
+    @Override
+    public long getSteps() {
+        return this.steps;
+    }
+
+    /**
+     * This method adds the given number of commands to the commands executed since the program has been loaded.
+     *
+     * <br><br><b>Discussion</b><br>
+     * It is used by execution engines that execute the program without {@code run(long)}, e.g. by generated code.
+     *
+     * @param steps The number of commands that have been executed
+     */
+    void addSteps(long steps) {
+        this.steps += steps;
+    }
+
+    /**
+     * This method returns the time the program has been waiting for inputs since it has been loaded.
+     *
+     * @return The time in nanoseconds
+     */
+    @Override
+    public long getInputWaitTime() {
+        return this.inputWaitTime;
+    }
+
+    /**
+     * This method returns the number of executions of every line of the loaded program.
+     *
+     * <br><br><b>Discussion</b><br>
+     * A line is counted every time its command is executed by {@code run(long)}, including executions that stop the
+     * program, e.g. due to an error or an input.
+     *
+     * @return A copy of the number of executions indexed by the line of code minus 1 or {@code null}, if the program
+     *         is not profiled
+     */
+    @Override
+    public long[] getProfile() {
+        return this.profile == null ? null : this.profile.clone();
+    }
+
+    /**
+     * This method sets whether the executions of every line are counted for the next loaded program.
+     *
+     * <br><br><b>Discussion</b><br>
+     * This method must be called before the program is loaded. Profiling is switched off again when the machine is
+     * reset.
+     *
+     * @param profiling {@code true} if the program is to be profiled, otherwise {@code false}
+     */
+    @Override
+    public void setProfiling(boolean profiling) {
+        this.profiling = profiling;
+    }
+
+    /**
+     * This method sets whether the machine detects infinite loops, which stops a program with {@code
+     * INFINITE_LOOP_ERROR} as soon as it reaches a state it has already been in without reading an input in between.
+     *
+     * <br><br><b>Discussion</b><br>
+     * This method must be called before the program is loaded. In contrast to profiling, the setting is kept when the
+     * machine is reset, as it usually applies to every program executed on the machine.
+     *
+     * @param detecting {@code true} if infinite loops are to be detected, otherwise {@code false}
+     * @see RandomAccessMachineLoopDetector
+     */
+    @Override
+    public void setLoopDetection(boolean detecting) {
+        if (!detecting)
+            this.detector = null;
+        else if (this.detector == null)
+            this.detector = new RandomAccessMachineLoopDetector();
+    }
+
+    /**
+     * This method sets the maximum number of values a program is allowed to output, which stops a program with {@code
+     * OUTPUT_LIMIT_ERROR} instead of executing an OUT command exceeding the limit.
+     *
+     * <br><br><b>Discussion</b><br>
+     * This method must be called before the program is loaded. Like the detection of infinite loops, the limit is kept
+     * when the machine is reset.
+     *
+     * @param limit The maximum number of values, where {@code Long.MAX_VALUE} means that there is no limit
+     */
+    @Override
+    public void setOutputLimit(long limit) {
+        if (limit < 0)
+            throw new IllegalArgumentException("limit must not be negative");
+
+        this.outputLimit = limit;
+    }
+
+    /**
+     * This method checks whether the loaded program is instrumented, which means that either the executions of every
+     * line or the executions of every opcode are counted or the writes to the memory are observed to detect infinite
+     * loops.
+     *
+     * <br><br><b>Discussion</b><br>
+     * Execution engines that neither count the executed commands themselves nor write to the memory by means of this
+     * machine have to leave the program to the interpreter if it is instrumented.
+     *
+     * @return {@code true} if the loaded program is instrumented, otherwise {@code false}
+     */
+    protected boolean isInstrumented() {
+        return this.profile != null || this.opcodeCounts != null || this.detector != null;
+    }
+
+    /**
+     * This method loads the given compiled program, which is executed by subsequent calls of {@code run()}.
+     *
+     * @param program The compiled program, which must only consist of random access machine commands
+     */
+    @Override
+    public void load(Program program) {
+        RandomAccessMachineCommand[] commands = new RandomAccessMachineCommand[program.size()];
+
+        for (int i = 0; i < commands.length; i++)
+            commands[i] = (RandomAccessMachineCommand) program.get(i);
+
+        this.program = commands;
+        this.verified = program.isVerified();
+        this.steps = 0;
+        this.inputWaitTime = 0;
+        this.remainingOutputs = this.outputLimit;
+        this.opcodeCounts = OpcodeCountEvent.isRecording()
+                ? new long[RandomAccessMachineOpcode.values().length]
+                : null;
+        this.profile = this.profiling ? new long[commands.length] : null;
+        this.superinstructions = this.verified && this.profile == null && this.opcodeCounts == null
+                ? this.optimize(program, commands)
+                : null;
+        this.loops = this.superinstructions != null ? this.optimizedLoops : null;
+
+        // An instrumented program has to execute every command on its own, e.g. to count it in the profile.
+        this.snapshot = this.isInstrumented() ? null : program.getSnapshot();
+
+        if (this.detector != null)
+            this.detector.reset();
+    }
+
+    /**
+     * This method finds the superinstructions and loops of the given program, unless they have already been found for
+     * it.
+     *
+     * @param program The verified program
+     * @param commands The commands of the program
+     * @return The superinstructions of the program
+     */
+    private RandomAccessMachineSuperinstruction[] optimize(Program program, RandomAccessMachineCommand[] commands) {
+        if (program != this.optimizedProgram) {
+            this.optimizedSuperinstructions = this.optimizer.optimize(commands);
+            this.optimizedLoops = this.optimizer.findLoops(commands);
+            this.optimizedProgram = program;
+        }
+
+        return this.optimizedSuperinstructions;
+    }
+
+    /**
+     * This method executes the loaded program, starting at the current program counter, until a command returns a
+     * status other than {@code OK} or the machine is interrupted.
+     *
+     * <br><br><b>Discussion</b><br>
+     * If the program counter is out of program, which happens if the program does not have an HLT command at the end
+     * or if a jump command is used to jump out of the program, no command is executed and the program stops with
+     * {@code PROGRAM_ADDRESS_ERROR}.
+     *
+     * @return The status of the last executed command, {@code PROGRAM_ADDRESS_ERROR}, if the program counter is out of
+     *         program, or {@code OK}, if the machine has been interrupted
+     */
+    @Override
+    public Status run() {
+        return this.run(Long.MAX_VALUE);
+    }
+
+    /**
+     * This method executes the loaded program like {@code run()}, but stops as soon as the given number of commands
+     * has been executed since the program has been loaded.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The number of executed commands is kept across several calls, so that the limit applies to the whole program
+     * execution, even if it is left for every input and output.
+     * <br><br>
+     * The state of the machine is only checked before the first command and after every backward jump, as every
+     * program without a backward jump reaches its end after a bounded number of commands anyway. As soon as the
+     * machine is not running, the state is checked before every command until it is running again, which enables
+     * pausing and stepping.
+     * <br><br>
+     * The program counter of a verified program never leaves the program, which is why it is not checked for such a
+     * program. Since the corresponding flag does not change within the loop, the JIT compiler is able to move the
+     * check out of the loop.
+     * <br><br>
+     * While the machine is running, a line starting a superinstruction executes the whole sequence with a single
+     * dispatch. Every command of the sequence is counted as an executed command, so that the number of executed
+     * commands and the limit are the same as without superinstructions. If the remaining commands up to the limit do
+     * not suffice for the whole sequence, its commands are executed on their own.
+     * <br><br>
+     * Likewise, a loop whose header has just been jumped to skips every iteration that neither leaves it nor exceeds
+     * the limit, which counts all commands of these iterations. It is not skipped if infinite loops are detected,
+     * since the detector has to see the states of the iterations.
+     * <br><br>
+     * If infinite loops are detected, the state of the machine is fingerprinted after backward jumps as well. The
+     * program counter then refers to the line the repeated state has been reached at.
+     *
+     * @param limit The maximum number of commands the loaded program is allowed to execute
+     * @return {@code STEP_LIMIT_ERROR}, if the next command would exceed the limit, {@code INFINITE_LOOP_ERROR}, if the
+     *         program runs forever, {@code OK}, if {@code onBackwardJump} has requested to leave the interpreter,
+     *         otherwise the same as {@code run()}
+     */
+    @Override
+    public Status run(long limit) {
+        if (this.snapshot != null)
+            this.restore(limit);
+
+        RandomAccessMachineCommand[] program = this.program;
+        long[] opcodeCounts = this.opcodeCounts;
+        long[] profile = this.profile;
+        long steps = this.steps;
+        boolean verified = this.verified;
+        RandomAccessMachineSuperinstruction[] superinstructions = this.superinstructions;
+        RandomAccessMachineLoopDetector detector = this.detector;
+        RandomAccessMachineLoop[] loops = detector == null ? this.loops : null;
+        Status status = Status.OK;
+        boolean check = true;
+        int pc;
+
+        while (true) {
+            if (check) {
+                check = !this.isRunning();
+
+                if (check && !this.proceed())
+                    break;
+
+                // The program counter refers to the header of a loop if it has just jumped back.
+                if (!check && loops != null && loops[this.pc] != null)
+                    steps += loops[this.pc].execute(this, limit == Long.MAX_VALUE ? Long.MAX_VALUE : limit - steps);
+            }
+
+            pc = this.pc;
+
+            if (!verified && (pc < 0 || pc >= program.length)) {
+                status = Status.PROGRAM_ADDRESS_ERROR;
+                break;
+            }
+
+            if (steps == limit) {
+                status = Status.STEP_LIMIT_ERROR;
+                break;
+            }
+
+            if (superinstructions != null && !check) {
+                RandomAccessMachineSuperinstruction superinstruction = superinstructions[pc];
+
+                if (superinstruction != null && limit - steps >= superinstruction.getLength()) {
+                    steps += superinstruction.getLength();
+                    superinstruction.execute(this);
+
+                    if (this.pc <= pc) {
+                        check = true;
+
+                        if (detector != null && this.isRepeated(detector)) {
+                            status = Status.INFINITE_LOOP_ERROR;
+                            break;
+                        }
+
+                        if (this.onBackwardJump(this.pc))
+                            break;
+                    }
+
+                    continue;
+                }
+            }
+
+            steps++;
+
+            if (opcodeCounts != null)
+                opcodeCounts[program[pc].getOpcode().ordinal()]++;
+
+            if (profile != null)
+                profile[pc]++;
+
+            status = program[pc].execute(this);
+
+            if (status != Status.OK) {
+                // An INP command that has to wait for an input is executed again as soon as the user has been asked
+                // for it, which is why it is only counted then.
+                if (status == Status.INPUT) {
+                    steps--;
+
+                    if (opcodeCounts != null)
+                        opcodeCounts[program[pc].getOpcode().ordinal()]--;
+
+                    if (profile != null)
+                        profile[pc]--;
+                }
+
+                break;
+            }
+
+            if (this.pc <= pc) {
+                check = true;
+
+                if (detector != null && this.isRepeated(detector)) {
+                    status = Status.INFINITE_LOOP_ERROR;
+                    break;
+                }
+
+                if (this.onBackwardJump(this.pc))
+                    break;
+            }
+        }
+
+        this.steps = steps;
+        return status;
+    }
+
+    /**
+     * This method checks whether the machine has already been in its current state, which is only called after a
+     * backward jump.
+     *
+     * @param detector The detector of infinite loops
+     * @return {@code true} if the program runs forever, otherwise {@code false}
+     */
+    private boolean isRepeated(RandomAccessMachineLoopDetector detector) {
+        return detector.isRepeated(this.pc, this.memory == null ? -1 : this.memory.size());
+    }
+
+    /**
+     * This method continues the loaded program from its snapshot, which includes outputting every value the program
+     * has output before the snapshot was taken.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The snapshot is discarded if the program has already been started or it exceeds a limit, e.g. because the
+     * program is only allowed to execute fewer commands than the snapshot contains. In this case, the program is
+     * executed from its beginning as usual and reaches the limit on its own. The same applies if the machine is not
+     * running, e.g. because the user steps through the program, or it detects infinite loops, since the detector has
+     * to see every write to the memory.
+     *
+     * @param limit The maximum number of commands the loaded program is allowed to execute
+     */
+    private void restore(long limit) {
+        Snapshot snapshot = this.snapshot;
+        this.snapshot = null;
+
+        int[] memory = snapshot.getMemory();
+        int[] outputs = snapshot.getOutputs();
+
+        if (this.steps != 0 || this.memory != null || !this.isRunning() || this.detector != null ||
+                snapshot.getSteps() > limit || outputs.length > this.remainingOutputs ||
+                memory.length - 1 > this.memoryLimit)
+            return;
+
+        this.memory = RandomAccessMachineMemory.allocate(memory.length);
+        this.fields = this.memory.array();
+
+        if (this.fields == null)
+            for (int address = 0; address < memory.length; address++)
+                this.memory.set(address, memory[address]);
+        else
+            System.arraycopy(memory, 0, this.fields, 0, memory.length);
+
+        this.pc = snapshot.getPc();
+        this.steps = snapshot.getSteps();
+        this.remainingOutputs -= outputs.length;
+
+        for (int value : outputs)
+            this.output.accept(value);
+    }
+
+    /**
+     * This method is called by {@code run(long)} whenever the program counter has been set to the given line by a
+     * backward jump, which makes the line the header of a loop.
+     *
+     * <br><br><b>Discussion</b><br>
+     * Execution engines use it to find loops that are worth executing in a faster way. If it returns {@code true},
+     * {@code run(long)} returns {@code OK} right away, so that the engine can take over the execution at the line.
+     * By default, it does nothing.
+     *
+     * @param line The index of the line, which is equal to the line of code minus 1
+     * @return {@code true} if the interpreter is to be left, otherwise {@code false}
+     */
+    protected boolean onBackwardJump(int line) {
+        return false;
+    }
+
+    /**
+     * This method executes the single command of the loaded program the program counter currently refers to.
+     *
+     * <br><br><b>Discussion</b><br>
+     * It is used by execution engines that execute most of the program themselves and only hand over single commands,
+     * e.g. INP and OUT, to this machine. The command is counted like every command executed by {@code run(long)},
+     * unless it is an INP command that has to wait for an input and is therefore executed again.
+     *
+     * @return The status of the executed command or {@code PROGRAM_ADDRESS_ERROR}, if the program counter is out of
+     *         program
+     */
+    protected Status executeNext() {
+        if (this.pc < 0 || this.pc >= this.program.length)
+            return Status.PROGRAM_ADDRESS_ERROR;
+
+        Status status = this.program[this.pc].execute(this);
+
+        if (status != Status.INPUT)
+            this.steps++;
+
+        return status;
+    }
+
     /**
      * This method decodes the given command and subsequently executes it on this machine.
      *
@@ -206,65 +821,74 @@ public class RandomAccessMachine extends Machine {
     }
 
     /**
-     * This method requests an output from the machine by reading the buffer.
+     * This method sets the function receiving every output of the program until the machine is reset.
      *
      * <br><br><b>Discussion</b><br>
-     * Note that this method is blocking, which means it blocks the corresponding thread as long as the buffer is empty.
-     * It only continues when the buffer has either been filled or closed.
-     * <br><br>
-     * In the context of Interpredit, this method is only used by the printer thread to receive the output after an OUT
-     * command and then output it to the console.
+     * The function is called by the thread executing the program, directly from the OUT command. In the context of
+     * Interpredit, it writes the output to the queue read by the printer thread.
      *
-     * @return The requested output or {@code null}, if the buffer was closed.
+     * @param output The function receiving every output
      */
     @Override
-    public String requestOutput() {
-        String value = "";
-
-        try { value = this.buffer.read(); }
-        catch (InterruptedException _) {}
-
-        return value;
+    public void setOutput(IntConsumer output) {
+        this.output = Objects.requireNonNull(output);
     }
 
     /**
-     * This method delivers the given string as an input to the machine.
+     * This method delivers the given string as one or more inputs to the machine.
      *
      * <br><br><b>Discussion</b><br>
-     * This method is only called from the main thread when the user hits <i>Enter</i> after an input. The evaluation of
-     * the input does not yet take place here.
+     * In the context of Interpredit, this method is called from the main thread when the user hits <i>Enter</i> after
+     * an input. Several inputs separated by whitespaces are queued at once and parsed right away, so that the INP
+     * commands reading them neither wait for the user nor parse them. An input that is not an integer does not fail
+     * before an INP command reads it.
      *
-     * @param input The input to be delivered
+     * @param input The inputs to be delivered, which are separated by whitespaces
      * @return {@code true} if the input is not {@code null}, otherwise {@code false}
      */
     @Override
     public boolean deliverInput(String input) {
         if (input != null) {
-            this.buffer.write(input);
+            this.inputs.write(input);
             return true;
         }
 
-        // If the input is `null`, close the buffer to notify
+        // If the input is `null`, close the input queue to notify
         // the runner thread to prevent it from being stuck.
-        this.buffer.close();
+        this.inputs.close();
         return false;
     }
 
+    /**
+     * This method returns the maximum number of fields of the memory accessible to the user.
+     *
+     * @return The maximum value of the SET command
+     */
+    public int getMemoryLimit() {
+        return this.memoryLimit;
+    }
+
     /**
      * This method initializes the memory (the tape) with the given number of fields and must be the first command in
      * every program. All fields are initialized with the number 0.
      *
      * <br><br><b>Discussion</b><br>
-     * This method is a command that the user can access via the keyword SET.
+     * This method is a command that the user can access via the keyword SET. Small memories are stored in an array,
+     * whereas large ones only allocate the parts of the memory that are actually written.
      *
      * @param value The number of fields of the memory accessible to the user
      * @return {@code OK} if the memory was successfully initialized, otherwise {@code SET_ERROR}
+     * @see RandomAccessMachineMemory#allocate(int)
      */
     public Status set(int value) {
-        if (value < 0 || value > 100)
+        if (value < 0 || value > this.memoryLimit)
             return Status.SET_ERROR;
 
-        this.memory = new int[value+1];
+        this.memory = RandomAccessMachineMemory.allocate(value + 1);
+        this.fields = this.memory.array();
+
+        if (this.detector != null)
+            this.detector.initialize();
         this.forward();
         return Status.OK;
     }
@@ -352,7 +976,7 @@ public class RandomAccessMachine extends Machine {
      */
     public Status lda(int address) {
         if (this.isMemoryAddressWithinBounds(address)) {
-            this.memory[0] = this.memory[address];
+            this.store(0, this.load(address));
             this.forward();
             return Status.OK;
         }
@@ -371,7 +995,7 @@ public class RandomAccessMachine extends Machine {
      * @return Always {@code OK}
      */
     public Status ldk(int value) {
-        this.memory[0] = value;
+        this.store(0, value);
         this.forward();
         return Status.OK;
     }
@@ -387,7 +1011,7 @@ public class RandomAccessMachine extends Machine {
      */
     public Status sta(int address) {
         if (this.isMemoryAddressWithinBounds(address)) {
-            this.memory[address] = this.memory[0];
+            this.store(address, this.load(0));
             this.forward();
             return Status.OK;
         }
@@ -400,11 +1024,10 @@ public class RandomAccessMachine extends Machine {
      * input is made. User input made before the program is actually executed is also taken into account.
      *
      * <br><br><b>Discussion</b><br>
-     * This method is a command that the user can access via the keyword INP. Note that this method is blocking, which
-     * means it blocks the corresponding thread as long as the buffer is empty. It only continues when the buffer has
-     * either been filled or closed. Furthermore, this method is invoked twice if the buffer is empty. In the first
-     * invocation, {@code INPUT} is returned to inform the user that he has to enter a value. The second invocation
-     * then waits blocking for a specific input.
+     * This method is a command that the user can access via the keyword INP. If an input has already been delivered,
+     * it is taken from the input queue right away. Otherwise, this method is invoked twice. In the first invocation,
+     * {@code INPUT} is returned to inform the user that they have to enter a value. The second invocation then waits
+     * blocking until an input has been delivered or the input queue has been closed.
      *
      * @param address The memory address the user input is stored in
      * @return
@@ -418,38 +1041,57 @@ public class RandomAccessMachine extends Machine {
      *      which means it is not an integer.
      *  </li>
      *  <li>
-     *      {@code INPUT} if the buffer is empty and the user has not
+     *      {@code INPUT} if the input queue is empty and the user has not
      *      yet been notified to enter an input.
      *  </li>
      *  <li>
-     *      {@code OK} if the buffer contains a value which is an integer
+     *      {@code OK} if the next input is an integer
      *  </li>
      * </ul>
      */
     public Status inp(int address) {
         if (this.isMemoryAddressWithinBounds(address)) {
-            if (buffer.isEmpty()) {
+            long input = this.inputs.poll();
+
+            if (input == InputQueue.EMPTY) {
                 if (!notifiedAboutInput) {
                     notifiedAboutInput = true;
                     return Status.INPUT;
                 }
-            }
 
-            notifiedAboutInput = false;
+                try {
+                    InputWaitEvent event = new InputWaitEvent();
+                    event.begin();
 
-            try {
-                String input = this.buffer.read();
+                    long start = System.nanoTime();
+                    this.suspendWatchdog();
 
-                if (input == null)
+                    try {
+                        input = this.inputs.read();
+                    } finally {
+                        this.resumeWatchdog();
+                    }
+
+                    this.inputWaitTime += System.nanoTime() - start;
+
+                    event.address = address;
+                    event.commit();
+                } catch (InterruptedException e) {
                     return Status.INPUT_ERROR;
+                }
+            }
 
-                int intInput = Integer.parseInt(input.trim());
-                this.memory[address] = intInput;
-            } catch (InterruptedException | NumberFormatException e) {
+            notifiedAboutInput = false;
+
+            if (input == InputQueue.CLOSED || input == InputQueue.INVALID)
                 return Status.INPUT_ERROR;
-            }
 
+            this.store(address, (int) input);
             this.forward();
+
+            // The state of the machine now depends on the input, so that the states before are not repeated anymore.
+            if (this.detector != null)
+                this.detector.forget();
             return Status.OK;
         }
 
@@ -460,17 +1102,25 @@ public class RandomAccessMachine extends Machine {
      * This method outputs the value stored in the given memory address on the console.
      *
      * <br><br><b>Discussion</b><br>
-     * This method is a command that the user can access via the keyword OUT. This method tells the printer thread
-     * that an output is to be made.
+     * This method is a command that the user can access via the keyword OUT. The value is passed to the output
+     * function set before, so that the program execution continues without waiting for the value to be printed.
+     * <br><br>
+     * If the program has already output as many values as it is allowed to, the command is not executed and the
+     * program counter keeps referring to it.
      *
      * @param address The memory address containing the value that is output on the console
-     * @return {@code OK} if the memory address is within the accessible memory, otherwise {@code MEMORY_ADDRESS_ERROR}
+     * @return {@code OK} if the memory address is within the accessible memory, {@code OUTPUT_LIMIT_ERROR}, if the
+     *         output limit has been reached, otherwise {@code MEMORY_ADDRESS_ERROR}
      */
     public Status out(int address) {
         if (this.isMemoryAddressWithinBounds(address)) {
-            this.buffer.write(String.valueOf(this.memory[address]));
+            if (this.remainingOutputs == 0)
+                return Status.OUTPUT_LIMIT_ERROR;
+
+            this.remainingOutputs--;
+            this.output.accept(this.load(address));
             this.forward();
-            return Status.OUTPUT;
+            return Status.OK;
         }
 
         return Status.MEMORY_ADDRESS_ERROR;
@@ -478,7 +1128,7 @@ public class RandomAccessMachine extends Machine {
 
     /**
      * This method causes the program execution to continue in the given line of code, which is the program counter
-     * minus 1. The program is trapped in an infinite loop if the target line of code is beyond the SET or HLT command.
+     * minus 1. The program stops with an error if the target line of code is outside of the program.
      *
      * <br><br><b>Discussion</b><br>
      * This method is a command that the user can access via the keyword JMP.
@@ -493,7 +1143,7 @@ public class RandomAccessMachine extends Machine {
     /**
      * This method causes the program execution to continue in the given line of code, if the currently stored value
      * in the accumulator is equal to 0. Otherwise, the program execution continues in the next line of code. The
-     * program is trapped in an infinite loop if the target line of code is beyond the SET or HLT command.
+     * program stops with an error if the target line of code is outside of the program.
      *
      * <br><br><b>Discussion</b><br>
      * This method is a command that the user can access via the keyword JEZ.
@@ -508,7 +1158,7 @@ public class RandomAccessMachine extends Machine {
     /**
      * This method causes the program execution to continue in the given line of code, if the currently stored value
      * in the accumulator is not equal to 0. Otherwise, the program execution continues in the next line of code. The
-     * program is trapped in an infinite loop if the target line of code is beyond the SET or HLT command.
+     * program stops with an error if the target line of code is outside of the program.
      *
      * <br><br><b>Discussion</b><br>
      * This method is a command that the user can access via the keyword JNE.
@@ -523,7 +1173,7 @@ public class RandomAccessMachine extends Machine {
     /**
      * This method causes the program execution to continue in the given line of code, if the currently stored value
      * in the accumulator is less than 0. Otherwise, the program execution continues in the next line of code. The
-     * program is trapped in an infinite loop if the target line of code is beyond the SET or HLT command.
+     * program stops with an error if the target line of code is outside of the program.
      *
      * <br><br><b>Discussion</b><br>
      * This method is a command that the user can access via the keyword JLZ.
@@ -538,7 +1188,7 @@ public class RandomAccessMachine extends Machine {
     /**
      * This method causes the program execution to continue in the given line of code, if the currently stored value
      * in the accumulator is less than or equal to 0. Otherwise, the program execution continues in the next line of
-     * code. The program is trapped in an infinite loop if the target line of code is beyond the SET or HLT command.
+     * code. The program stops with an error if the target line of code is outside of the program.
      *
      * <br><br><b>Discussion</b><br>
      * This method is a command that the user can access via the keyword JLE.
@@ -553,7 +1203,7 @@ public class RandomAccessMachine extends Machine {
     /**
      * This method causes the program execution to continue in the given line of code, if the currently stored value in
      * the accumulator is greater than 0. Otherwise, the program execution continues in the next line of code. The
-     * program is trapped in an infinite loop if the target line of code is beyond the SET or HLT command.
+     * program stops with an error if the target line of code is outside of the program.
      *
      * <br><br><b>Discussion</b><br>
      * This method is a command that the user can access via the keyword JGZ.
@@ -568,7 +1218,7 @@ public class RandomAccessMachine extends Machine {
     /**
      * This method causes the program execution to continue in the given line of code, if the currently stored value
      * in the accumulator is greater than or equal to 0. Otherwise, the program execution continues in the next line
-     * of code. The program is trapped in an infinite loop if the target line of code is beyond the SET or HLT command.
+     * of code. The program stops with an error if the target line of code is outside of the program.
      *
      * <br><br><b>Discussion</b><br>
      * This method is a command that the user can access via the keyword JGE.
@@ -0,0 +1,54 @@
+package de.example.domain.entities.machines.ram;
+
+import java.util.Objects;
+
+/** This type represents a memory of a random access machine which is stored densely in an array. */
+public final class RandomAccessMachineArrayMemory implements RandomAccessMachineMemory {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute contains the fields of the memory, where the accumulator is located at index 0. */
+    private final int[] fields;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /**
+     * This constructor creates a new memory whose fields are all initialized with 0.
+     *
+     * @param size The number of fields including the accumulator
+     */
+    public RandomAccessMachineArrayMemory(int size) {
+        this(new int[size]);
+    }
+
+    /**
+     * This constructor creates a new memory which is stored in the given array.
+     *
+     * @param fields The fields of the memory, which are not copied
+     */
+    public RandomAccessMachineArrayMemory(int[] fields) {
+        this.fields = Objects.requireNonNull(fields);
+    }
+
+    //: SECTION: - METHODS
+
+    @Override
+    public int get(int address) {
+        return this.fields[address];
+    }
+
+    @Override
+    public void set(int address, int value) {
+        this.fields[address] = value;
+    }
+
+    @Override
+    public int size() {
+        return this.fields.length;
+    }
+
+    @Override
+    public int[] array() {
+        return this.fields;
+    }
+}
@@ -0,0 +1,385 @@
+package de.example.domain.entities.machines.ram;
+
+import de.example.domain.entities.machines.Machine;
+import de.example.domain.entities.machines.Program;
+import org.objectweb.asm.ClassTooLargeException;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodTooLargeException;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import java.lang.invoke.MethodHandles;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * This type translates a compiled random access machine program into JVM bytecode.
+ *
+ * <br><br><b>Discussion</b><br>
+ * The whole program is translated into a single method, in which the accumulator is a local variable, the memory is
+ * accessed as an array and jumps are real branches. Thus, the JIT compiler of the JVM is able to compile loops of the
+ * program into native loops. Commands that require the machine, e.g. INP and OUT, are not translated. Instead, the
+ * method returns the program counter of such a command, so that the machine can execute it and afterwards continue
+ * the execution of the generated code.
+ * <br><br>
+ * The executed commands are counted in a local variable, which is added to the number of executed commands of the
+ * machine when the method returns. Thus, the machine counts the same commands as if it had interpreted the program.
+ * Backward jumps compare this variable with the budget passed to the method, so that a step limit does not require
+ * the program to be interpreted.
+ */
+public class RandomAccessMachineBytecodeGenerator {
+
+    //: SECTION: - ATTRIBUTES
+
+    /**
+     * This attribute stores the internal name of the generated class, which must be located in the package of this
+     * type.
+     */
+    private static final String CLASS_NAME =
+            Type.getInternalName(RandomAccessMachineBytecodeGenerator.class) + "$Program";
+
+    /** This attribute stores the descriptor of the generated method executing the program. */
+    private static final String RUN_DESCRIPTOR =
+            Type.getMethodDescriptor(Type.INT_TYPE,
+                                     Type.getType(int[].class),
+                                     Type.INT_TYPE,
+                                     Type.getType(RandomAccessMachine.class),
+                                     Type.LONG_TYPE);
+
+    /** This attribute stores the index of the local variable containing the memory. */
+    private static final int MEMORY = 1;
+
+    /** This attribute stores the index of the local variable containing the program counter to start at. */
+    private static final int PC = 2;
+
+    /** This attribute stores the index of the local variable containing the machine executing the program. */
+    private static final int MACHINE = 3;
+
+    /** This attribute stores the index of the local variable containing the maximum number of executed commands. */
+    private static final int BUDGET = 4;
+
+    /** This attribute stores the index of the local variable containing the accumulator. */
+    private static final int ACCUMULATOR = 6;
+
+    /** This attribute stores the index of the local variable containing the length of the memory. */
+    private static final int LENGTH = 7;
+
+    /** This attribute stores the index of the local variable containing the program counter to return or a divisor. */
+    private static final int RESULT = 8;
+
+    /** This attribute stores the index of the local variable counting the executed commands. */
+    private static final int STEPS = 9;
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method translates the given program into JVM bytecode and loads it as a hidden class.
+     *
+     * @param program The compiled program, which must only consist of random access machine commands
+     * @return The translated program or {@code null}, if the program is empty or could not be translated, e.g.
+     *         because it is too large to fit into a single method
+     */
+    public RandomAccessMachineCode generate(Program program) {
+        if (program.size() == 0)
+            return null;
+
+        try {
+            byte[] bytes = this.translate(program);
+
+            MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytes, true);
+            return (RandomAccessMachineCode) lookup.lookupClass().getConstructor().newInstance();
+        } catch (MethodTooLargeException | ClassTooLargeException | ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * This method creates the class file of the given program.
+     *
+     * @param program The compiled program
+     * @return The bytes of the class file
+     */
+    private byte[] translate(Program program) {
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        cw.visit(V17, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, CLASS_NAME, null,
+                 Type.getInternalName(Object.class),
+                 new String[] { Type.getInternalName(RandomAccessMachineCode.class) });
+
+        MethodVisitor init = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        init.visitCode();
+        init.visitVarInsn(ALOAD, 0);
+        init.visitMethodInsn(INVOKESPECIAL, Type.getInternalName(Object.class), "<init>", "()V", false);
+        init.visitInsn(RETURN);
+        init.visitMaxs(0, 0);
+        init.visitEnd();
+
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "run", RUN_DESCRIPTOR, null, null);
+        mv.visitCode();
+        this.translate(mv, program);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    /**
+     * This method creates the body of the {@code run} method of the given program.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The body starts with a table switch on the program counter, which jumps to the label of the corresponding
+     * command. Every command that cannot be executed by the generated code jumps to a common exit, which writes the
+     * accumulator back to the memory, adds the executed commands to the machine and returns the program counter of the
+     * command.
+     *
+     * @param mv The visitor of the {@code run} method
+     * @param program The compiled program
+     */
+    private void translate(MethodVisitor mv, Program program) {
+        int size = program.size();
+        Label[] lines = new Label[size];
+        Label[] bailouts = new Label[size];
+        Label exit = new Label();
+        Label start = new Label();
+        Label outOfProgram = new Label();
+
+        for (int i = 0; i < size; i++) {
+            lines[i] = new Label();
+            bailouts[i] = new Label();
+        }
+
+        mv.visitInsn(LCONST_0);
+        mv.visitVarInsn(LSTORE, STEPS);
+
+        // The memory has not been initialized yet, which is why the machine has to execute the next command.
+        mv.visitVarInsn(ALOAD, MEMORY);
+        mv.visitJumpInsn(IFNONNULL, start);
+        mv.visitVarInsn(ILOAD, PC);
+        mv.visitInsn(IRETURN);
+
+        mv.visitLabel(start);
+        mv.visitVarInsn(ALOAD, MEMORY);
+        mv.visitInsn(ICONST_0);
+        mv.visitInsn(IALOAD);
+        mv.visitVarInsn(ISTORE, ACCUMULATOR);
+        mv.visitVarInsn(ALOAD, MEMORY);
+        mv.visitInsn(ARRAYLENGTH);
+        mv.visitVarInsn(ISTORE, LENGTH);
+
+        mv.visitVarInsn(ILOAD, PC);
+        mv.visitTableSwitchInsn(0, size - 1, outOfProgram, lines);
+
+        for (int i = 0; i < size; i++) {
+            mv.visitLabel(lines[i]);
+            mv.visitVarInsn(LLOAD, STEPS);
+            mv.visitInsn(LCONST_1);
+            mv.visitInsn(LADD);
+            mv.visitVarInsn(LSTORE, STEPS);
+            this.translate(mv, (RandomAccessMachineCommand) program.get(i), i, size, lines, bailouts[i], exit,
+                           program.isVerified());
+        }
+
+        // The last command has been executed without a jump, so the program counter is out of program.
+        push(mv, size);
+        mv.visitJumpInsn(GOTO, exit);
+
+        mv.visitLabel(outOfProgram);
+        mv.visitVarInsn(ILOAD, PC);
+        mv.visitJumpInsn(GOTO, exit);
+
+        // The command the machine has to execute has not been executed by the generated code.
+        for (int i = 0; i < size; i++) {
+            mv.visitLabel(bailouts[i]);
+            mv.visitVarInsn(LLOAD, STEPS);
+            mv.visitInsn(LCONST_1);
+            mv.visitInsn(LSUB);
+            mv.visitVarInsn(LSTORE, STEPS);
+            push(mv, i);
+            mv.visitJumpInsn(GOTO, exit);
+        }
+
+        mv.visitLabel(exit);
+        mv.visitVarInsn(ISTORE, RESULT);
+        mv.visitVarInsn(ALOAD, MEMORY);
+        mv.visitInsn(ICONST_0);
+        mv.visitVarInsn(ILOAD, ACCUMULATOR);
+        mv.visitInsn(IASTORE);
+        mv.visitVarInsn(ALOAD, MACHINE);
+        mv.visitVarInsn(LLOAD, STEPS);
+        mv.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(RandomAccessMachine.class), "addSteps", "(J)V", false);
+        mv.visitVarInsn(ILOAD, RESULT);
+        mv.visitInsn(IRETURN);
+    }
+
+    /**
+     * This method creates the bytecode of a single command.
+     *
+     * @param mv The visitor of the {@code run} method
+     * @param command The command to be translated
+     * @param line The index of the command in the program
+     * @param size The number of commands of the program
+     * @param lines The labels of all commands of the program
+     * @param bailout The label which causes the machine to execute this command
+     * @param exit The label of the common exit
+     * @param verified {@code true} if the memory address of the command is proven to be accessible
+     */
+    private void translate(MethodVisitor mv, RandomAccessMachineCommand command, int line, int size,
+                           Label[] lines, Label bailout, Label exit, boolean verified) {
+        RandomAccessMachineOpcode opcode = command.getOpcode();
+        int value = command.getValue();
+
+        if (opcode == null) {
+            mv.visitJumpInsn(GOTO, bailout);
+            return;
+        }
+
+        switch (opcode) {
+            case HOP -> {}
+            case LDK -> {
+                push(mv, value);
+                mv.visitVarInsn(ISTORE, ACCUMULATOR);
+            }
+            case LDA -> {
+                this.checkMemoryAddress(mv, value, bailout, verified);
+                mv.visitVarInsn(ALOAD, MEMORY);
+                push(mv, value);
+                mv.visitInsn(IALOAD);
+                mv.visitVarInsn(ISTORE, ACCUMULATOR);
+            }
+            case STA -> {
+                this.checkMemoryAddress(mv, value, bailout, verified);
+                mv.visitVarInsn(ALOAD, MEMORY);
+                push(mv, value);
+                mv.visitVarInsn(ILOAD, ACCUMULATOR);
+                mv.visitInsn(IASTORE);
+            }
+            case ADD, SUB, MUL -> {
+                this.checkMemoryAddress(mv, value, bailout, verified);
+                mv.visitVarInsn(ILOAD, ACCUMULATOR);
+                mv.visitVarInsn(ALOAD, MEMORY);
+                push(mv, value);
+                mv.visitInsn(IALOAD);
+                mv.visitInsn(opcode == RandomAccessMachineOpcode.ADD ? IADD
+                             : opcode == RandomAccessMachineOpcode.SUB ? ISUB
+                             : IMUL);
+                mv.visitVarInsn(ISTORE, ACCUMULATOR);
+            }
+            case DIV -> {
+                this.checkMemoryAddress(mv, value, bailout, verified);
+                mv.visitVarInsn(ALOAD, MEMORY);
+                push(mv, value);
+                mv.visitInsn(IALOAD);
+                mv.visitVarInsn(ISTORE, RESULT);
+                mv.visitVarInsn(ILOAD, RESULT);
+                mv.visitJumpInsn(IFEQ, bailout);
+                mv.visitVarInsn(ILOAD, ACCUMULATOR);
+                mv.visitVarInsn(ILOAD, RESULT);
+                mv.visitInsn(IDIV);
+                mv.visitVarInsn(ISTORE, ACCUMULATOR);
+            }
+            case JMP -> this.jump(mv, value - 1, line, size, lines, exit);
+            case JEZ, JNE, JLZ, JLE, JGZ, JGE -> {
+                // Skip the jump if the condition is not met.
+                Label skip = new Label();
+                mv.visitVarInsn(ILOAD, ACCUMULATOR);
+                mv.visitJumpInsn(switch (opcode) {
+                    case JEZ -> IFNE;
+                    case JNE -> IFEQ;
+                    case JLZ -> IFGE;
+                    case JLE -> IFGT;
+                    case JGZ -> IFLE;
+                    default -> IFLT;
+                }, skip);
+                this.jump(mv, value - 1, line, size, lines, exit);
+                mv.visitLabel(skip);
+            }
+            default -> mv.visitJumpInsn(GOTO, bailout);
+        }
+    }
+
+    /**
+     * This method creates the bytecode of a jump to the given target.
+     *
+     * <br><br><b>Discussion</b><br>
+     * Backward jumps check whether the budget of executed commands has been used up and whether the machine is still
+     * running, so that a program trapped in a loop can still be limited, stopped or paused. Jumps out of the program
+     * leave the generated code.
+     *
+     * @param mv The visitor of the {@code run} method
+     * @param target The index of the command to be jumped to, which is the program address minus 1
+     * @param line The index of the jump command in the program
+     * @param size The number of commands of the program
+     * @param lines The labels of all commands of the program
+     * @param exit The label of the common exit
+     */
+    private void jump(MethodVisitor mv, int target, int line, int size, Label[] lines, Label exit) {
+        if (target < 0 || target >= size) {
+            push(mv, target);
+            mv.visitJumpInsn(GOTO, exit);
+            return;
+        }
+
+        if (target <= line) {
+            Label proceed = new Label();
+            Label running = new Label();
+            mv.visitVarInsn(LLOAD, STEPS);
+            mv.visitVarInsn(LLOAD, BUDGET);
+            mv.visitInsn(LCMP);
+            mv.visitJumpInsn(IFLT, running);
+            push(mv, target);
+            mv.visitJumpInsn(GOTO, exit);
+            mv.visitLabel(running);
+            mv.visitVarInsn(ALOAD, MACHINE);
+            mv.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(Machine.class), "isRunning", "()Z", false);
+            mv.visitJumpInsn(IFNE, proceed);
+            push(mv, target);
+            mv.visitJumpInsn(GOTO, exit);
+            mv.visitLabel(proceed);
+        }
+
+        mv.visitJumpInsn(GOTO, lines[target]);
+    }
+
+    /**
+     * This method creates the bytecode which checks whether the given memory address is within the memory accessible
+     * to the user. If it is not, the machine has to execute the command to report the error.
+     *
+     * <br><br><b>Discussion</b><br>
+     * No bytecode is created for a memory address of a verified program, since it is proven to be accessible.
+     *
+     * @param mv The visitor of the {@code run} method
+     * @param address The memory address to be checked
+     * @param bailout The label which causes the machine to execute the command
+     * @param verified {@code true} if the memory address is proven to be accessible
+     */
+    private void checkMemoryAddress(MethodVisitor mv, int address, Label bailout, boolean verified) {
+        if (verified)
+            return;
+
+        if (address <= 0) {
+            mv.visitJumpInsn(GOTO, bailout);
+            return;
+        }
+
+        mv.visitVarInsn(ILOAD, LENGTH);
+        push(mv, address);
+        mv.visitJumpInsn(IF_ICMPLE, bailout);
+    }
+
+    /**
+     * This method creates the shortest bytecode which pushes the given constant onto the operand stack.
+     *
+     * @param mv The visitor of the current method
+     * @param value The constant to be pushed
+     */
+    private static void push(MethodVisitor mv, int value) {
+        if (value >= -1 && value <= 5)
+            mv.visitInsn(ICONST_0 + value);
+        else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE)
+            mv.visitIntInsn(BIPUSH, value);
+        else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE)
+            mv.visitIntInsn(SIPUSH, value);
+        else
+            mv.visitLdcInsn(value);
+    }
+}
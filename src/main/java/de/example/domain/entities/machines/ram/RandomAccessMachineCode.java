@@ -0,0 +1,33 @@
+package de.example.domain.entities.machines.ram;
+
+/**
+ * A type that represents a random access machine program which has been translated into JVM bytecode.
+ *
+ * <br><br><b>Discussion</b><br>
+ * Implementations are generated at runtime by the {@code RandomAccessMachineBytecodeGenerator} and loaded as hidden
+ * classes, so that they can be unloaded as soon as the program is no longer used.
+ */
+interface RandomAccessMachineCode {
+
+    /**
+     * This method executes the program, starting at the given program counter, until it reaches a command that has
+     * to be executed by the machine itself.
+     *
+     * <br><br><b>Discussion</b><br>
+     * Such commands are SET, INP, OUT and HLT as well as every command that would cause an error, e.g. an access to
+     * an invalid memory address. Additionally, the execution is left at every backward jump if the budget has been used
+     * up or the machine is not running anymore and if the program counter leaves the program. The accumulator is
+     * written back to the memory and the executed commands are added to the machine before this method returns.
+     * <br><br>
+     * Since the budget is only checked at backward jumps, up to as many commands as the program has lines may be
+     * executed after the budget has been used up.
+     *
+     * @param memory The memory of the machine including the accumulator at index 0
+     * @param pc The program counter to start at
+     * @param machine The machine whose program is executed, which is used to check its state and to count the
+     *                executed commands
+     * @param budget The number of executed commands after which the execution is left at the next backward jump
+     * @return The program counter of the command that has to be executed by the machine
+     */
+    int run(int[] memory, int pc, RandomAccessMachine machine, long budget);
+}
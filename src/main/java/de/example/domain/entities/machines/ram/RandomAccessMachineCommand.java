@@ -3,8 +3,7 @@ package de.example.domain.entities.machines.ram;
 import de.example.domain.entities.Status;
 import de.example.domain.entities.machines.Command;
 import de.example.domain.entities.machines.Machine;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.Objects;
 
 /** This type represents a decoded command for a random access machine and provides the ability to execute it. */
 public class RandomAccessMachineCommand implements Command {
@@ -12,31 +11,33 @@ public class RandomAccessMachineCommand implements Command {
     //: SECTION: - ATTRIBUTES
 
     /**
-     * This attribute stores the name of the command which must be equal to the
-     * name of the method of the {@code RandomAccessMachine} class.
+     * This attribute stores the opcode of the command or {@code null}, if the name of the command does not refer to
+     * a command of the random access machine.
+     *
+     * <br><br><b>Discussion</b><br>
+     * User-generated HOP commands are regarded as errors as it does not represent an actual random access machine
+     * command. Machine-generated HOP commands are regarded as valid and are constructed if the user enters a line that
+     * does not contain any text. Thus, the opcode of a user-generated HOP command is {@code null} as well.
      */
-    private final String name;
+    private final RandomAccessMachineOpcode opcode;
 
     /** This attribute stores the operand of the command. */
     private final int value;
 
-    /**
-     * This attribute stores whether the command is user-generated or not.
-     *
-     * <br><br><b>Discussion</b><br>
-     * It is used to distinguish user-generated and machine-generated HOP commands. User-generated HOP commands are
-     * regarded as errors as it does not represent an actual random access machine command. Machine-generated HOP
-     * commands are regarded as valid and are constructed if the user enters a line that does not contain any text.
-     */
-    private final boolean isUserGenerated;
-
     //: SECTION: - CONSTRUCTORS
 
+    /** This constructor creates a random access machine command with the given opcode. */
+    public RandomAccessMachineCommand(RandomAccessMachineOpcode opcode, int value) {
+        this.opcode = opcode;
+        this.value = value;
+    }
+
     /** This constructor creates a random access machine command that can be either user-generated or machine-generated. */
     public RandomAccessMachineCommand(String name, int value, boolean isUserGenerated) {
-        this.name = name.toLowerCase();
-        this.value = value;
-        this.isUserGenerated = isUserGenerated;
+        this(!isUserGenerated && name.equalsIgnoreCase(RandomAccessMachineOpcode.HOP.name())
+                     ? RandomAccessMachineOpcode.HOP
+                     : RandomAccessMachineOpcode.resolve(name),
+             value);
     }
 
     /** This constructor creates a user-generated random access machine command. */
@@ -46,26 +47,104 @@ public class RandomAccessMachineCommand implements Command {
 
     //: SECTION: - METHODS
 
+    /**
+     * This method returns the opcode of this command.
+     *
+     * @return The opcode or {@code null}, if this command does not refer to a command of the random access machine
+     */
+    public RandomAccessMachineOpcode getOpcode() {
+        return this.opcode;
+    }
+
+    /**
+     * This method returns the operand of this command.
+     *
+     * @return The operand
+     */
+    public int getValue() {
+        return this.value;
+    }
+
+    /**
+     * This method checks whether the given object is a random access machine command with the same opcode and
+     * operand as this command.
+     *
+     * @param o The object to be compared
+     * @return {@code true} if the given object is an equal command, otherwise {@code false}
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof RandomAccessMachineCommand command &&
+               this.opcode == command.opcode &&
+               this.value == command.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(this.opcode) + this.value;
+    }
+
+    /**
+     * This method returns the canonical form of this command, which is independent of the case, the whitespaces and
+     * the comment of the line it has been decoded from.
+     *
+     * @return The opcode followed by the operand, e.g. {@code LDA 3}, where the opcode is {@code null} if this command
+     *         does not refer to a command of the random access machine
+     */
+    @Override
+    public String toString() {
+        return this.opcode + " " + this.value;
+    }
+
     /**
      * This method executes this command on the given machine.
      *
      * @param machine The machine to execute the command on
-     * @return The status of the corresponding command
+     * @return The status of the corresponding command or {@code COMMAND_ERROR}, if the command cannot be executed on
+     *         the given machine
      */
     @Override
     public Status execute(Machine machine) {
-        Status status;
+        if (machine instanceof RandomAccessMachine ram)
+            return this.execute(ram);
 
-        if (this.name.equals("hop") && this.isUserGenerated)
-            return Status.COMMAND_ERROR;
+        return Status.COMMAND_ERROR;
+    }
 
-        try {
-            Method method = machine.getClass().getMethod(name, Integer.TYPE);
-            status = (Status)method.invoke(machine, value);
-        } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
-            status = Status.COMMAND_ERROR;
-        }
+    /**
+     * This method executes this command on the given random access machine.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The command is dispatched to the method corresponding to its opcode by a plain switch, so that the execution
+     * neither has to look up the method nor to box the operand.
+     *
+     * @param ram The random access machine to execute the command on
+     * @return The status of the corresponding command or {@code COMMAND_ERROR}, if the opcode is {@code null}
+     */
+    public Status execute(RandomAccessMachine ram) {
+        if (this.opcode == null)
+            return Status.COMMAND_ERROR;
 
-        return status;
+        return switch (this.opcode) {
+            case SET -> ram.set(this.value);
+            case HOP -> ram.hop(this.value);
+            case ADD -> ram.add(this.value);
+            case SUB -> ram.sub(this.value);
+            case MUL -> ram.mul(this.value);
+            case DIV -> ram.div(this.value);
+            case LDA -> ram.lda(this.value);
+            case LDK -> ram.ldk(this.value);
+            case STA -> ram.sta(this.value);
+            case INP -> ram.inp(this.value);
+            case OUT -> ram.out(this.value);
+            case JMP -> ram.jmp(this.value);
+            case JEZ -> ram.jez(this.value);
+            case JNE -> ram.jne(this.value);
+            case JLZ -> ram.jlz(this.value);
+            case JLE -> ram.jle(this.value);
+            case JGZ -> ram.jgz(this.value);
+            case JGE -> ram.jge(this.value);
+            case HLT -> ram.hlt(this.value);
+        };
     }
 }
@@ -0,0 +1,154 @@
+package de.example.domain.entities.machines.ram;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import de.example.core.di.Di;
+import de.example.core.jfr.CompileEvent;
+import de.example.domain.entities.Status;
+import de.example.domain.entities.machines.Command;
+import de.example.domain.entities.machines.Compiler;
+import de.example.domain.entities.machines.Decoder;
+import de.example.domain.entities.machines.Problem;
+import de.example.domain.entities.machines.Program;
+import io.vavr.control.Either;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/** This type compiles a random access machine program. */
+public class RandomAccessMachineCompiler implements Compiler {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute is used to decode the single lines of the program. */
+    private final Decoder decoder;
+
+    /** This attribute is used to find the problems of the program before it is compiled. */
+    private final RandomAccessMachineValidator validator;
+
+    /** This attribute is used to execute the beginning of the program that does not depend on any input. */
+    private final RandomAccessMachineEvaluator evaluator;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /**
+     * This constructor creates a new compiler which uses the given decoder and memory limit and executes at most the
+     * given number of commands of every program at compile time.
+     */
+    @Inject
+    public RandomAccessMachineCompiler(@Named(Di.RAM_DECODER) Decoder decoder,
+                                       @Named(Di.MEMORY_LIMIT) int memoryLimit,
+                                       @Named(Di.EVALUATION_LIMIT) long evaluationLimit) {
+        this.decoder = Objects.requireNonNull(decoder);
+        this.validator = new RandomAccessMachineValidator(memoryLimit);
+        this.evaluator = new RandomAccessMachineEvaluator(decoder, memoryLimit, evaluationLimit);
+    }
+
+    /** This constructor creates a new compiler which uses the given decoder and memory limit without evaluation. */
+    public RandomAccessMachineCompiler(Decoder decoder, int memoryLimit) {
+        this(decoder, memoryLimit, 0);
+    }
+
+    /** This constructor creates a new compiler which uses the given decoder and the default memory limit. */
+    public RandomAccessMachineCompiler(Decoder decoder) {
+        this(decoder, RandomAccessMachine.DEFAULT_MEMORY_LIMIT);
+    }
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method compiles the given program, which is decoding every line of it exactly once.
+     *
+     * <br><br><b>Discussion</b><br>
+     * In contrast to the execution line by line, the whole program is validated before the first command is
+     * executed. Thus, a program containing a line that could not be decoded is rejected as a whole, even if the line
+     * would never be reached. The same applies to every other problem found by the {@code
+     * RandomAccessMachineValidator}, e.g. a memory address that is never accessible. A program without any problem is
+     * verified if its program counter is also unable to leave the program.
+     * <br><br>
+     * Afterwards, the beginning of the program that does not depend on any input is executed by the {@code
+     * RandomAccessMachineEvaluator}, so that every execution of the program continues from its state.
+     *
+     * @param program The program to be compiled, whose lines are separated by the {@code \n} character
+     * @return The compiled program, {@code DECODE_ERROR} if the program is {@code null}, or the status of the problem
+     *         in the first line that has one
+     */
+    @Override
+    public Either<Status, Program> compile(String program) {
+        if (program == null)
+            return Either.left(Status.DECODE_ERROR);
+
+        CompileEvent event = new CompileEvent();
+        event.begin();
+
+        List<RandomAccessMachineCommand> lines = Arrays.asList(this.decodeLines(program));
+        List<Problem> problems = this.validator.validate(lines);
+
+        Either<Status, Program> result = problems.isEmpty()
+                ? Either.right(new Program(lines.toArray(new Command[0]), this.validator.isClosed(lines)))
+                : Either.left(problems.getFirst().getStatus());
+
+        result = result.map(compiled -> compiled.withSnapshot(this.evaluator.evaluate(compiled)));
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.lines = result.fold(_ -> 0, Program::size);
+            event.status = result.fold(Status::name, _ -> Status.OK.name());
+            event.commit();
+        }
+
+        return result;
+    }
+
+    /**
+     * This method finds all problems of the given program, which is decoding every line of it exactly once.
+     *
+     * @param program The program to be validated, whose lines are separated by the {@code \n} character
+     * @return The problems in ascending order of their lines, a single {@code DECODE_ERROR} in the first line if the
+     *         program is {@code null}, or an empty list if the program does not have any problem
+     */
+    @Override
+    public List<Problem> validate(String program) {
+        if (program == null)
+            return List.of(new Problem(1, Status.DECODE_ERROR));
+
+        return this.validator.validate(Arrays.asList(this.decodeLines(program)));
+    }
+
+    /**
+     * This method decodes the lines of the given program.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The lines are decoded in place, so that they are not copied into strings of their own. Like splitting the
+     * program at every line break, empty lines at the end of the program are ignored.
+     *
+     * @param program The program, whose lines are separated by the {@code \n} character
+     * @return The decoded lines, where an element is {@code null} if the line could not be decoded
+     */
+    private RandomAccessMachineCommand[] decodeLines(String program) {
+        int end = program.length();
+
+        while (end > 0 && program.charAt(end - 1) == '\n')
+            end--;
+
+        int lines = end == 0 && !program.isEmpty() ? 0 : 1;
+        for (int i = 0; i < end; i++)
+            if (program.charAt(i) == '\n')
+                lines++;
+
+        RandomAccessMachineCommand[] commands = new RandomAccessMachineCommand[lines];
+        int begin = 0;
+
+        for (int i = 0; i < lines; i++) {
+            int lineEnd = program.indexOf('\n', begin, end);
+            if (lineEnd < 0)
+                lineEnd = end;
+
+            commands[i] = (RandomAccessMachineCommand) this.decoder.decode(program, begin, lineEnd);
+            begin = lineEnd + 1;
+        }
+
+        return commands;
+    }
+}
@@ -2,11 +2,37 @@ package de.example.domain.entities.machines.ram;
 
 import de.example.domain.entities.machines.Command;
 import de.example.domain.entities.machines.Decoder;
-import java.util.List;
-import java.util.stream.Stream;
 
-/** This type decodes a random access machine command. */
+/**
+ * This type decodes a random access machine command.
+ *
+ * <br><br><b>Discussion</b><br>
+ * The decoder walks the characters of a command exactly once and recognizes the name of the command and the operand
+ * in place, without splitting the command into substrings. Since commands are immutable, the commands with a small,
+ * non-negative operand are created once and shared, which covers almost every command of a typical program. Thus,
+ * decoding a valid command usually does not allocate any memory.
+ */
 public class RandomAccessMachineDecoder implements Decoder {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute stores the number of operands, starting from 0, for which the commands are shared. */
+    private static final int SHARED_OPERANDS = 256;
+
+    /** This attribute contains the shared commands indexed by the ordinal of their opcode and their operand. */
+    private static final RandomAccessMachineCommand[][] SHARED_COMMANDS;
+
+    static {
+        RandomAccessMachineOpcode[] opcodes = RandomAccessMachineOpcode.values();
+        SHARED_COMMANDS = new RandomAccessMachineCommand[opcodes.length][SHARED_OPERANDS];
+
+        for (RandomAccessMachineOpcode opcode : opcodes)
+            for (int operand = 0; operand < SHARED_OPERANDS; operand++)
+                SHARED_COMMANDS[opcode.ordinal()][operand] = new RandomAccessMachineCommand(opcode, operand);
+    }
+
+    //: SECTION: - METHODS
+
     /**
      * This method decodes a random access machine command from the given string.
      *
@@ -18,30 +44,85 @@ public class RandomAccessMachineDecoder implements Decoder {
      */
     @Override
     public Command decode(String command) {
-        if (command != null) {
-            command = command.replace("\t", "");
-
-            List<String> cmd = Stream.of(command.split(" "))
-                    .filter(c -> !c.isBlank())
-                    .toList();
-
-            if (cmd.isEmpty()) {
-                return new RandomAccessMachineCommand("hop", 0, false);
-            }
-
-            // Every random access machine command consists of two components:
-            // the command and the operator, like 'HLT 0'.
-            if (cmd.size() != 2)
-                return null;
-
-            try {
-                int operand = Integer.parseInt(cmd.get(1));
-                return new RandomAccessMachineCommand(cmd.get(0), operand);
-            } catch (NumberFormatException e) {
-                return null;
-            }
+        return command == null ? null : this.decode(command, 0, command.length());
+    }
+
+    /**
+     * This method decodes the random access machine command located between the given indices of the given string.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The components of the command are separated by any whitespace. A command without any component is decoded as a
+     * machine-generated HOP command.
+     *
+     * @param text The string containing the command
+     * @param begin The index of the first character of the command
+     * @param end The index after the last character of the command
+     * @return The same as {@code decode(String)}
+     */
+    @Override
+    public Command decode(String text, int begin, int end) {
+        int nameBegin = skipWhitespace(text, begin, end);
+
+        if (nameBegin == end)
+            return this.command(RandomAccessMachineOpcode.HOP, 0);
+
+        int nameEnd = skipComponent(text, nameBegin, end);
+        int operandBegin = skipWhitespace(text, nameEnd, end);
+        int operandEnd = skipComponent(text, operandBegin, end);
+
+        // Every random access machine command consists of two components:
+        // the command and the operator, like 'HLT 0'.
+        if (operandBegin == end || skipWhitespace(text, operandEnd, end) != end)
+            return null;
+
+        int operand;
+
+        try {
+            operand = Integer.parseInt(text, operandBegin, operandEnd, 10);
+        } catch (NumberFormatException e) {
+            return null;
         }
 
-        return null;
+        RandomAccessMachineOpcode opcode = RandomAccessMachineOpcode.resolve(text, nameBegin, nameEnd);
+        return opcode == null ? new RandomAccessMachineCommand((RandomAccessMachineOpcode) null, operand)
+                              : this.command(opcode, operand);
+    }
+
+    /**
+     * This method returns the command with the given opcode and operand, which is shared if the operand is small.
+     *
+     * @param opcode The opcode of the command
+     * @param operand The operand of the command
+     * @return The command
+     */
+    private RandomAccessMachineCommand command(RandomAccessMachineOpcode opcode, int operand) {
+        if (operand >= 0 && operand < SHARED_OPERANDS)
+            return SHARED_COMMANDS[opcode.ordinal()][operand];
+
+        return new RandomAccessMachineCommand(opcode, operand);
+    }
+
+    /**
+     * This method skips all whitespaces starting at the given index.
+     *
+     * @return The index of the first character that is not a whitespace or {@code end}, if there is none
+     */
+    private static int skipWhitespace(String text, int index, int end) {
+        while (index < end && Character.isWhitespace(text.charAt(index)))
+            index++;
+
+        return index;
+    }
+
+    /**
+     * This method skips all characters that are not a whitespace starting at the given index.
+     *
+     * @return The index of the first whitespace or {@code end}, if there is none
+     */
+    private static int skipComponent(String text, int index, int end) {
+        while (index < end && !Character.isWhitespace(text.charAt(index)))
+            index++;
+
+        return index;
     }
 }
@@ -0,0 +1,259 @@
+package de.example.domain.entities.machines.ram;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import de.example.core.di.Di;
+import de.example.domain.entities.Status;
+import de.example.domain.entities.machines.Command;
+import de.example.domain.entities.machines.Decoder;
+import de.example.domain.entities.machines.Problem;
+import de.example.domain.entities.machines.Program;
+import io.vavr.control.Either;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This type keeps the content of the editor decoded line by line while the user is typing.
+ *
+ * <br><br><b>Discussion</b><br>
+ * Every time the content changes, only the lines between the first and the last changed character are decoded again.
+ * These are found by comparing the new content with the previous one from both ends, which does not require decoding
+ * a single line. Thus, typing in a large program only decodes the edited line, and invalid lines are known
+ * immediately instead of when the program is compiled.
+ * <br><br>
+ * The decoded lines are the same as the ones the {@code RandomAccessMachineCompiler} produces for the same content,
+ * so that a program can be executed without compiling it again.
+ * <br><br>
+ * In the context of Interpredit, this class is only accessed from the JavaFX application thread, as the content is
+ * updated whenever the editor changes and the program is taken over right before the runner thread is started.
+ */
+public class RandomAccessMachineDocument {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute is used to decode the changed lines. */
+    private final Decoder decoder;
+
+    /** This attribute is used to find the problems of the program. */
+    private final RandomAccessMachineValidator validator;
+
+    /** This attribute is used to execute the beginning of the program that does not depend on any input. */
+    private final RandomAccessMachineEvaluator evaluator;
+
+    /** This attribute contains the current content of the editor. */
+    private String text = "";
+
+    /**
+     * This attribute contains the decoded lines of the content, including empty lines at the end. An element is
+     * {@code null} if the line could not be decoded.
+     */
+    private final List<RandomAccessMachineCommand> lines = new ArrayList<>();
+
+    /** This attribute contains the number of lines that could not be decoded or contain an invalid command. */
+    private int invalidLines = 0;
+
+    /**
+     * This attribute contains the compiled program of the current content or {@code null}, if it has not been
+     * compiled since the content has changed.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The program is kept as long as the content does not change, so that running the same program again neither
+     * validates nor evaluates it again and the machine is able to reuse its translation.
+     */
+    private Program program = null;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /**
+     * This constructor creates a new document with empty content, which uses the given decoder and memory limit and
+     * executes at most the given number of commands of the program at compile time.
+     */
+    @Inject
+    public RandomAccessMachineDocument(@Named(Di.RAM_DECODER) Decoder decoder,
+                                       @Named(Di.MEMORY_LIMIT) int memoryLimit,
+                                       @Named(Di.EVALUATION_LIMIT) long evaluationLimit) {
+        this.decoder = Objects.requireNonNull(decoder);
+        this.validator = new RandomAccessMachineValidator(memoryLimit);
+        this.evaluator = new RandomAccessMachineEvaluator(decoder, memoryLimit, evaluationLimit);
+        this.lines.add(this.decode("", 0, 0));
+        this.count(this.lines.getFirst(), 1);
+    }
+
+    /**
+     * This constructor creates a new document with empty content, which uses the given decoder and memory limit
+     * without evaluation.
+     */
+    public RandomAccessMachineDocument(Decoder decoder, int memoryLimit) {
+        this(decoder, memoryLimit, 0);
+    }
+
+    /**
+     * This constructor creates a new document with empty content, which uses the given decoder and the default memory
+     * limit.
+     */
+    public RandomAccessMachineDocument(Decoder decoder) {
+        this(decoder, RandomAccessMachine.DEFAULT_MEMORY_LIMIT);
+    }
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method returns the current content.
+     *
+     * @return The content of the editor
+     */
+    public String getText() {
+        return this.text;
+    }
+
+    /**
+     * This method replaces the content and decodes all lines that have changed.
+     *
+     * @param text The new content of the editor, whose lines are separated by the {@code \n} character
+     */
+    public void update(String text) {
+        Objects.requireNonNull(text);
+
+        String previous = this.text;
+        int previousLength = previous.length();
+        int length = text.length();
+
+        // Determine the unchanged characters at the beginning and at the end of the content.
+        int prefix = 0;
+        int maxPrefix = Math.min(previousLength, length);
+        while (prefix < maxPrefix && previous.charAt(prefix) == text.charAt(prefix))
+            prefix++;
+
+        if (prefix == previousLength && prefix == length)
+            return;
+
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix && previous.charAt(previousLength - suffix - 1) == text.charAt(length - suffix - 1))
+            suffix++;
+
+        // The changed lines are the lines containing the first and the last changed character and all lines between
+        // them. In the previous content, they are replaced by the lines of the new content in the same range.
+        int firstLine = countLineBreaks(text, 0, prefix);
+        int lastPreviousLine = firstLine + countLineBreaks(previous, prefix, previousLength - suffix);
+        int lastLine = firstLine + countLineBreaks(text, prefix, length - suffix);
+
+        List<RandomAccessMachineCommand> changed = this.lines.subList(firstLine, lastPreviousLine + 1);
+        for (RandomAccessMachineCommand line : changed)
+            this.count(line, -1);
+        changed.clear();
+
+        int begin = text.lastIndexOf('\n', prefix - 1) + 1;
+        List<RandomAccessMachineCommand> decoded = new ArrayList<>(lastLine - firstLine + 1);
+
+        for (int line = firstLine; line <= lastLine; line++) {
+            int end = text.indexOf('\n', begin);
+            if (end < 0)
+                end = length;
+
+            RandomAccessMachineCommand command = this.decode(text, begin, end);
+            this.count(command, 1);
+            decoded.add(command);
+            begin = end + 1;
+        }
+
+        this.lines.addAll(firstLine, decoded);
+        this.text = text;
+        this.program = null;
+    }
+
+    /**
+     * This method returns the numbers of all lines that could not be decoded or contain an invalid command.
+     *
+     * @return The line numbers in ascending order, starting from 1
+     */
+    public List<Integer> getInvalidLines() {
+        List<Integer> invalidLines = new ArrayList<>(this.invalidLines);
+
+        for (int i = 0; i < this.lines.size() && invalidLines.size() < this.invalidLines; i++)
+            if (!isValid(this.lines.get(i)))
+                invalidLines.add(i + 1);
+
+        return invalidLines;
+    }
+
+    /**
+     * This method finds all problems of the current content without decoding any line again.
+     *
+     * @return The same as {@code RandomAccessMachineCompiler.validate} for the current content
+     */
+    public List<Problem> getProblems() {
+        return this.validator.validate(this.getProgramLines());
+    }
+
+    /**
+     * This method returns the compiled program of the current content without decoding any line again.
+     *
+     * @return The same as {@code RandomAccessMachineCompiler.compile} for the current content
+     */
+    public Either<Status, Program> getProgram() {
+        if (this.program != null)
+            return Either.right(this.program);
+
+        List<RandomAccessMachineCommand> lines = this.getProgramLines();
+        List<Problem> problems = this.validator.validate(lines);
+
+        if (!problems.isEmpty())
+            return Either.left(problems.getFirst().getStatus());
+
+        Program program = new Program(lines.toArray(new Command[0]), this.validator.isClosed(lines));
+        this.program = program.withSnapshot(this.evaluator.evaluate(program));
+        return Either.right(this.program);
+    }
+
+    /**
+     * This method returns the decoded lines belonging to the program.
+     *
+     * <br><br><b>Discussion</b><br>
+     * Like splitting the content at every line break, empty lines at the end of the content are ignored.
+     *
+     * @return A view of the decoded lines of the program
+     */
+    private List<RandomAccessMachineCommand> getProgramLines() {
+        int size = this.lines.size();
+        int end = this.text.length();
+
+        while (end > 0 && this.text.charAt(end - 1) == '\n') {
+            end--;
+            size--;
+        }
+
+        if (end == 0 && !this.text.isEmpty())
+            size = 0;
+
+        return this.lines.subList(0, size);
+    }
+
+    /** This method decodes the line between the given indices of the given content. */
+    private RandomAccessMachineCommand decode(String text, int begin, int end) {
+        return (RandomAccessMachineCommand) this.decoder.decode(text, begin, end);
+    }
+
+    /** This method adds the given delta to the number of invalid lines, if the given line is invalid. */
+    private void count(RandomAccessMachineCommand line, int delta) {
+        if (!isValid(line))
+            this.invalidLines += delta;
+    }
+
+    /** This method checks whether the given line has been decoded and contains a valid command. */
+    private static boolean isValid(RandomAccessMachineCommand line) {
+        return line != null && line.getOpcode() != null;
+    }
+
+    /** This method counts the line breaks between the given indices of the given string. */
+    private static int countLineBreaks(String text, int begin, int end) {
+        int count = 0;
+
+        for (int i = begin; i < end; i++)
+            if (text.charAt(i) == '\n')
+                count++;
+
+        return count;
+    }
+}
@@ -0,0 +1,105 @@
+package de.example.domain.entities.machines.ram;
+
+import de.example.domain.entities.InputQueue;
+import de.example.domain.entities.Status;
+import de.example.domain.entities.machines.Decoder;
+import de.example.domain.entities.machines.Program;
+import de.example.domain.entities.machines.Snapshot;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * This type evaluates the beginning of a random access machine program that does not depend on any input when the
+ * program is compiled.
+ *
+ * <br><br><b>Discussion</b><br>
+ * Many programs start by initializing their memory with constants and computing values from them, e.g. a table of
+ * squares, before they read their first input. Every execution of such a program repeats exactly the same commands,
+ * which is especially costly if the same program is executed for many input vectors of a batch. The evaluator
+ * therefore executes the program on a machine without any input until it reaches the first INP command, ends or
+ * causes an error. The state of the machine at this point is attached to the program as a {@code Snapshot}, from which
+ * every machine loading the program continues.
+ * <br><br>
+ * The evaluation stops after a limited number of commands, so that compiling a long running program does not take
+ * long. In this case, the snapshot contains the state after these commands. A program whose memory is too large to be
+ * stored in a single array is not evaluated, since its snapshot would occupy the same amount of memory.
+ */
+public class RandomAccessMachineEvaluator {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute stores the default maximum number of commands that are executed at compile time. */
+    public static final long DEFAULT_LIMIT = 100_000;
+
+    /** This attribute stores the maximum number of outputs a snapshot contains. */
+    private static final int MAX_OUTPUTS = 1_000;
+
+    /** This attribute is used by the machine executing the program. */
+    private final Decoder decoder;
+
+    /** This attribute stores the maximum number of fields of the memory accessible to the user. */
+    private final int memoryLimit;
+
+    /** This attribute stores the maximum number of commands that are executed at compile time. */
+    private final long limit;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /**
+     * This constructor creates a new evaluator.
+     *
+     * @param decoder The decoder used by the machine executing the program
+     * @param memoryLimit The maximum number of fields of the memory accessible to the user
+     * @param limit The maximum number of commands that are executed, where 0 disables the evaluation
+     */
+    public RandomAccessMachineEvaluator(Decoder decoder, int memoryLimit, long limit) {
+        if (limit < 0)
+            throw new IllegalArgumentException("limit must not be negative");
+
+        this.decoder = Objects.requireNonNull(decoder);
+        this.memoryLimit = memoryLimit;
+        this.limit = limit;
+    }
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method executes the given program until it requires an input, ends, causes an error or the limit has been
+     * reached.
+     *
+     * <br><br><b>Discussion</b><br>
+     * A command returning a status other than {@code OK} does not change the state of the machine, e.g. an INP command
+     * without any input or a division by zero. It is therefore not part of the snapshot, but executed again by the
+     * machine continuing from it. The same applies to an OUT command after the maximum number of outputs. An INP
+     * command without any input is not counted by the machine in the first place.
+     *
+     * @param program The compiled program, which must only consist of random access machine commands
+     * @return The state of the machine after the evaluated commands or {@code null}, if no command could be evaluated
+     */
+    public Snapshot evaluate(Program program) {
+        if (this.limit == 0 || program == null)
+            return null;
+
+        RandomAccessMachine machine = new RandomAccessMachine(new InputQueue(), this.decoder, this.memoryLimit);
+        IntStream.Builder outputs = IntStream.builder();
+
+        // The snapshot should not grow with the outputs, so that the evaluation stops at an OUT command beyond the
+        // limit, which then is not executed.
+        machine.setOutputLimit(MAX_OUTPUTS);
+        machine.setOutput(outputs);
+        machine.load(program);
+
+        Status status = machine.run(this.limit);
+        long steps = status == Status.STEP_LIMIT_ERROR || status == Status.PROGRAM_ADDRESS_ERROR ||
+                     status == Status.INPUT
+                ? machine.getSteps()
+                : machine.getSteps() - 1;
+
+        int[] memory = machine.memory == null ? null : machine.memory.array();
+
+        if (steps <= 0 || memory == null)
+            return null;
+
+        return new Snapshot(machine.pc, memory, steps, outputs.build().toArray());
+    }
+}
@@ -0,0 +1,441 @@
+package de.example.domain.entities.machines.ram;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * This type represents a loop of a verified program consisting of a single sequence of commands, whose iterations
+ * can be skipped as a whole if it counts up or down to a bound.
+ *
+ * <br><br><b>Discussion</b><br>
+ * Programs without a suitable command, e.g. multiplying by repeatedly adding, take as many iterations as the value of
+ * their operands. Such a loop only consists of LDA, LDK, STA, ADD, SUB and MUL commands and is either left by the
+ * conditional jump back to its header at the end or by a single conditional jump out of the loop, in which case it
+ * ends with a JMP command back to its header.
+ * <br><br>
+ * Whenever the program counter refers to the header, one iteration is executed symbolically, which expresses the
+ * value of every field written by the loop as a linear combination of the values before the iteration. Fields that
+ * are not written keep their value, so that they are inserted as constants. The loop is skipped if its exit depends
+ * only on fields that are incremented by a constant, e.g. a counter, since the iteration in which it is left is then
+ * computed directly. Every written field must change in a way that can be computed for any number of iterations:
+ * <ul>
+ *  <li>
+ *      {@code x + c}, e.g. a counter or the sum of a multiplication, which is {@code x + n * c} after {@code n}
+ *      iterations.
+ *  </li>
+ *  <li>
+ *      {@code a * x + c}, e.g. the product of an exponentiation, which is computed by squaring.
+ *  </li>
+ *  <li>
+ *      Any combination of fields of the first kind, e.g. the accumulator, which is computed from the values before
+ *      the last iteration.
+ *  </li>
+ * </ul>
+ * All values are computed with {@code int} arithmetic, which wraps around exactly like the commands do, since
+ * addition and multiplication modulo 2<sup>32</sup> do not depend on the order of the operations. The machine then
+ * continues at the header before the iteration in which the loop is left, so that the last iteration including the
+ * exit is executed as usual.
+ */
+public final class RandomAccessMachineLoop {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute stores the value returned by {@code iterations} if the loop is never left. */
+    private static final long INFINITE = -1;
+
+    /** This attribute contains the commands of the loop, starting with the command of the header. */
+    private final RandomAccessMachineCommand[] commands;
+
+    /** This attribute stores the index of the jump leaving the loop within {@code commands}. */
+    private final int exit;
+
+    /**
+     * This attribute stores whether the loop is left if the condition of the exit is met, which is the case for a
+     * jump out of the loop, or if it is not met, which is the case for the jump back to the header.
+     */
+    private final boolean exitOnCondition;
+
+    /** This attribute contains the memory addresses written by the loop in ascending order, starting with 0. */
+    private final int[] fields;
+
+    /**
+     * This attribute contains the index of the operand of every command within {@code fields} or -1, if the operand
+     * is not written by the loop or the command does not access the memory.
+     */
+    private final int[] operands;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /**
+     * This constructor creates a new loop.
+     *
+     * @param commands The commands of the loop, starting with the command of the header and ending with the jump back
+     *                 to it
+     * @param exit The index of the jump leaving the loop within the commands
+     */
+    public RandomAccessMachineLoop(RandomAccessMachineCommand[] commands, int exit) {
+        this.commands = commands.clone();
+        this.exit = exit;
+        this.exitOnCondition = exit != commands.length - 1;
+        this.fields = IntStream.concat(IntStream.of(0),
+                                       Arrays.stream(commands)
+                                             .filter(command -> command.getOpcode() == RandomAccessMachineOpcode.STA)
+                                             .mapToInt(RandomAccessMachineCommand::getValue))
+                               .distinct()
+                               .sorted()
+                               .toArray();
+        this.operands = new int[commands.length];
+
+        for (int i = 0; i < commands.length; i++)
+            this.operands[i] = isMemoryCommand(commands[i].getOpcode())
+                    ? Math.max(Arrays.binarySearch(this.fields, commands[i].getValue()), -1)
+                    : -1;
+    }
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method returns the number of commands executed by a single iteration.
+     *
+     * @return The number of lines of the loop
+     */
+    public int getLength() {
+        return this.commands.length;
+    }
+
+    /**
+     * This method checks whether the iterations of this loop might be skipped, which is the case if the loop is
+     * skipped for at least some values of the fields it does not write.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The fields that are not written are assumed to be neither 0 nor 1, so that no product vanishes or keeps a field
+     * unchanged by accident. A loop failing this check is never skipped, so that its iterations are not slowed down by
+     * executing them symbolically again and again.
+     *
+     * @return {@code true} if the iterations might be skipped, otherwise {@code false}
+     */
+    public boolean isSkippable() {
+        int[][] state = this.iterate(address -> 3);
+        return state != null && this.isComputable(state);
+    }
+
+    /**
+     * This method skips the iterations of the loop the program counter of the given machine refers to, as long as the
+     * loop is not left and the given budget suffices.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The machine is only changed if at least one iteration is skipped. Afterwards, the program counter still refers
+     * to the header. A loop that is never left is only skipped up to a limited budget, since an unlimited program is
+     * supposed to run until it is interrupted.
+     *
+     * @param machine The machine executing a verified program, whose program counter refers to the header
+     * @param budget The maximum number of commands that may be executed or {@code Long.MAX_VALUE}, if the program is
+     *               not limited
+     * @return The number of executed commands, which is 0 if the iterations cannot be skipped
+     */
+    public long execute(RandomAccessMachine machine, long budget) {
+        int[][] state = this.iterate(machine::load);
+
+        if (state == null || !this.isComputable(state))
+            return 0;
+
+        int size = this.fields.length + 1;
+        int[] values = new int[size];
+        values[size - 1] = 1;
+
+        for (int i = 0; i < this.fields.length; i++)
+            values[i] = machine.load(this.fields[i]);
+
+        // The value checked by the exit changes by the same amount in every iteration.
+        int[] check = state[this.fields.length];
+        int start = evaluate(check, values);
+        int step = 0;
+
+        for (int i = 0; i < this.fields.length; i++)
+            step += check[i] * state[i][size - 1];
+
+        long iterations = this.iterations(start, step);
+
+        if (iterations == INFINITE && budget == Long.MAX_VALUE)
+            return 0;
+
+        long skipped = iterations == INFINITE
+                ? budget / this.commands.length
+                : Math.min(iterations, budget / this.commands.length);
+
+        if (skipped < 1)
+            return 0;
+
+        int[] results = this.advance(state, values, skipped);
+
+        for (int i = 0; i < this.fields.length; i++)
+            machine.store(this.fields[i], results[i]);
+
+        return skipped * this.commands.length;
+    }
+
+    /**
+     * This method executes one iteration of the loop symbolically.
+     *
+     * @param memory The function returning the value of a field that is not written by the loop
+     * @return The expression of every written field after the iteration followed by the expression checked by the
+     *         exit, where the last element of every expression is its constant, or {@code null}, if two fields are
+     *         multiplied
+     */
+    private int[][] iterate(IntUnaryOperator memory) {
+        int size = this.fields.length + 1;
+        int[][] state = new int[size][];
+
+        for (int i = 0; i < this.fields.length; i++) {
+            state[i] = new int[size];
+            state[i][i] = 1;
+        }
+
+        for (int i = 0; i < this.commands.length; i++) {
+            RandomAccessMachineCommand command = this.commands[i];
+            int[] accumulator = state[0];
+            int index = this.operands[i];
+            int[] operand = null;
+
+            if (index >= 0)
+                operand = state[index];
+            else if (isMemoryCommand(command.getOpcode()))
+                operand = constant(size, memory.applyAsInt(command.getValue()));
+
+            if (i == this.exit)
+                state[size - 1] = accumulator;
+
+            switch (command.getOpcode()) {
+                case LDA -> state[0] = operand;
+                case LDK -> state[0] = constant(size, command.getValue());
+                case STA -> state[index] = accumulator;
+                case ADD -> state[0] = combine(accumulator, operand, 1);
+                case SUB -> state[0] = combine(accumulator, operand, -1);
+                case MUL -> {
+                    if (isConstant(operand))
+                        state[0] = combine(constant(size, 0), accumulator, operand[size - 1]);
+                    else if (isConstant(accumulator))
+                        state[0] = combine(constant(size, 0), operand, accumulator[size - 1]);
+                    else
+                        return null;
+                }
+                default -> {}
+            }
+        }
+
+        return state;
+    }
+
+    /**
+     * This method checks whether the value of every written field and the value checked by the exit can be computed
+     * for any number of iterations.
+     *
+     * @param state The expression of every written field after one iteration followed by the expression checked by
+     *              the exit
+     * @return {@code true} if the values can be computed, otherwise {@code false}
+     */
+    private boolean isComputable(int[][] state) {
+        for (int i = 0; i < state.length; i++) {
+            if (i < this.fields.length && this.isAffine(state, i))
+                continue;
+
+            // The check and every other field may only depend on fields that are incremented.
+            for (int j = 0; j < this.fields.length; j++)
+                if (state[i][j] != 0 && !this.isIncrement(state, j))
+                    return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * This method computes the values of the written fields after the given number of iterations.
+     *
+     * @param state The expression of every written field after one iteration followed by the expression checked by
+     *              the exit, which must be computable
+     * @param values The values of the fields before the first iteration followed by 1
+     * @param iterations The number of iterations, which must be positive
+     * @return The values of the fields
+     */
+    private int[] advance(int[][] state, int[] values, long iterations) {
+        int size = values.length;
+        int[] results = new int[size - 1];
+        int[] previous = values.clone();
+
+        // The values before the last iteration are only needed for the fields that are incremented.
+        for (int i = 0; i < size - 1; i++)
+            if (this.isIncrement(state, i))
+                previous[i] = values[i] + (int) (iterations - 1) * state[i][size - 1];
+
+        for (int i = 0; i < size - 1; i++) {
+            int[] expression = state[i];
+
+            if (this.isIncrement(state, i))
+                results[i] = values[i] + (int) iterations * expression[size - 1];
+            else if (this.isAffine(state, i))
+                results[i] = power(expression[i], expression[size - 1], iterations, values[i]);
+            else
+                results[i] = evaluate(expression, previous);
+        }
+
+        return results;
+    }
+
+    /**
+     * This method determines the first iteration in which the loop is left.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The value checked by the exit forms an arithmetic progression that wraps around. Every condition but JNE and
+     * JEZ is met for an interval of values, which the progression leaves as soon as it exceeds the bound it moves
+     * towards. Since a single step is smaller than the values outside of the interval, the progression cannot skip
+     * them after wrapping around. The loop of a JNE command is left at the solution of a linear congruence modulo
+     * 2<sup>32</sup>, if there is one.
+     *
+     * @param start The value checked in the first iteration
+     * @param step The amount by which the checked value changes in every iteration
+     * @return The index of the iteration or {@code INFINITE}, if the loop is never left
+     */
+    private long iterations(int start, int step) {
+        RandomAccessMachineOpcode opcode = this.commands[this.exit].getOpcode();
+
+        // Determine the values for which the loop continues.
+        long low = Integer.MIN_VALUE;
+        long high = Integer.MAX_VALUE;
+        boolean zero = opcode == RandomAccessMachineOpcode.JEZ;
+
+        switch (opcode) {
+            case JLZ -> high = -1;
+            case JLE -> high = 0;
+            case JGZ -> low = 1;
+            case JGE -> low = 0;
+            case JEZ, JNE -> {}
+            default -> {
+                return 0;
+            }
+        }
+
+        if (this.exitOnCondition) {
+            zero = opcode == RandomAccessMachineOpcode.JNE;
+
+            if (low == Integer.MIN_VALUE && high != Integer.MAX_VALUE) {
+                low = high + 1;
+                high = Integer.MAX_VALUE;
+            } else if (high == Integer.MAX_VALUE && low != Integer.MIN_VALUE) {
+                high = low - 1;
+                low = Integer.MIN_VALUE;
+            }
+        }
+
+        if (opcode == RandomAccessMachineOpcode.JEZ || opcode == RandomAccessMachineOpcode.JNE) {
+            if (zero)
+                return start != 0 ? 0 : step == 0 ? INFINITE : 1;
+            if (start == 0)
+                return 0;
+            if (step == 0)
+                return INFINITE;
+
+            // Solve start + i * step = 0 modulo 2^32, which requires the trailing zeros of the step in the start.
+            int shift = Integer.numberOfTrailingZeros(step);
+
+            if ((start & ((1 << shift) - 1)) != 0)
+                return INFINITE;
+
+            int odd = step >> shift;
+            int inverse = odd;
+
+            for (int i = 0; i < 5; i++)
+                inverse *= 2 - odd * inverse;
+
+            return Integer.toUnsignedLong(-(start >> shift) * inverse) & ((1L << (32 - shift)) - 1);
+        }
+
+        if (start < low || start > high)
+            return 0;
+        if (step == 0)
+            return INFINITE;
+
+        return step > 0
+                ? (high - start) / step + 1
+                : (start - low) / -(long) step + 1;
+    }
+
+    /** This method checks whether the given opcode belongs to a command of a loop that accesses the memory. */
+    private static boolean isMemoryCommand(RandomAccessMachineOpcode opcode) {
+        return switch (opcode) {
+            case LDA, STA, ADD, SUB, MUL -> true;
+            default -> false;
+        };
+    }
+
+    /** This method checks whether the given field is incremented by a constant in every iteration. */
+    private boolean isIncrement(int[][] state, int field) {
+        return this.isAffine(state, field) && state[field][field] == 1;
+    }
+
+    /** This method checks whether the given field only depends on its own value before every iteration. */
+    private boolean isAffine(int[][] state, int field) {
+        int[] expression = state[field];
+
+        for (int i = 0; i < expression.length - 1; i++)
+            if (i != field && expression[i] != 0)
+                return false;
+
+        return expression[field] != 0;
+    }
+
+    /** This method returns an expression of the given size, which is the given constant. */
+    private static int[] constant(int size, int value) {
+        int[] expression = new int[size];
+        expression[size - 1] = value;
+        return expression;
+    }
+
+    /** This method checks whether the given expression does not depend on any field. */
+    private static boolean isConstant(int[] expression) {
+        for (int i = 0; i < expression.length - 1; i++)
+            if (expression[i] != 0)
+                return false;
+
+        return true;
+    }
+
+    /** This method returns the sum of the first expression and the second one multiplied by the given factor. */
+    private static int[] combine(int[] first, int[] second, int factor) {
+        int[] expression = new int[first.length];
+
+        for (int i = 0; i < expression.length; i++)
+            expression[i] = first[i] + second[i] * factor;
+
+        return expression;
+    }
+
+    /** This method computes the value of the given expression for the given values followed by 1. */
+    private static int evaluate(int[] expression, int[] values) {
+        int value = 0;
+
+        for (int i = 0; i < expression.length; i++)
+            value += expression[i] * values[i];
+
+        return value;
+    }
+
+    /** This method applies {@code x -> factor * x + summand} the given number of times to the given value. */
+    private static int power(int factor, int summand, long iterations, int value) {
+        int resultFactor = 1;
+        int resultSummand = 0;
+
+        while (iterations > 0) {
+            if ((iterations & 1) != 0) {
+                resultSummand = factor * resultSummand + summand;
+                resultFactor *= factor;
+            }
+
+            summand = factor * summand + summand;
+            factor *= factor;
+            iterations >>= 1;
+        }
+
+        return resultFactor * value + resultSummand;
+    }
+}
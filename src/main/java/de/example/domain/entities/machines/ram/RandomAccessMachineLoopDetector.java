@@ -0,0 +1,138 @@
+package de.example.domain.entities.machines.ram;
+
+import java.util.Arrays;
+
+/**
+ * This type detects infinite loops of a random access machine program by recognizing a state of the machine the
+ * program has already been in.
+ *
+ * <br><br><b>Discussion</b><br>
+ * Apart from its inputs, a random access machine is fully deterministic in its program counter and its memory
+ * including the accumulator. If a program reaches the same state twice without reading an input in between, it
+ * repeats the commands in between forever.
+ * <br><br>
+ * The state is reduced to a 64-bit fingerprint. The memory part of it is the XOR of a hash of every field that is not
+ * 0, which is updated with every write instead of hashing the whole memory again. Fingerprints are only taken at
+ * backward jumps, since every loop contains one, and stored in a table of fixed size. If the table is full, it is
+ * cleared and the fingerprints are taken at every second backward jump from then on, so that long running programs
+ * neither occupy more memory nor spend more time on fingerprinting. This way, every infinite loop whose states
+ * repeat after at most a few thousand backward jumps is detected, which covers the usual ones, e.g. a loop whose
+ * counter is never changed. Two different states having the same fingerprint is theoretically possible, but so
+ * unlikely that it is neglected.
+ */
+public final class RandomAccessMachineLoopDetector {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute stores the number of fingerprints the table can hold, which is a power of 2. */
+    private static final int CAPACITY = 1 << 12;
+
+    /** This attribute stores the number of fingerprints after which the table is considered full. */
+    private static final int THRESHOLD = CAPACITY / 4 * 3;
+
+    /** This attribute stores the maximum number of backward jumps between two fingerprints. */
+    private static final int MAX_INTERVAL = 1 << 16;
+
+    /** This attribute contains the fingerprints in an open addressing table, where 0 marks a free slot. */
+    private final long[] fingerprints = new long[CAPACITY];
+
+    /** This attribute stores the number of fingerprints in the table. */
+    private int count = 0;
+
+    /** This attribute stores the number of backward jumps between two fingerprints. */
+    private int interval = 1;
+
+    /** This attribute stores the number of backward jumps until the next fingerprint is taken. */
+    private int countdown = 1;
+
+    /** This attribute contains the hash of the memory, which is 0 for a memory only containing 0. */
+    private long hash = 0;
+
+    //: SECTION: - METHODS
+
+    /** This method resets the detector for a new program execution. */
+    public void reset() {
+        this.forget();
+        this.interval = 1;
+        this.countdown = 1;
+        this.hash = 0;
+    }
+
+    /**
+     * This method discards all fingerprints, which is necessary whenever the program reads an input, since the state
+     * of the machine does not determine the rest of the execution anymore.
+     */
+    public void forget() {
+        if (this.count > 0) {
+            Arrays.fill(this.fingerprints, 0);
+            this.count = 0;
+        }
+    }
+
+    /** This method informs the detector that the memory has been initialized, so that all of its fields are 0. */
+    public void initialize() {
+        this.hash = 0;
+    }
+
+    /**
+     * This method updates the hash of the memory after a field has been written.
+     *
+     * @param address The address of the field, where 0 refers to the accumulator
+     * @param previous The value of the field before it has been written
+     * @param value The value of the field after it has been written
+     */
+    public void write(int address, int previous, int value) {
+        this.hash ^= hash(address, previous) ^ hash(address, value);
+    }
+
+    /**
+     * This method takes a fingerprint of the state of the machine, if it is due, and checks whether the machine has
+     * already been in this state.
+     *
+     * @param pc The program counter, which refers to the line a backward jump has jumped to
+     * @param size The number of fields of the memory or -1, if it has not been initialized yet
+     * @return {@code true} if the state has already been reached before, otherwise {@code false}
+     */
+    public boolean isRepeated(int pc, int size) {
+        if (--this.countdown > 0)
+            return false;
+
+        this.countdown = this.interval;
+
+        long fingerprint = mix(this.hash ^ mix(((long) pc << 32 | (size & 0xFFFFFFFFL)) + 0x9E3779B97F4A7C15L));
+        if (fingerprint == 0)
+            fingerprint = 1;
+
+        int mask = CAPACITY - 1;
+        int index = (int) fingerprint & mask;
+
+        while (this.fingerprints[index] != 0) {
+            if (this.fingerprints[index] == fingerprint)
+                return true;
+
+            index = (index + 1) & mask;
+        }
+
+        this.fingerprints[index] = fingerprint;
+
+        if (++this.count == THRESHOLD) {
+            this.forget();
+            this.interval = Math.min(this.interval * 2, MAX_INTERVAL);
+            this.countdown = this.interval;
+        }
+
+        return false;
+    }
+
+    /** This method determines the hash of a field, which is 0 if the field contains 0. */
+    private static long hash(int address, int value) {
+        return value == 0 ? 0 : mix((long) address << 32 | (value & 0xFFFFFFFFL));
+    }
+
+    /** This method scrambles the bits of the given value, which is the finalizer of the SplitMix64 generator. */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,59 @@
+package de.example.domain.entities.machines.ram;
+
+/**
+ * A type that represents the memory of a random access machine including the accumulator, which is located at
+ * address 0.
+ *
+ * <br><br><b>Discussion</b><br>
+ * Small memories are stored densely in an array, whereas large ones are split into pages which are only allocated
+ * when they are written for the first time. Thus, initializing a large memory neither fills millions of fields with
+ * 0 nor keeps them allocated if the program only uses a few of them.
+ */
+public interface RandomAccessMachineMemory {
+
+    /** The largest memory that is stored densely in an array, in fields including the accumulator. */
+    int DENSE_LIMIT = 1 << 16;
+
+    /**
+     * This method creates a memory whose fields are all initialized with 0.
+     *
+     * @param size The number of fields including the accumulator
+     * @return The dense memory, if the number of fields does not exceed {@code DENSE_LIMIT}, otherwise the paged one
+     */
+    static RandomAccessMachineMemory allocate(int size) {
+        return size <= DENSE_LIMIT ? new RandomAccessMachineArrayMemory(size) : new RandomAccessMachinePagedMemory(size);
+    }
+
+    /**
+     * This method returns the value stored at the given address.
+     *
+     * @param address The address, which must be between 0 and the number of fields minus 1
+     * @return The value
+     */
+    int get(int address);
+
+    /**
+     * This method stores the given value at the given address.
+     *
+     * @param address The address, which must be between 0 and the number of fields minus 1
+     * @param value The value to be stored
+     */
+    void set(int address, int value);
+
+    /**
+     * This method returns the number of fields of this memory.
+     *
+     * @return The number of fields including the accumulator
+     */
+    int size();
+
+    /**
+     * This method returns the array this memory is stored in, which enables execution engines to access the fields
+     * directly.
+     *
+     * @return The array or {@code null}, if this memory is not stored in a single array
+     */
+    default int[] array() {
+        return null;
+    }
+}
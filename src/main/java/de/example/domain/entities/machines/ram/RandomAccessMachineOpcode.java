@@ -0,0 +1,52 @@
+package de.example.domain.entities.machines.ram;
+
+/**
+ * This enumeration contains all commands a random access machine is able to execute.
+ *
+ * <br><br><b>Discussion</b><br>
+ * Every opcode corresponds to the method of the same name of the {@code RandomAccessMachine} class. The opcode is
+ * resolved once when a command is decoded, so that executing the command does not require looking up the method.
+ */
+public enum RandomAccessMachineOpcode {
+    SET, HOP, ADD, SUB, MUL, DIV, LDA, LDK, STA, INP, OUT, JMP, JEZ, JNE, JLZ, JLE, JGZ, JGE, HLT;
+
+    /** This attribute contains all opcodes, so that they are not copied every time an opcode is resolved. */
+    private static final RandomAccessMachineOpcode[] OPCODES = values();
+
+    /**
+     * This method resolves the opcode of the command with the given name, ignoring its case.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The HOP command is never resolved, as it is not accessible to the user.
+     *
+     * @param name The name of the command, e.g. {@code ADD}
+     * @return The opcode of the command or {@code null}, if there is no command with the given name
+     */
+    public static RandomAccessMachineOpcode resolve(String name) {
+        return name == null ? null : resolve(name, 0, name.length());
+    }
+
+    /**
+     * This method resolves the opcode of the command whose name is located between the given indices of the given
+     * string, ignoring its case.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The name is compared in place, so that resolving an opcode does not allocate any memory.
+     *
+     * @param text The string containing the name of the command
+     * @param begin The index of the first character of the name
+     * @param end The index after the last character of the name
+     * @return The same as {@code resolve(String)}
+     */
+    public static RandomAccessMachineOpcode resolve(String text, int begin, int end) {
+        int length = end - begin;
+
+        for (RandomAccessMachineOpcode opcode : OPCODES)
+            if (opcode != HOP &&
+                opcode.name().length() == length &&
+                text.regionMatches(true, begin, opcode.name(), 0, length))
+                return opcode;
+
+        return null;
+    }
+}
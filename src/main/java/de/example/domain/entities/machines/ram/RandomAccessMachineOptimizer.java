@@ -0,0 +1,170 @@
+package de.example.domain.entities.machines.ram;
+
+import de.example.domain.entities.machines.ram.RandomAccessMachineSuperinstruction.Form;
+import java.util.Arrays;
+
+import static de.example.domain.entities.machines.ram.RandomAccessMachineOpcode.*;
+
+/**
+ * This type finds the sequences of commands of a verified program that can be executed as a superinstruction.
+ *
+ * <br><br><b>Discussion</b><br>
+ * Every line gets the superinstruction of the longest sequence starting at it. Since a superinstruction is only
+ * executed if the program counter refers to its first line, the sequences of consecutive lines may overlap, e.g. the
+ * line after an LDA command may start a sequence of its own, which is executed after a jump to this line.
+ * <br><br>
+ * The sequences must only be executed for verified programs, as a superinstruction does not check the memory
+ * addresses of its commands.
+ * <br><br>
+ * Additionally, the optimizer finds the loops whose iterations might be skipped as a whole. A backward jump is the end
+ * of such a loop if the commands between its target and itself neither access the machine nor jump anywhere else,
+ * apart from a single conditional jump out of the loop if the backward jump is a JMP command. Thus, every iteration
+ * executes the same sequence of commands, which is checked without regard to the values of the memory.
+ */
+public class RandomAccessMachineOptimizer {
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method finds the superinstruction of every line of the given verified program.
+     *
+     * @param program The commands of the verified program
+     * @return The superinstructions indexed by the line of code minus 1, where an element is {@code null} if no
+     *         sequence starts at the line
+     */
+    public RandomAccessMachineSuperinstruction[] optimize(RandomAccessMachineCommand[] program) {
+        RandomAccessMachineSuperinstruction[] superinstructions =
+                new RandomAccessMachineSuperinstruction[program.length];
+
+        for (int i = 0; i < program.length; i++)
+            superinstructions[i] = this.fuse(program, i);
+
+        return superinstructions;
+    }
+
+    /**
+     * This method finds the loops of the given verified program whose iterations might be skipped.
+     *
+     * @param program The commands of the verified program
+     * @return The loops indexed by the line of their header minus 1, where an element is {@code null} if no such loop
+     *         starts at the line
+     */
+    public RandomAccessMachineLoop[] findLoops(RandomAccessMachineCommand[] program) {
+        RandomAccessMachineLoop[] loops = new RandomAccessMachineLoop[program.length];
+
+        for (int end = 0; end < program.length; end++) {
+            int header = program[end].getValue() - 1;
+
+            if (isBranch(program[end].getOpcode()) && header >= 0 && header <= end && loops[header] == null)
+                loops[header] = this.loop(program, header, end);
+        }
+
+        return loops;
+    }
+
+    /**
+     * This method checks whether the given lines form a loop whose iterations might be skipped, which includes
+     * checking the loop with arbitrary values.
+     *
+     * @param program The commands of the verified program
+     * @param header The index of the first command of the loop
+     * @param end The index of the jump back to the header
+     * @return The loop or {@code null}, if the lines do not form such a loop
+     */
+    private RandomAccessMachineLoop loop(RandomAccessMachineCommand[] program, int header, int end) {
+        int exit = program[end].getOpcode() == JMP ? -1 : end;
+
+        for (int line = header; line < end; line++) {
+            RandomAccessMachineCommand command = program[line];
+
+            switch (command.getOpcode()) {
+                case HOP, LDA, LDK, STA, ADD, SUB, MUL -> {}
+                case JEZ, JNE, JLZ, JLE, JGZ, JGE -> {
+                    int target = command.getValue() - 1;
+
+                    if (exit >= 0 || (target >= header && target <= end))
+                        return null;
+
+                    exit = line;
+                }
+                default -> {
+                    return null;
+                }
+            }
+        }
+
+        if (exit < 0)
+            return null;
+
+        RandomAccessMachineLoop loop = new RandomAccessMachineLoop(Arrays.copyOfRange(program, header, end + 1),
+                                                                   exit - header);
+        return loop.isSkippable() ? loop : null;
+    }
+
+    /**
+     * This method determines the superinstruction of the longest sequence starting at the given line.
+     *
+     * @param program The commands of the verified program
+     * @param line The index of the first command of the sequence
+     * @return The superinstruction or {@code null}, if no sequence starts at the given line
+     */
+    private RandomAccessMachineSuperinstruction fuse(RandomAccessMachineCommand[] program, int line) {
+        RandomAccessMachineOpcode first = opcode(program, line);
+        RandomAccessMachineOpcode second = opcode(program, line + 1);
+        RandomAccessMachineOpcode third = opcode(program, line + 2);
+
+        if (first == null || second == null)
+            return null;
+
+        int a = program[line].getValue();
+        int b = program[line + 1].getValue();
+        int c = third == null ? 0 : program[line + 2].getValue();
+
+        return switch (first) {
+            case HOP -> {
+                int length = 1;
+                while (opcode(program, line + length) == HOP)
+                    length++;
+
+                yield length == 1 ? null : new RandomAccessMachineSuperinstruction(Form.HOPS, length, null, 0, 0, 0);
+            }
+            case LDA -> {
+                if (second == SUB && isBranch(third))
+                    yield new RandomAccessMachineSuperinstruction(Form.LOAD_SUBTRACT_BRANCH, 3, third, a, b, c);
+                if (isArithmetic(second) && third == STA)
+                    yield new RandomAccessMachineSuperinstruction(Form.LOAD_OPERATE_STORE, 3, second, a, b, c);
+                if (isBranch(second))
+                    yield new RandomAccessMachineSuperinstruction(Form.LOAD_BRANCH, 2, second, a, b, 0);
+                if (isArithmetic(second))
+                    yield new RandomAccessMachineSuperinstruction(Form.LOAD_OPERATE, 2, second, a, b, 0);
+                yield null;
+            }
+            case ADD, SUB, MUL -> second == STA
+                    ? new RandomAccessMachineSuperinstruction(Form.OPERATE_STORE, 2, first, a, b, 0)
+                    : null;
+            case LDK -> second == STA
+                    ? new RandomAccessMachineSuperinstruction(Form.LOAD_CONSTANT_STORE, 2, null, a, b, 0)
+                    : null;
+            case STA -> second == LDA && a == b
+                    ? new RandomAccessMachineSuperinstruction(Form.STORE_LOAD, 2, null, a, b, 0)
+                    : null;
+            default -> null;
+        };
+    }
+
+    /** This method returns the opcode of the given line or {@code null}, if the line is out of program. */
+    private static RandomAccessMachineOpcode opcode(RandomAccessMachineCommand[] program, int line) {
+        return line < program.length ? program[line].getOpcode() : null;
+    }
+
+    /** This method checks whether the given opcode belongs to an arithmetic command that cannot cause an error. */
+    private static boolean isArithmetic(RandomAccessMachineOpcode opcode) {
+        return opcode == ADD || opcode == SUB || opcode == MUL;
+    }
+
+    /** This method checks whether the given opcode belongs to a jump command. */
+    private static boolean isBranch(RandomAccessMachineOpcode opcode) {
+        return opcode == JMP || opcode == JEZ || opcode == JNE || opcode == JLZ ||
+               opcode == JLE || opcode == JGZ || opcode == JGE;
+    }
+}
@@ -0,0 +1,81 @@
+package de.example.domain.entities.machines.ram;
+
+/**
+ * This type represents a large memory of a random access machine which is split into pages of equal size.
+ *
+ * <br><br><b>Discussion</b><br>
+ * A page is only allocated when one of its fields is written for the first time. Until then, all of its fields are
+ * read as 0. Thus, only the page table has to be allocated when the memory is initialized, and a program only
+ * occupies as much memory as it actually uses.
+ * <br><br>
+ * The pages are arrays on the heap instead of an off-heap memory segment. A segment belongs to an arena, which has to
+ * be closed explicitly to release it, whereas a machine does not have any point at which its memory is known to be
+ * unused anymore, e.g. the machine of a batch job is simply dropped after the job. Arrays are released by the garbage
+ * collector as soon as the memory is no longer referenced.
+ */
+public final class RandomAccessMachinePagedMemory implements RandomAccessMachineMemory {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute stores the binary logarithm of the number of fields of a page. */
+    private static final int PAGE_SHIFT = 12;
+
+    /** This attribute is used to determine the index of a field within its page. */
+    private static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+
+    /** This attribute contains the pages, where an element is {@code null} if the page has not been written yet. */
+    private final int[][] pages;
+
+    /** This attribute stores the number of fields of the memory including the accumulator. */
+    private final int size;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /**
+     * This constructor creates a new memory whose fields are all initialized with 0.
+     *
+     * @param size The number of fields including the accumulator
+     */
+    public RandomAccessMachinePagedMemory(int size) {
+        if (size < 0)
+            throw new IllegalArgumentException("size must not be negative");
+
+        this.pages = new int[(int) (((long) size + PAGE_MASK) >>> PAGE_SHIFT)][];
+        this.size = size;
+    }
+
+    //: SECTION: - METHODS
+
+    @Override
+    public int get(int address) {
+        if (address < 0 || address >= this.size)
+            throw new IndexOutOfBoundsException(address);
+
+        int[] page = this.pages[address >>> PAGE_SHIFT];
+        return page == null ? 0 : page[address & PAGE_MASK];
+    }
+
+    @Override
+    public void set(int address, int value) {
+        if (address < 0 || address >= this.size)
+            throw new IndexOutOfBoundsException(address);
+
+        int[] page = this.pages[address >>> PAGE_SHIFT];
+
+        if (page == null) {
+            // Writing 0 into a page that has not been written yet does not change anything.
+            if (value == 0)
+                return;
+
+            page = new int[PAGE_MASK + 1];
+            this.pages[address >>> PAGE_SHIFT] = page;
+        }
+
+        page[address & PAGE_MASK] = value;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+}
@@ -0,0 +1,177 @@
+package de.example.domain.entities.machines.ram;
+
+/**
+ * This type represents a superinstruction, which executes a frequent sequence of consecutive commands of a verified
+ * program at once.
+ *
+ * <br><br><b>Discussion</b><br>
+ * A superinstruction replaces the dispatch of every single command of the sequence by a single dispatch. It belongs
+ * to the line of the first command and is only executed if the program counter refers to this line. A jump to any
+ * other line of the sequence executes the commands of that line as usual, so that jump targets are not affected.
+ * <br><br>
+ * The commands of the sequence are not able to cause an error, since the memory addresses of a verified program are
+ * proven to be accessible and the sequences neither contain a division nor a command requiring the machine, e.g. INP
+ * and OUT. Afterwards, the program counter and the memory are the same as if the commands had been executed one after
+ * another.
+ */
+public final class RandomAccessMachineSuperinstruction {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This enumeration contains all sequences of commands that are executed as a superinstruction. */
+    public enum Form {
+        /** A sequence of HOP commands, which is caused by consecutive empty lines. */
+        HOPS,
+
+        /** An LDK command followed by an STA command. */
+        LOAD_CONSTANT_STORE,
+
+        /** An STA command followed by an LDA command of the same memory address, which does not change anything. */
+        STORE_LOAD,
+
+        /** An LDA command followed by an ADD, SUB or MUL command. */
+        LOAD_OPERATE,
+
+        /** An ADD, SUB or MUL command followed by an STA command. */
+        OPERATE_STORE,
+
+        /** An LDA command followed by an ADD, SUB or MUL command and an STA command. */
+        LOAD_OPERATE_STORE,
+
+        /** An LDA command followed by a jump command. */
+        LOAD_BRANCH,
+
+        /** An LDA command followed by a SUB command and a jump command, which compares two memory addresses. */
+        LOAD_SUBTRACT_BRANCH
+    }
+
+    /** This attribute stores the sequence of commands this superinstruction executes. */
+    private final Form form;
+
+    /** This attribute stores the number of commands this superinstruction executes. */
+    private final int length;
+
+    /** This attribute stores the opcode of the arithmetic or jump command of the sequence, if there is one. */
+    private final RandomAccessMachineOpcode opcode;
+
+    /** This attribute stores the first operand of the sequence, which is the value of its first command. */
+    private final int first;
+
+    /** This attribute stores the second operand of the sequence. */
+    private final int second;
+
+    /** This attribute stores the third operand of the sequence. */
+    private final int third;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /**
+     * This constructor creates a new superinstruction.
+     *
+     * @param form The sequence of commands the superinstruction executes
+     * @param length The number of commands the superinstruction executes
+     * @param opcode The opcode of the arithmetic or jump command of the sequence or {@code null}, if there is none
+     * @param first The value of the first command of the sequence
+     * @param second The value of the second command of the sequence or 0, if there is none
+     * @param third The value of the third command of the sequence or 0, if there is none
+     */
+    public RandomAccessMachineSuperinstruction(Form form, int length, RandomAccessMachineOpcode opcode,
+                                               int first, int second, int third) {
+        this.form = form;
+        this.length = length;
+        this.opcode = opcode;
+        this.first = first;
+        this.second = second;
+        this.third = third;
+    }
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method returns the sequence of commands this superinstruction executes.
+     *
+     * @return The form of the sequence
+     */
+    public Form getForm() {
+        return this.form;
+    }
+
+    /**
+     * This method returns the number of commands this superinstruction executes.
+     *
+     * @return The number of commands, which is at least 2
+     */
+    public int getLength() {
+        return this.length;
+    }
+
+    /**
+     * This method executes the sequence of commands on the given machine.
+     *
+     * @param machine The machine executing a verified program, whose program counter refers to the first command of
+     *                the sequence
+     */
+    public void execute(RandomAccessMachine machine) {
+        switch (this.form) {
+            case HOPS -> {}
+            case STORE_LOAD -> machine.store(this.first, machine.load(0));
+            case LOAD_CONSTANT_STORE -> {
+                machine.store(0, this.first);
+                machine.store(this.second, this.first);
+            }
+            case LOAD_OPERATE -> machine.store(0, this.operate(machine.load(this.first), machine.load(this.second)));
+            case OPERATE_STORE -> {
+                int accumulator = this.operate(machine.load(0), machine.load(this.first));
+                machine.store(0, accumulator);
+                machine.store(this.second, accumulator);
+            }
+            case LOAD_OPERATE_STORE -> {
+                int accumulator = this.operate(machine.load(this.first), machine.load(this.second));
+                machine.store(0, accumulator);
+                machine.store(this.third, accumulator);
+            }
+            case LOAD_BRANCH -> {
+                int accumulator = machine.load(this.first);
+                machine.store(0, accumulator);
+
+                if (this.isConditionMet(accumulator)) {
+                    machine.pc = this.second - 1;
+                    return;
+                }
+            }
+            case LOAD_SUBTRACT_BRANCH -> {
+                int accumulator = machine.load(this.first) - machine.load(this.second);
+                machine.store(0, accumulator);
+
+                if (this.isConditionMet(accumulator)) {
+                    machine.pc = this.third - 1;
+                    return;
+                }
+            }
+        }
+
+        machine.pc += this.length;
+    }
+
+    /** This method offsets the given operands against each other using the arithmetic command of the sequence. */
+    private int operate(int left, int right) {
+        return switch (this.opcode) {
+            case ADD -> left + right;
+            case SUB -> left - right;
+            default -> left * right;
+        };
+    }
+
+    /** This method checks whether the jump command of the sequence jumps for the given accumulator. */
+    private boolean isConditionMet(int accumulator) {
+        return switch (this.opcode) {
+            case JMP -> true;
+            case JEZ -> accumulator == 0;
+            case JNE -> accumulator != 0;
+            case JLZ -> accumulator < 0;
+            case JLE -> accumulator <= 0;
+            case JGZ -> accumulator > 0;
+            default -> accumulator >= 0;
+        };
+    }
+}
@@ -0,0 +1,162 @@
+package de.example.domain.entities.machines.ram;
+
+import de.example.domain.entities.Status;
+import de.example.domain.entities.machines.Problem;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This type validates the decoded lines of a random access machine program as a whole before it is executed.
+ *
+ * <br><br><b>Discussion</b><br>
+ * Most errors of a program do not depend on any input, but only on the commands and their operands. Lines that could
+ * not be decoded, invalid commands, a missing SET command at the beginning, memory addresses that are never
+ * accessible and jumps out of the program are found here for every line at once, instead of one after another when
+ * the machine reaches them.
+ * <br><br>
+ * A memory address is regarded as never accessible if it is outside the memory initialized by every SET command of
+ * the program, i.e. above the largest one. A program may set a larger memory later on, so that an address above a
+ * smaller SET command is left to be checked when it is accessed. Only if every memory address is within the smallest
+ * memory, the addresses of a program without problems are proven to be accessible at all times, since its memory is
+ * initialized before any other command is executed.
+ */
+public class RandomAccessMachineValidator {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute stores the maximum value of a SET command. */
+    private final int memoryLimit;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /** This constructor creates a new validator which accepts SET commands up to the given memory limit. */
+    public RandomAccessMachineValidator(int memoryLimit) {
+        this.memoryLimit = memoryLimit;
+    }
+
+    /** This constructor creates a new validator which accepts SET commands up to the default memory limit. */
+    public RandomAccessMachineValidator() {
+        this(RandomAccessMachine.DEFAULT_MEMORY_LIMIT);
+    }
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method finds all problems of the given program.
+     *
+     * @param lines The decoded lines of the program, where an element is {@code null} if the line could not be
+     *              decoded
+     * @return The problems in ascending order of their lines, with at most one problem per line, or an empty list if
+     *         the program does not have any problem
+     */
+    public List<Problem> validate(List<RandomAccessMachineCommand> lines) {
+        List<Problem> problems = new ArrayList<>();
+        int size = lines.size();
+        int fields = this.fields(lines, false);
+        boolean leading = true;
+
+        for (int i = 0; i < size; i++) {
+            RandomAccessMachineCommand line = lines.get(i);
+            Status status = null;
+
+            if (line == null) {
+                status = Status.DECODE_ERROR;
+            } else if (line.getOpcode() == null) {
+                status = Status.COMMAND_ERROR;
+            } else if (line.getOpcode() != RandomAccessMachineOpcode.HOP) {
+                // The first command has to be a SET command, as no other command is able to access the memory
+                // before it has been initialized.
+                if (leading && line.getOpcode() != RandomAccessMachineOpcode.SET)
+                    status = Status.SET_ERROR;
+                else
+                    status = this.check(line, size, fields);
+            }
+
+            if (line == null || line.getOpcode() != RandomAccessMachineOpcode.HOP)
+                leading = false;
+
+            if (status != null)
+                problems.add(new Problem(i + 1, status));
+        }
+
+        return problems;
+    }
+
+    /**
+     * This method checks whether the program counter of the given program is unable to leave the program and every
+     * memory address is accessible at all times, provided that {@code validate} does not find any problem in it.
+     *
+     * <br><br><b>Discussion</b><br>
+     * Since the jumps of such a program never leave it, the program counter is only able to leave the program after
+     * its last line. This is impossible if the last line contains either an HLT or a JMP command. The memory addresses
+     * are only accessible at all times if none of them is outside the memory initialized by the smallest SET command.
+     *
+     * @param lines The decoded lines of the program
+     * @return {@code true} if the program counter always refers to a line of the program and no memory address has to
+     *         be checked, otherwise {@code false}
+     */
+    public boolean isClosed(List<RandomAccessMachineCommand> lines) {
+        if (lines.isEmpty() || lines.getLast() == null)
+            return false;
+
+        RandomAccessMachineOpcode opcode = lines.getLast().getOpcode();
+
+        if (opcode != RandomAccessMachineOpcode.HLT && opcode != RandomAccessMachineOpcode.JMP)
+            return false;
+
+        int fields = this.fields(lines, true);
+
+        for (RandomAccessMachineCommand line : lines)
+            if (line != null && this.check(line, lines.size(), fields) == Status.MEMORY_ADDRESS_ERROR)
+                return false;
+
+        return true;
+    }
+
+    /**
+     * This method checks the operand of the given command.
+     *
+     * @param command The command, which is a valid one
+     * @param size The number of lines of the program
+     * @param fields The number of fields the memory addresses are checked against or -1, if there is none
+     * @return The status describing the problem or {@code null}, if the operand is valid
+     */
+    private Status check(RandomAccessMachineCommand command, int size, int fields) {
+        int value = command.getValue();
+
+        return switch (command.getOpcode()) {
+            case SET -> value < 0 || value > this.memoryLimit ? Status.SET_ERROR : null;
+            case ADD, SUB, MUL, DIV, LDA, STA, INP, OUT ->
+                    fields >= 0 && (value < 1 || value > fields) ? Status.MEMORY_ADDRESS_ERROR : null;
+            case JMP, JEZ, JNE, JLZ, JLE, JGZ, JGE -> value < 1 || value > size ? Status.PROGRAM_ADDRESS_ERROR : null;
+            default -> null;
+        };
+    }
+
+    /**
+     * This method determines the smallest or largest number of fields initialized by a valid SET command of the given
+     * program.
+     *
+     * <br><br><b>Discussion</b><br>
+     * If the program does not contain any valid SET command, the memory addresses are not checked at all, as the
+     * invalid or missing SET command is already a problem on its own.
+     *
+     * @param lines The decoded lines of the program
+     * @param smallest {@code true} if the smallest number of fields is determined, otherwise {@code false}
+     * @return The smallest or largest number of fields or -1, if there is no valid SET command
+     */
+    private int fields(List<RandomAccessMachineCommand> lines, boolean smallest) {
+        int fields = -1;
+
+        for (RandomAccessMachineCommand line : lines) {
+            if (line == null || line.getOpcode() != RandomAccessMachineOpcode.SET)
+                continue;
+
+            int value = line.getValue();
+            if (value >= 0 && value <= this.memoryLimit && (fields < 0 || (smallest ? value < fields : value > fields)))
+                fields = value;
+        }
+
+        return fields;
+    }
+}
@@ -0,0 +1,154 @@
+package de.example.domain.usecases;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.name.Named;
+import de.example.core.di.Di;
+import de.example.domain.entities.Limits;
+import de.example.domain.entities.Status;
+import de.example.domain.entities.batch.BatchJob;
+import de.example.domain.entities.batch.BatchResult;
+import de.example.domain.entities.batch.ResultCache;
+import de.example.domain.entities.machines.Compiler;
+import de.example.domain.entities.machines.Machine;
+import de.example.domain.entities.machines.Program;
+import io.vavr.control.Either;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This type executes many programs in parallel, each one on its own machine.
+ *
+ * <br><br><b>Discussion</b><br>
+ * Every job is executed on a new machine in a work-stealing pool, so that the jobs do not share any state apart from
+ * the compiled programs, which are immutable. Programs used by several jobs are compiled only once. Every job is
+ * executed within the same limits, which are enforced like those of a single program execution.
+ * <br><br>
+ * If a cache is given, the result of every job is looked up before its program is executed, so that identical jobs,
+ * e.g. of a resubmitted program, are only executed once. A result is not cached if the program has been interrupted,
+ * since it depends on the time the program has been running.
+ */
+public class BatchUsecase {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute is used to create a new machine for every job. */
+    private final Provider<Machine> machineProvider;
+
+    /** This attribute is used to compile the programs before they are executed. */
+    private final Compiler compiler;
+
+    /** This attribute stores the results of previously executed jobs or {@code null}, if they are not cached. */
+    private final ResultCache cache;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /** This constructor initializes this use case with the appropriate machine provider and compiler. */
+    @Inject
+    public BatchUsecase(@Named(Di.BATCH_MACHINE) Provider<Machine> machineProvider,
+                        @Named(Di.RAM_COMPILER) Compiler compiler) {
+        this(machineProvider, compiler, null);
+    }
+
+    /**
+     * This constructor initializes this use case with the appropriate machine provider and compiler, as well as the
+     * cache the results of the jobs are stored in.
+     */
+    public BatchUsecase(Provider<Machine> machineProvider, Compiler compiler, ResultCache cache) {
+        this.machineProvider = Objects.requireNonNull(machineProvider);
+        this.compiler = Objects.requireNonNull(compiler);
+        this.cache = cache;
+    }
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method executes all given jobs in parallel and waits until every job has finished.
+     *
+     * @param jobs The jobs to be executed
+     * @param limits The limits every job must not exceed
+     * @param parallelism The maximum number of jobs executed at the same time
+     * @return The results of the jobs in the same order as the given jobs
+     */
+    public List<BatchResult> execute(List<BatchJob> jobs, Limits limits, int parallelism) {
+        Map<String, Either<Status, Program>> programs = new HashMap<>();
+
+        for (BatchJob job : jobs)
+            programs.computeIfAbsent(job.getProgram(), this.compiler::compile);
+
+        ExecutorService pool = Executors.newWorkStealingPool(parallelism);
+
+        try {
+            List<Future<BatchResult>> futures = new ArrayList<>(jobs.size());
+
+            for (BatchJob job : jobs) {
+                Either<Status, Program> program = programs.get(job.getProgram());
+                futures.add(pool.submit(() -> this.execute(job, program, limits)));
+            }
+
+            List<BatchResult> results = new ArrayList<>(jobs.size());
+
+            for (Future<BatchResult> future : futures)
+                results.add(future.get());
+
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * This method executes a single job on a new machine.
+     *
+     * @param job The job to be executed
+     * @param program The compiled program of the job or the reason why it could not be compiled
+     * @param limits The limits the job must not exceed
+     * @return The result of the job
+     */
+    private BatchResult execute(BatchJob job, Either<Status, Program> program, Limits limits) {
+        if (program.isLeft())
+            return new BatchResult(job, program.getLeft(), List.of(), 0, 0);
+
+        long start = System.nanoTime();
+        String key = this.cache == null ? null : this.cache.key(program.get(), job.getInputs(), limits);
+        ResultCache.Entry entry = key == null ? null : this.cache.get(key);
+
+        if (entry != null) {
+            return new BatchResult(job, entry.getStatus(), entry.getOutputs(), entry.getSteps(),
+                                   System.nanoTime() - start, true);
+        }
+
+        Machine machine = this.machineProvider.get();
+        ExecuteUsecase executeUsecase = new ExecuteUsecase(machine, this.compiler);
+
+        List<String> outputs = new ArrayList<>();
+
+        // The whole input vector is queued before the program starts, so that no INP command has to wait for it. An
+        // INP command after the last input closes the queue, which stops the program with `INPUT_ERROR`.
+        if (!job.getInputs().isEmpty())
+            machine.deliverInput(String.join(" ", job.getInputs()));
+
+        Status status = executeUsecase.execute(program.get(),
+                                               () -> null,
+                                               output -> outputs.add(String.valueOf(output)),
+                                               limits);
+        long duration = System.nanoTime() - start;
+
+        if (key != null && status != Status.FINISH_FAILURE && status != Status.TIME_LIMIT_ERROR)
+            this.cache.put(key, new ResultCache.Entry(status, outputs, executeUsecase.getSteps()));
+
+        return new BatchResult(job, status, outputs, executeUsecase.getSteps(), duration);
+    }
+}
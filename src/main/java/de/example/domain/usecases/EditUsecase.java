@@ -0,0 +1,40 @@
+package de.example.domain.usecases;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import de.example.core.di.Di;
+import de.example.domain.entities.machines.ram.RandomAccessMachineDocument;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/** This type decodes the changed lines of the program after the user has edited it. */
+public class EditUsecase implements Function<String, List<Integer>> {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute keeps the program decoded line by line. */
+    private final RandomAccessMachineDocument document;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /** This constructor initializes this use case with the appropriate document. */
+    @Inject
+    public EditUsecase(@Named(Di.RAM_DOCUMENT) RandomAccessMachineDocument document) {
+        this.document = Objects.requireNonNull(document);
+    }
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method updates the program and decodes the lines that have changed.
+     *
+     * @param program The edited program, whose lines are separated by the {@code \n} character
+     * @return The numbers of all lines that could not be decoded or contain an invalid command, starting from 1
+     */
+    @Override
+    public List<Integer> apply(String program) {
+        this.document.update(program == null ? "" : program);
+        return this.document.getInvalidLines();
+    }
+}
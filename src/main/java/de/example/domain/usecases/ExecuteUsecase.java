@@ -0,0 +1,184 @@
+package de.example.domain.usecases;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import de.example.core.di.Di;
+import de.example.core.jfr.ProgramRunEvent;
+import de.example.domain.entities.Limits;
+import de.example.domain.entities.Status;
+import de.example.domain.entities.Watchdog;
+import de.example.domain.entities.machines.Compiler;
+import de.example.domain.entities.machines.Machine;
+import de.example.domain.entities.machines.Program;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * This type executes a program on the underlying machine in the calling thread, without any user interface.
+ *
+ * <br><br><b>Discussion</b><br>
+ * In contrast to the {@code RunUsecase}, there is neither a printer thread nor a finisher thread. Inputs are requested
+ * from the given function as soon as the machine requires them, whereas outputs are passed to the given function
+ * directly by the machine. It is used to run programs from the command line.
+ */
+public class ExecuteUsecase {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute stores the machine on which the program is executed. */
+    private final Machine machine;
+
+    /** This attribute is used to compile the program before it is executed. */
+    private final Compiler compiler;
+
+    /** This attribute stores the line of code the last executed program has stopped at. */
+    private int line = 0;
+
+    /** This attribute stores the number of commands the last executed program has executed. */
+    private long steps = 0;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /** This constructor initializes this use case with the appropriate machine and compiler. */
+    @Inject
+    public ExecuteUsecase(@Named(Di.MACHINE) Machine machine,
+                          @Named(Di.RAM_COMPILER) Compiler compiler) {
+        this.machine = Objects.requireNonNull(machine);
+        this.compiler = Objects.requireNonNull(compiler);
+    }
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method compiles the given program and subsequently executes it.
+     *
+     * @param program The program, whose lines are separated by the {@code \n} character
+     * @param input The function that provides the next input or {@code null}, if there is no input left
+     * @param output The function that receives every output
+     * @return The final status of the program, which is either the reason why the program could not be compiled or
+     *         the status the program has finished with
+     */
+    public Status execute(String program, Supplier<String> input, IntConsumer output) {
+        return this.execute(program, input, output, Limits.NONE);
+    }
+
+    /**
+     * This method compiles the given program and subsequently executes it within the given limits.
+     *
+     * @param program The program, whose lines are separated by the {@code \n} character
+     * @param input The function that provides the next input or {@code null}, if there is no input left
+     * @param output The function that receives every output
+     * @param limits The limits the program execution must not exceed
+     * @return The final status of the program, which is either the reason why the program could not be compiled or
+     *         the status the program has finished with
+     */
+    public Status execute(String program, Supplier<String> input, IntConsumer output, Limits limits) {
+        return this.compiler.compile(program)
+                .fold(status -> status, compiled -> this.execute(compiled, input, output, limits));
+    }
+
+    /**
+     * This method executes the given compiled program until it finishes, either successfully or due to an error.
+     *
+     * @param program The compiled program
+     * @param input The function that provides the next input or {@code null}, if there is no input left
+     * @param output The function that receives every output
+     * @return The final status of the program or {@code FINISH_FAILURE}, if the machine has been interrupted
+     */
+    public Status execute(Program program, Supplier<String> input, IntConsumer output) {
+        return this.execute(program, input, output, Limits.NONE);
+    }
+
+    /**
+     * This method executes the given compiled program until it finishes, either successfully, due to an error or
+     * because it has exceeded one of the given limits.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The number of executed commands and the number of outputs are checked by the machine itself. The time limit is
+     * enforced by a watchdog interrupting the machine, which is reported as {@code TIME_LIMIT_ERROR} instead of
+     * {@code FINISH_FAILURE}.
+     *
+     * @param program The compiled program
+     * @param input The function that provides the next input or {@code null}, if there is no input left
+     * @param output The function that receives every output
+     * @param limits The limits the program execution must not exceed
+     * @return The final status of the program or {@code FINISH_FAILURE}, if the machine has been interrupted
+     */
+    public Status execute(Program program, Supplier<String> input, IntConsumer output, Limits limits) {
+        ProgramRunEvent event = new ProgramRunEvent();
+        event.begin();
+
+        Status status = Status.FINISH_FAILURE;
+        long stepLimit = limits.getSteps();
+        this.machine.setOutputLimit(limits.getOutputs());
+        this.machine.load(program);
+        this.machine.setOutput(output);
+
+        Watchdog watchdog = new Watchdog(this.machine, limits.getTime());
+        this.machine.setWatchdog(watchdog);
+
+        try {
+            do {
+                if (this.machine.isInterrupt()) {
+                    status = Status.FINISH_FAILURE;
+                    break;
+                }
+
+                status = this.machine.run(stepLimit);
+
+                // Waiting for the next input does not count towards the time limit.
+                if (status == Status.INPUT) {
+                    watchdog.suspend();
+                    this.machine.deliverInput(input.get());
+                    watchdog.resume();
+                }
+            } while (status == Status.OK ||
+                     status == Status.INPUT);
+
+            if (status == Status.FINISH_FAILURE && watchdog.hasExpired())
+                status = Status.TIME_LIMIT_ERROR;
+        } finally {
+            watchdog.cancel();
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.programHash = program.hashCode();
+                event.lines = program.size();
+                event.status = status.name();
+                event.instructions = this.machine.getSteps();
+                event.commit();
+            }
+
+            // Prepare the machine for the next program execution.
+            this.line = this.machine.getPc() + 1;
+            this.steps = this.machine.getSteps();
+            this.machine.reset();
+        }
+
+        return status;
+    }
+
+    /**
+     * This method returns the line of code the last executed program has stopped at.
+     *
+     * <br><br><b>Discussion</b><br>
+     * For a program stopped due to an error, this is the line of the command causing the error. For an infinite
+     * loop, it is the line the repeated state has been reached at.
+     *
+     * @return The line of code in the value range from 1 to the number of lines of code or 0, if no program has been
+     *         executed yet
+     */
+    public int getLine() {
+        return this.line;
+    }
+
+    /**
+     * This method returns the number of commands the last executed program has executed.
+     *
+     * @return The number of executed commands or 0, if no program has been executed yet
+     */
+    public long getSteps() {
+        return this.steps;
+    }
+}
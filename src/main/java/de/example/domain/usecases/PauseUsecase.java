@@ -0,0 +1,39 @@
+package de.example.domain.usecases;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import de.example.core.di.Di;
+import de.example.domain.entities.machines.Machine;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * This type pauses the machine which will cause the program execution to wait before the next command after the user
+ * has clicked on the pause menu item.
+ */
+public class PauseUsecase implements Supplier<Boolean> {
+
+    //: SECTION: - ATTRIBUTES
+
+    private final Machine machine;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /** This constructor initializes this use case with the appropriate machine. */
+    @Inject
+    public PauseUsecase(@Named(Di.MACHINE) Machine machine) {
+        this.machine = Objects.requireNonNull(machine);
+    }
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method pauses the machine which will cause the program execution to wait before the next command.
+     *
+     * @return {@code true} if the machine has been paused, otherwise {@code false}
+     */
+    @Override
+    public Boolean get() {
+        return this.machine.pause();
+    }
+}
@@ -0,0 +1,39 @@
+package de.example.domain.usecases;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import de.example.core.di.Di;
+import de.example.domain.entities.machines.Machine;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * This type resumes the paused machine which will cause the program execution to continue after the user has clicked
+ * on the resume menu item.
+ */
+public class ResumeUsecase implements Supplier<Boolean> {
+
+    //: SECTION: - ATTRIBUTES
+
+    private final Machine machine;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /** This constructor initializes this use case with the appropriate machine. */
+    @Inject
+    public ResumeUsecase(@Named(Di.MACHINE) Machine machine) {
+        this.machine = Objects.requireNonNull(machine);
+    }
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method resumes the paused machine which will cause the program execution to continue.
+     *
+     * @return {@code true} if the machine has been resumed, otherwise {@code false}
+     */
+    @Override
+    public Boolean get() {
+        return this.machine.resume();
+    }
+}
@@ -2,14 +2,23 @@ package de.example.domain.usecases;
 
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
-import de.example.core.ExecutionTimekeeping;
 import de.example.core.di.Di;
+import de.example.core.jfr.ProgramRunEvent;
+import de.example.domain.entities.EventQueue;
+import de.example.domain.entities.ExecutionMetrics;
+import de.example.domain.entities.Limits;
 import de.example.domain.entities.Status;
+import de.example.domain.entities.Watchdog;
+import de.example.domain.entities.machines.Compiler;
 import de.example.domain.entities.machines.Machine;
-import java.util.*;
+import de.example.domain.entities.machines.Problem;
+import de.example.domain.entities.machines.Program;
+import de.example.domain.entities.machines.ram.RandomAccessMachineDocument;
+import io.vavr.control.Either;
+import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CyclicBarrier;
-import java.util.concurrent.Exchanger;
 
 /**
  * This type executes the program on the underlying machine after the user has clicked on the run menu item.
@@ -18,115 +27,248 @@ public class RunUsecase implements Runnable {
 
     //: SECTION: - ATTRIBUTES
 
-    /** This attribute contains the content of the editor. One element is equal to one line of the editor text field. */
-    private final List<String> program;
+    /**
+     * This attribute contains the compiled content of the editor or the status describing why it could not be
+     * compiled.
+     */
+    private Either<Status, Program> program;
+
+    /** This attribute contains all problems of the program, if it could not be compiled. */
+    private List<Problem> problems = List.of();
 
     /** This attribute stores the machine on which the program is executed. */
     private final Machine machine;
 
-    /** This attribute is used to exchange the current status with the printer thread. */
-    private final Exchanger<Status> exchanger;
+    /** This attribute is used to compile the content of the editor before the program is executed. */
+    private final Compiler compiler;
 
-    /**
-     * This attribute is used to prevent the runner thread from being too fast compared to the printer thread when
-     * writing the buffer.
-     */
-    private final CyclicBarrier cyclicBarrier;
+    /** This attribute keeps the content of the editor decoded line by line while the user is typing. */
+    private final RandomAccessMachineDocument document;
+
+    /** This attribute is used to pass every output and every status other than {@code OK} to the printer thread. */
+    private final EventQueue events;
 
     /** This attribute is used to inform the finisher thread that the program has ended. */
     private final CyclicBarrier stopSignal;
 
+    /** This attribute measures the current program execution. */
+    private ExecutionMetrics metrics;
+
+    /** This attribute stores whether the machine detects infinite loops. */
+    private final boolean loopDetection;
+
+    /** This attribute stores the limits a program execution must not exceed if the user has enabled them. */
+    private final Limits limits;
+
+    /** This attribute stores the limits the current program execution must not exceed. */
+    private Limits currentLimits = Limits.NONE;
+
     //: SECTION: - CONSTRUCTORS
 
     @Inject
     public RunUsecase(@Named(Di.MACHINE) Machine machine,
-                      @Named(Di.RUN_EXCHANGER) Exchanger<Status> exchanger,
-                      @Named(Di.RUN_CYCLIC_BARRIER) CyclicBarrier cyclicBarrier,
-                      @Named(Di.QUIT_CYCLIC_BARRIER) CyclicBarrier stopSignal) {
-        this.program = new ArrayList<>();
+                      @Named(Di.RAM_COMPILER) Compiler compiler,
+                      @Named(Di.RAM_DOCUMENT) RandomAccessMachineDocument document,
+                      @Named(Di.RUN_EVENT_QUEUE) EventQueue events,
+                      @Named(Di.QUIT_CYCLIC_BARRIER) CyclicBarrier stopSignal,
+                      @Named(Di.LOOP_DETECTION) boolean loopDetection,
+                      @Named(Di.RUN_LIMITS) Limits limits) {
+        this.program = Either.left(Status.DECODE_ERROR);
         this.machine = Objects.requireNonNull(machine);
-        this.exchanger = Objects.requireNonNull(exchanger);
-        this.cyclicBarrier = Objects.requireNonNull(cyclicBarrier);
+        this.compiler = Objects.requireNonNull(compiler);
+        this.document = Objects.requireNonNull(document);
+        this.events = Objects.requireNonNull(events);
         this.stopSignal = Objects.requireNonNull(stopSignal);
+        this.metrics = new ExecutionMetrics();
+        this.loopDetection = loopDetection;
+        this.limits = Objects.requireNonNull(limits);
     }
 
     //: SECTION: - METHODS
 
     /**
-     * This method sets the program by overwriting the previous one.
+     * This method sets the program by overwriting the previous one. The program is compiled and, if successful,
+     * loaded into the underlying machine.
      *
      * <br><br><b>Discussion</b><br>
      * This method is called after the user has clicked on the run menu item and right before the runner thread has
-     * started.
+     * started. Thus, every line of the program is decoded exactly once and not every time it is executed. If the
+     * program is the current content of the editor, its lines have already been decoded while the user was typing,
+     * so that it is not compiled again. Every call also creates new metrics for the upcoming program execution.
+     * <br><br>
+     * If the program could not be compiled, all of its problems are determined at once, so that the user is able to
+     * fix them without running the program after each fix.
      *
      * @param program The program
      */
     public void setProgram(String program) {
-        this.program.clear();
-        this.program.addAll(Arrays.asList(program.split("\n")));
+        this.setProgram(program, false);
+    }
+
+    /**
+     * This method sets the program like {@code setProgram(String)}, but additionally determines whether the
+     * executions of every line are counted.
+     *
+     * @param program The program
+     * @param profiling {@code true} if the program is to be profiled, otherwise {@code false}
+     */
+    public void setProgram(String program, boolean profiling) {
+        this.setProgram(program, profiling, false);
+    }
+
+    /**
+     * This method sets the program like {@code setProgram(String, boolean)}, but additionally determines whether the
+     * program execution is limited.
+     *
+     * <br><br><b>Discussion</b><br>
+     * A limited program execution stops with {@code STEP_LIMIT_ERROR}, {@code TIME_LIMIT_ERROR} or
+     * {@code OUTPUT_LIMIT_ERROR} as soon as it exceeds one of the configured limits, so that a runaway program neither
+     * blocks the machine nor floods the output console.
+     *
+     * @param program The program
+     * @param profiling {@code true} if the program is to be profiled, otherwise {@code false}
+     * @param limited {@code true} if the program execution is to be limited, otherwise {@code false}
+     */
+    public void setProgram(String program, boolean profiling, boolean limited) {
+        ExecutionMetrics metrics = new ExecutionMetrics();
+        Limits limits = limited ? this.limits : Limits.NONE;
+        this.currentLimits = limits;
+
+        this.metrics = metrics;
+        boolean edited = program != null && program.equals(this.document.getText());
+
+        this.program = edited ? this.document.getProgram() : this.compiler.compile(program);
+        this.problems = this.program.isRight() ? List.of()
+                : edited ? this.document.getProblems()
+                : this.compiler.validate(program);
+        this.program.peek(compiled -> {
+            this.machine.setProfiling(profiling);
+            this.machine.setLoopDetection(this.loopDetection);
+            this.machine.setOutputLimit(limits.getOutputs());
+            this.machine.load(compiled);
+            this.machine.setOutput(value -> metrics.addOutputWaitTime(this.events.put(Status.OUTPUT, value)));
+        });
+    }
+
+    /**
+     * This method returns the metrics of the program execution started after the last call of {@code setProgram}.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The metrics are complete as soon as the final status has been read from the event queue.
+     *
+     * @return The metrics of the current program execution
+     */
+    public ExecutionMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * This method completes the metrics and commits the given flight recorder event for the program execution that
+     * has just ended.
+     *
+     * <br><br><b>Discussion</b><br>
+     * This method must be called before the final status is transmitted, as the printer thread reads the metrics
+     * right after receiving it.
+     *
+     * @param event The event which has been started at the beginning of the program execution
+     * @param program The executed program
+     * @param status The final status of the program
+     */
+    private void finish(ProgramRunEvent event, Program program, Status status) {
+        this.metrics.end(this.machine.getSteps(), this.machine.getInputWaitTime());
+        this.metrics.setProfile(this.machine.getProfile());
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.programHash = program.hashCode();
+            event.lines = program.size();
+            event.status = status.name();
+            event.instructions = this.machine.getSteps();
+            event.commit();
+        }
     }
 
     /** This method executes the program on the underlying machine. */
     @Override
     public void run() {
-        ExecutionTimekeeping.start();
+        ProgramRunEvent event = new ProgramRunEvent();
+        event.begin();
+
+        this.metrics.start();
 
-        int pc;
         Status status = Status.FINISH_SUCCESS;
+        long stepLimit = this.currentLimits.getSteps();
+        Watchdog watchdog = new Watchdog(this.machine, this.currentLimits.getTime());
+        this.machine.setWatchdog(watchdog);
 
         try {
-            // This loop iterates over the whole program. In each iteration, one line of code is executed.
+            // If the program could not be compiled, transmit every problem together with its line to the printer
+            // thread without executing a single line of code. The final status follows the problems.
+            if (this.program.isLeft()) {
+                for (Problem problem : this.problems)
+                    events.put(problem.getStatus(), problem.getLine());
+
+                events.put(this.problems.isEmpty() ? this.program.getLeft() : Status.FINISH_FAILURE, 0);
+                stopSignal.await();
+                watchdog.cancel();
+                machine.reset();
+                return;
+            }
+
+            // This loop iterates over the whole program. In each iteration, the machine executes the program until a
+            // command requires an input, the program has to stop, or the machine has been interrupted. Outputs do not
+            // leave the machine, as they are written to the queue directly.
             do {
-                // If the machine has been interrupted, which only happens if the user has clicked on the stop menu
-                // item, transmit the final status and return.
+                // If the machine has been interrupted, which happens if the user has clicked on the stop menu item
+                // or the program has exceeded its time limit, transmit the final status and return.
                 if (this.machine.isInterrupt()) {
-                    try {
-                        // Inform the printer thread about the interruption which will cause it to return and print
-                        // an appropriate message.
-                        exchanger.exchange(Status.FINISH_FAILURE);
-                        cyclicBarrier.await();
-                    } catch (InterruptedException e) {
-                        throw new RuntimeException(e);
-                    }
+                    status = watchdog.hasExpired() ? Status.TIME_LIMIT_ERROR : Status.FINISH_FAILURE;
+                    finish(event, program.get(), status);
+
+                    // Inform the printer thread about the interruption which will cause it to return and print
+                    // an appropriate message.
+                    events.put(status, 0);
 
                     // Inform the finisher thread about the interruption which will cause it to enable/disable the
                     // appropriate menu items and return.
                     stopSignal.await();
 
-                    // Prepare the machine for the next program execution.
+                    // Prepare the machine for the next program execution, which must not be interrupted by the
+                    // watchdog anymore.
+                    watchdog.cancel();
                     machine.reset();
 
                     return;
                 }
 
-                // If the program execution has not been interrupted by the user, execute the next line of code.
-
-                pc = this.machine.getPc();
-                String cmd;
+                // If the program execution has not been interrupted by the user, continue executing the program.
+                // The machine only returns `OK` if it has been interrupted. If the program counter is out of program,
+                // which happens if the program does not have an HLT command at the end or if a jump command is used
+                // to jump out of the program, it returns `PROGRAM_ADDRESS_ERROR` instead.
+                status = machine.run(stepLimit);
 
-                // If the program counter is out of program, the loop starts to iterate infinitely until the user
-                // interrupts the execution. This happens if the program does not have an HLT command at the end or if
-                // a jump command is used to jump out of the program.
-                if (pc >= 0 && pc < program.size()) {
-                    cmd = program.get(pc);
-                    status = machine.run(cmd);
-                } else
-                    continue;
-
-                // This condition is met if the program either requires an input or output, or it has to stop due to
-                // an error.
+                // This condition is met if the program either requires an input, or it has to stop due to an error.
                 if (status != Status.OK) {
-                    if (status == Status.FINISH_SUCCESS)
-                        ExecutionTimekeeping.end();
-
-                    // Transmit the status to the printer thread to print a message to the user.
-                    exchanger.exchange(status);
+                    if (status != Status.INPUT)
+                        finish(event, program.get(), status);
 
-                    // Prevent the runner thread from being too fast in writing the buffer
-                    cyclicBarrier.await();
+                    // An infinite loop is transmitted together with the line the program has been stopped at,
+                    // followed by the final status.
+                    // The time waited for the final status is not recorded, as the metrics have already been
+                    // completed and are read by the printer thread as soon as it receives the final status.
+                    if (status == Status.INFINITE_LOOP_ERROR) {
+                        events.put(status, machine.getPc() + 1);
+                        events.put(Status.FINISH_FAILURE, 0);
+                    } else if (status == Status.INPUT) {
+                        // Transmit the status to the printer thread to ask the user for an input.
+                        metrics.addOutputWaitTime(events.put(status, 0));
+                    } else {
+                        // Transmit the status to the printer thread to print a message to the user.
+                        events.put(status, 0);
+                    }
                 }
             } while (status == Status.OK ||
-                     status == Status.OUTPUT ||
                      status == Status.INPUT);
 
             // Inform the finisher thread about the termination of the program, which will cause the finisher thread to
@@ -134,8 +276,12 @@ public class RunUsecase implements Runnable {
             // successful.
             stopSignal.await();
 
-            // Prepare the machine for the next program execution.
+            // Prepare the machine for the next program execution, which must not be interrupted by the watchdog
+            // anymore.
+            watchdog.cancel();
             machine.reset();
-        } catch (InterruptedException | BrokenBarrierException _) {}
+        } catch (InterruptedException | BrokenBarrierException _) {
+            watchdog.cancel();
+        }
     }
 }
@@ -0,0 +1,39 @@
+package de.example.domain.usecases;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import de.example.core.di.Di;
+import de.example.domain.entities.machines.Machine;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * This type causes the paused machine to execute exactly one command after the user has clicked on the step menu
+ * item.
+ */
+public class StepUsecase implements Supplier<Boolean> {
+
+    //: SECTION: - ATTRIBUTES
+
+    private final Machine machine;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /** This constructor initializes this use case with the appropriate machine. */
+    @Inject
+    public StepUsecase(@Named(Di.MACHINE) Machine machine) {
+        this.machine = Objects.requireNonNull(machine);
+    }
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method causes the paused machine to execute exactly one command before it is paused again.
+     *
+     * @return {@code true} if the machine executes the next command, otherwise {@code false}
+     */
+    @Override
+    public Boolean get() {
+        return this.machine.step();
+    }
+}
@@ -2,97 +2,167 @@ package de.example.presentation;
 
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
-import de.example.core.ExecutionTimekeeping;
 import de.example.core.di.Di;
+import de.example.core.jfr.OutputBatchEvent;
 import de.example.domain.entities.Status;
-import javafx.application.Platform;
+import de.example.domain.entities.EventQueue;
+import de.example.domain.entities.ExecutionMetrics;
 import java.util.Objects;
-import java.util.concurrent.BrokenBarrierException;
-import java.util.concurrent.CyclicBarrier;
-import java.util.concurrent.Exchanger;
 
 import static de.example.presentation.Interpredit.s;
 
-/** This type prints messages about the current status to the user. */
+/**
+ * This type prints messages about the current status to the user.
+ *
+ * <br><br><b>Discussion</b><br>
+ * The printer thread reads all events the runner thread has written to the queue since the last batch and appends
+ * them to the output at once. The model renders everything appended during a frame in a single update of the user
+ * interface, so that a program with many outputs cannot flood the JavaFX application thread.
+ */
 public class MessagePrinter implements Runnable {
 
     //: SECTION: - ATTRIBUTES
 
+    /** This attribute stores the maximum number of events printed at once. */
+    private static final int BATCH_SIZE = 1024;
+
     /**
      * This attribute stores the model to which all UI updates are sent. The model then updates its attributes, which
      * trigger a UI update through their binding.
      */
     private final Model model;
 
-    /** This attribute is used to receive the current status from the runner thread. */
-    private final Exchanger<Status> exchanger;
+    /** This attribute is used to receive the outputs and statuses from the runner thread. */
+    private final EventQueue events;
 
-    /**
-     * This attribute is used to prevent the runner thread from being too fast compared to the printer thread when
-     * writing the buffer.
-     */
-    private final CyclicBarrier cyclicBarrier;
+    /** This attribute stores the metrics of the program execution whose events are printed. */
+    private ExecutionMetrics metrics = new ExecutionMetrics();
 
     //: SECTION: - CONSTRUCTORS
 
     @Inject
     public MessagePrinter(@Named(Di.MODEL) Model model,
-                          @Named(Di.RUN_EXCHANGER) Exchanger<Status> exchanger,
-                          @Named(Di.RUN_CYCLIC_BARRIER) CyclicBarrier cyclicBarrier) {
+                          @Named(Di.RUN_EVENT_QUEUE) EventQueue events) {
         this.model = Objects.requireNonNull(model);
-        this.exchanger = Objects.requireNonNull(exchanger);
-        this.cyclicBarrier = Objects.requireNonNull(cyclicBarrier);
+        this.events = Objects.requireNonNull(events);
     }
 
     //: SECTION: - METHODS
 
-    /** This method receives the current status from the runner thread and prints an appropriate message to the user. */
+    /**
+     * This method sets the metrics of the program execution whose events are printed.
+     *
+     * <br><br><b>Discussion</b><br>
+     * The metrics are printed after the program has finished successfully. This method has to be called before the
+     * printer thread is started.
+     *
+     * @param metrics The metrics
+     */
+    public void setMetrics(ExecutionMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * This method determines the hint describing the given error.
+     *
+     * @param status The status of the error
+     * @return The hint or {@code null}, if the status is not an error with a hint
+     */
+    private static String hint(Status status) {
+        return switch (status) {
+            case SET_ERROR -> s("setErrorHintMessage");
+            case MEMORY_ADDRESS_ERROR -> s("memoryAddressErrorHintMessage");
+            case COMMAND_ERROR -> s("commandErrorHintMessage");
+            case DECODE_ERROR -> s("decodeErrorHintMessage");
+            case PROGRAM_ADDRESS_ERROR -> s("programAddressErrorHintMessage");
+            case DIVISION_BY_ZERO_ERROR -> s("divisionByZeroErrorHintMessage");
+            case INPUT_ERROR -> s("inputErrorHintMessage");
+            case STEP_LIMIT_ERROR -> s("stepLimitErrorHintMessage");
+            case TIME_LIMIT_ERROR -> s("timeLimitErrorHintMessage");
+            case OUTPUT_LIMIT_ERROR -> s("outputLimitErrorHintMessage");
+            case INFINITE_LOOP_ERROR -> s("infiniteLoopErrorHintMessage");
+            default -> null;
+        };
+    }
+
+    /**
+     * This method determines the message describing the given status.
+     *
+     * @param status The status
+     * @return The message or {@code null}, if there is no message for the status
+     */
+    private String describe(Status status) {
+        return switch (status) {
+            case INPUT -> s("inputHintMessage");
+            case FINISH_SUCCESS -> s("finishSuccessHintMessage") + "\n" +
+                                   s("executionMetricsHintMessage",
+                                     this.metrics.getWallTime() / 1e6,
+                                     this.metrics.getComputeTime() / 1e6,
+                                     this.metrics.getInputWaitTime() / 1e6,
+                                     this.metrics.getOutputWaitTime() / 1e6,
+                                     this.metrics.getInstructions(),
+                                     this.metrics.getInstructionsPerSecond());
+            case FINISH_FAILURE -> s("finishFailureHintMessage");
+            default -> {
+                String hint = hint(status);
+                yield hint == null ? null : hint + "\n" + s("finishFailureHintMessage");
+            }
+        };
+    }
+
+    /** This method receives the outputs and statuses from the runner thread and prints them to the user. */
     @Override
     public void run() {
-        Runnable runnable;
-        Status status = Status.OK;
-
-        while (status == Status.OK ||
-               status == Status.OUTPUT ||
-               status == Status.INPUT) {
-            try {
-                // Wait for the next status.
-                status = exchanger.exchange(Status.OK);
-
-                // Determine the message based on the status.
-                runnable = switch (status) {
-                    case OUTPUT -> {
-                        String output = this.model.requestOutput();
-                        yield () -> this.model.appendOutput(output);
-                    }
-                    case INPUT -> () -> this.model.appendOutput(s("inputHintMessage"));
-                    case SET_ERROR -> () -> this.model.appendOutput(s("setErrorHintMessage") + "\n" +
-                                                                    s("finishFailureHintMessage"));
-                    case MEMORY_ADDRESS_ERROR -> () -> this.model.appendOutput(s("memoryAddressErrorHintMessage") + "\n" +
-                                                                               s("finishFailureHintMessage"));
-                    case COMMAND_ERROR -> () -> this.model.appendOutput(s("commandErrorHintMessage") + "\n" +
-                                                                        s("finishFailureHintMessage"));
-                    case DECODE_ERROR -> () -> this.model.appendOutput(s("decodeErrorHintMessage") + "\n" +
-                                                                       s("finishFailureHintMessage"));
-                    case DIVISION_BY_ZERO_ERROR -> () -> this.model.appendOutput(s("divisionByZeroErrorHintMessage") + "\n" +
-                                                                                 s("finishFailureHintMessage"));
-                    case INPUT_ERROR -> () -> this.model.appendOutput(s("inputErrorHintMessage") + "\n" +
-                                                                      s("finishFailureHintMessage"));
-                    case FINISH_SUCCESS -> () -> this.model.appendOutput(s("finishSuccessHintMessage") + "\n" +
-                                                                         s("executionDurationHintMessage",
-                                                                                ExecutionTimekeeping.getDuration()));
-                    case FINISH_FAILURE -> () -> this.model.appendOutput(s("finishFailureHintMessage"));
-                    default -> null;
-                };
-
-                // Issue the message.
-                if (runnable != null)
-                    Platform.runLater(runnable);
-
-                // Prevent the runner thread from being too fast
-                cyclicBarrier.await();
-                cyclicBarrier.reset();
-            } catch (InterruptedException | BrokenBarrierException _) {}
+        Status[] statuses = new Status[BATCH_SIZE];
+        int[] values = new int[BATCH_SIZE];
+        boolean finished = false;
+
+        while (!finished) {
+            // Wait for the next events.
+            int count = this.events.drain(statuses, values);
+            int outputs = 0;
+            StringBuilder batch = new StringBuilder();
+
+            OutputBatchEvent event = new OutputBatchEvent();
+            event.begin();
+
+            for (int i = 0; i < count && !finished; i++) {
+                Status status = statuses[i];
+
+                if (status == Status.OUTPUT) {
+                    batch.append(values[i]).append('\n');
+                    outputs++;
+                    continue;
+                }
+
+                // A problem found before the execution and an infinite loop carry their line and are followed by
+                // the final status.
+                if (values[i] > 0) {
+                    String hint = hint(status);
+                    if (hint != null)
+                        batch.append(s("lineProblemMessage", hint, String.valueOf(values[i]))).append('\n');
+                    continue;
+                }
+
+                String message = this.describe(status);
+                if (message != null)
+                    batch.append(message).append('\n');
+
+                finished = status != Status.INPUT;
+            }
+
+            // Issue the messages without the trailing line break, which is added by the model.
+            if (!batch.isEmpty())
+                this.model.appendOutput(batch.substring(0, batch.length() - 1));
+
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.events = count;
+                event.outputs = outputs;
+                event.characters = batch.length();
+                event.commit();
+            }
         }
     }
 }
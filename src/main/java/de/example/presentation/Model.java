@@ -7,7 +7,10 @@ import de.example.domain.usecases.*;
 import de.example.presentation.controller.Controller;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
+import javafx.scene.control.TextArea;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import static de.example.presentation.Interpredit.s;
 
@@ -20,14 +23,26 @@ public class Model {
     private final OpenUsecase openUsecase;
     private final CloseUsecase closeUsecase;
     private final RunUsecase runUsecase;
+    private final EditUsecase editUsecase;
     private final SaveUsecase saveUsecase;
     private final StopUsecase stopUsecase;
-    private final OutputUsecase outputUsecase;
+    private final PauseUsecase pauseUsecase;
+    private final ResumeUsecase resumeUsecase;
+    private final StepUsecase stepUsecase;
     private final InputUsecase inputUsecase;
 
+    private final OutputConsole outputConsole;
+
     private final StringProperty editorTextAreaText;
-    private final StringProperty outputTextAreaText;
     private final StringProperty fileLabelText;
+    private final StringProperty profileTextAreaText;
+    private final StringProperty problemLabelText;
+
+    /** This attribute stores the maximum length of the bar visualizing the number of executions of a line. */
+    private static final int PROFILE_BAR_LENGTH = 8;
+
+    /** This attribute stores the maximum number of invalid lines listed at once. */
+    private static final int LISTED_INVALID_LINES = 10;
 
     //: SECTION: - CONSTRUCTORS
 
@@ -36,22 +51,33 @@ public class Model {
                  @Named(Di.OPEN_USECASE) OpenUsecase openUsecase,
                  @Named(Di.CLOSE_USECASE) CloseUsecase closeUsecase,
                  @Named(Di.RUN_USECASE) RunUsecase runUsecase,
+                 @Named(Di.EDIT_USECASE) EditUsecase editUsecase,
                  @Named(Di.SAVE_USECASE) SaveUsecase saveUsecase,
                  @Named(Di.STOP_USECASE) StopUsecase stopUsecase,
-                 @Named(Di.OUTPUT_USECASE) OutputUsecase outputUsecase,
-                 @Named(Di.INPUT_USECASE) InputUsecase inputUsecase) {
+                 @Named(Di.PAUSE_USECASE) PauseUsecase pauseUsecase,
+                 @Named(Di.RESUME_USECASE) ResumeUsecase resumeUsecase,
+                 @Named(Di.STEP_USECASE) StepUsecase stepUsecase,
+                 @Named(Di.INPUT_USECASE) InputUsecase inputUsecase,
+                 @Named(Di.OUTPUT_CONSOLE) OutputConsole outputConsole) {
         this.deleteUsecase = Objects.requireNonNull(deleteUsecase);
         this.openUsecase = Objects.requireNonNull(openUsecase);
         this.closeUsecase = Objects.requireNonNull(closeUsecase);
         this.runUsecase = Objects.requireNonNull(runUsecase);
+        this.editUsecase = Objects.requireNonNull(editUsecase);
         this.saveUsecase = Objects.requireNonNull(saveUsecase);
         this.stopUsecase = Objects.requireNonNull(stopUsecase);
-        this.outputUsecase = Objects.requireNonNull(outputUsecase);
+        this.pauseUsecase = Objects.requireNonNull(pauseUsecase);
+        this.resumeUsecase = Objects.requireNonNull(resumeUsecase);
+        this.stepUsecase = Objects.requireNonNull(stepUsecase);
         this.inputUsecase = Objects.requireNonNull(inputUsecase);
+        this.outputConsole = Objects.requireNonNull(outputConsole);
 
         this.editorTextAreaText = new SimpleStringProperty("");
-        this.outputTextAreaText = new SimpleStringProperty("");
         this.fileLabelText = new SimpleStringProperty();
+        this.profileTextAreaText = new SimpleStringProperty("");
+        this.problemLabelText = new SimpleStringProperty("");
+
+        this.editorTextAreaText.addListener((_, _, program) -> this.edit(program));
     }
 
     //: SECTION: - METHODS
@@ -62,32 +88,83 @@ public class Model {
     }
 
     /**
-     * This method grants access to the content of the output text area and is used by the controller to create a
+     * This method grants access to the name of the currently opened file and is used by the controller to create a
      * binding.
      */
-    public StringProperty outputTextAreaTextProperty() {
-        return outputTextAreaText;
+    public StringProperty fileLabelTextProperty() {
+        return fileLabelText;
     }
 
     /**
-     * This method grants access to the name of the currently opened file and is used by the controller to create a
-     * binding.
+     * This method grants access to the number of executions of every line of the last profiled program and is used by
+     * the controller to create a binding.
      */
-    public StringProperty fileLabelTextProperty() {
-        return fileLabelText;
+    public StringProperty profileTextAreaTextProperty() {
+        return profileTextAreaText;
+    }
+
+    /**
+     * This method grants access to the description of the invalid lines of the program and is used by the controller
+     * to create a binding.
+     */
+    public StringProperty problemLabelTextProperty() {
+        return problemLabelText;
+    }
+
+    /**
+     * This method decodes the changed lines of the edited program and describes the invalid ones.
+     *
+     * <br><br><b>Discussion</b><br>
+     * It is called whenever the content of the editor changes. At most a few invalid lines are listed, so that the
+     * description stays short even if the program contains many of them.
+     *
+     * @param program The edited program
+     */
+    private void edit(String program) {
+        List<Integer> invalidLines = this.editUsecase.apply(program);
+
+        if (invalidLines.isEmpty()) {
+            this.problemLabelText.set("");
+            return;
+        }
+
+        String lines = invalidLines.stream()
+                .limit(LISTED_INVALID_LINES)
+                .map(String::valueOf)
+                .collect(Collectors.joining(", "));
+
+        if (invalidLines.size() > LISTED_INVALID_LINES)
+            lines += ", \u2026";
+
+        this.problemLabelText.set(s("invalidLinesMessage", lines));
     }
 
     /**
      * This method appends the given string to the output text area if it is not {@code null}.
      *
      * <br><br><b>Discussion</b><br>
-     * It is used by the printer thread to provide output to the user during the program execution.
+     * It is used by the printer thread to provide output to the user during the program execution. The string is not
+     * appended immediately, but together with all other strings printed during the same frame.
      *
      * @param output The string to be appended
      */
     public void appendOutput(String output) {
         if (output != null)
-            outputTextAreaText.set(outputTextAreaText.get() + output + "\n");
+            this.outputConsole.println(output);
+    }
+
+    /** This method removes all strings appended to the output text area. */
+    public void clearOutput() {
+        this.outputConsole.clear();
+    }
+
+    /**
+     * This method attaches the given text area, which causes all appended strings to be rendered in it.
+     *
+     * @param outputTextArea The output text area
+     */
+    public void attachOutput(TextArea outputTextArea) {
+        this.outputConsole.attach(outputTextArea);
     }
 
     /** This method causes the file currently open in the editor to be deleted. */
@@ -134,16 +211,63 @@ public class Model {
     }
 
     /**
-     * This method causes the given program to be executed.
+     * This method causes the given program to be executed and, if requested, the executions of every line to be
+     * counted and the program execution to be stopped as soon as it exceeds one of the configured limits.
      *
      * @param program The program to be executed
+     * @param profiling {@code true} if the program is to be profiled, otherwise {@code false}
+     * @param limited {@code true} if the program execution is to be limited, otherwise {@code false}
      */
-    public void run(String program) {
-        this.runUsecase.setProgram(program);
-        new Thread(Interpredit.getMessagePrinter(), "PrinterThread").start();
+    public void run(String program, boolean profiling, boolean limited) {
+        this.clearProfile();
+        this.runUsecase.setProgram(program, profiling, limited);
+
+        MessagePrinter messagePrinter = Interpredit.getMessagePrinter();
+        messagePrinter.setMetrics(this.runUsecase.getMetrics());
+
+        new Thread(messagePrinter, "PrinterThread").start();
         new Thread(runUsecase, "RunnerThread").start();
     }
 
+    /**
+     * This method shows the number of executions of every line of the program that has just ended, if it has been
+     * profiled.
+     *
+     * <br><br><b>Discussion</b><br>
+     * Every line shows the number of executions followed by a bar, whose length is relative to the most executed line.
+     * This method must be called after the program has ended.
+     */
+    public void showProfile() {
+        long[] profile = this.runUsecase.getMetrics().getProfile();
+
+        if (profile == null) {
+            this.clearProfile();
+            return;
+        }
+
+        long max = 1;
+        for (long count : profile)
+            max = Math.max(max, count);
+
+        int width = Long.toString(max).length();
+        StringBuilder text = new StringBuilder();
+
+        for (long count : profile) {
+            int bar = (int) Math.ceil((double) PROFILE_BAR_LENGTH * count / max);
+
+            text.append(String.format("%" + width + "d ", count))
+                .append("\u2588".repeat(bar))
+                .append('\n');
+        }
+
+        this.profileTextAreaText.set(text.substring(0, text.length() - 1));
+    }
+
+    /** This method hides the number of executions of every line. */
+    public void clearProfile() {
+        this.profileTextAreaText.set("");
+    }
+
     /**
      * This method causes the content of the file currently open in the editor to be saved.
      *
@@ -171,16 +295,43 @@ public class Model {
     }
 
     /**
-     * This method causes an output to be requested from the random access machine.
+     * This method causes the currently running program to be paused.
      *
-     * <br><br><b>Discussion</b><br>
-     * It is used by the printer thread to transmit the output of the random access machine to the user after
-     * receiving the status {@code OUTPUT}.
+     * @return {@code true} if the program has been paused, otherwise {@code false}
+     */
+    public boolean pause() {
+        boolean result = this.pauseUsecase.get();
+
+        if (result)
+            appendOutput(s("pauseSuccessMessage"));
+        else
+            appendOutput(s("pauseFailureMessage"));
+
+        return result;
+    }
+
+    /**
+     * This method causes the currently paused program to be resumed.
      *
-     * @return The output of the random access machine
+     * @return {@code true} if the program has been resumed, otherwise {@code false}
      */
-    public String requestOutput() {
-        return this.outputUsecase.get();
+    public boolean resume() {
+        boolean result = this.resumeUsecase.get();
+
+        if (result)
+            appendOutput(s("resumeSuccessMessage"));
+        else
+            appendOutput(s("resumeFailureMessage"));
+
+        return result;
+    }
+
+    /** This method causes the currently paused program to execute exactly one command. */
+    public void step() {
+        boolean result = this.stepUsecase.get();
+
+        if (!result)
+            appendOutput(s("stepFailureMessage"));
     }
 
     /**
@@ -0,0 +1,163 @@
+package de.example.presentation;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import de.example.core.di.Di;
+import javafx.animation.AnimationTimer;
+import javafx.scene.control.TextArea;
+
+/**
+ * This type collects the lines printed to the output text area and renders them at most once per frame.
+ *
+ * <br><br><b>Discussion</b><br>
+ * Lines can be printed from any thread. They are collected in a buffer and appended to the text area in a single
+ * update by an animation timer, which runs on the JavaFX application thread once per frame. Thus, a program printing
+ * many values neither copies the whole output for every line nor posts a runnable for every line.
+ * <br><br>
+ * The text area keeps at most the given number of lines, which is the scrollback. Older lines are removed from the
+ * beginning of the text area, so that the memory stays bounded even for endless outputs. For this purpose, the length
+ * of every displayed line is stored in a ring. Lines that would be removed right after being displayed are already
+ * dropped from the buffer.
+ * <br><br>
+ * In the context of Interpredit, this class is a passive one, as the buffer is accessed from multiple threads. For
+ * this reason, all methods that access the {@code pending}, {@code pendingLines} or {@code cleared} attributes are
+ * synchronized. All other attributes are only accessed from the JavaFX application thread.
+ */
+public class OutputConsole {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute stores the maximum number of lines displayed in the text area. */
+    private final int scrollback;
+
+    /** This attribute contains the lines that have been printed, but not yet appended to the text area. */
+    private final StringBuilder pending = new StringBuilder();
+
+    /** This attribute contains the number of lines in {@code pending}. */
+    private int pendingLines = 0;
+
+    /** This attribute stores whether the text area has to be cleared before the pending lines are appended. */
+    private boolean cleared = false;
+
+    /** This attribute contains the lengths of the displayed lines including the line break, used as a ring. */
+    private final int[] lineLengths;
+
+    /** This attribute contains the index of the oldest displayed line in {@code lineLengths}. */
+    private int firstLine = 0;
+
+    /** This attribute contains the number of displayed lines. */
+    private int lineCount = 0;
+
+    /** This attribute stores the text area the lines are rendered in or {@code null}, if it is not yet attached. */
+    private TextArea textArea;
+
+    //: SECTION: - CONSTRUCTORS
+
+    @Inject
+    public OutputConsole(@Named(Di.OUTPUT_SCROLLBACK) int scrollback) {
+        if (scrollback < 1)
+            throw new IllegalArgumentException("scrollback must be positive");
+
+        this.scrollback = scrollback;
+        this.lineLengths = new int[scrollback];
+    }
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method attaches the given text area and starts rendering the printed lines in it.
+     *
+     * <br><br><b>Discussion</b><br>
+     * This method must be called from the JavaFX application thread.
+     *
+     * @param textArea The text area the lines are rendered in
+     */
+    public void attach(TextArea textArea) {
+        this.textArea = textArea;
+        this.textArea.clear();
+
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                flush();
+            }
+        }.start();
+    }
+
+    /**
+     * This method prints the given text, which is followed by a line break.
+     *
+     * @param text The text to be printed, which may contain line breaks itself
+     */
+    public synchronized void println(String text) {
+        this.pending.append(text).append('\n');
+        this.pendingLines += (int) text.chars().filter(c -> c == '\n').count() + 1;
+
+        // If there are more pending lines than the scrollback twice, all displayed lines and most of the pending
+        // lines would be removed anyway. Thus, only the newest lines are kept and the text area is cleared.
+        if (this.pendingLines > 2 * this.scrollback) {
+            int index = this.pending.length() - 1;
+
+            for (int lines = 0; lines <= this.scrollback; index--)
+                if (this.pending.charAt(index) == '\n')
+                    lines++;
+
+            this.pending.delete(0, index + 2);
+            this.pendingLines = this.scrollback;
+            this.cleared = true;
+        }
+    }
+
+    /** This method removes all printed lines, including those not yet rendered. */
+    public synchronized void clear() {
+        this.pending.setLength(0);
+        this.pendingLines = 0;
+        this.cleared = true;
+    }
+
+    /** This method appends all pending lines to the text area and removes the lines exceeding the scrollback. */
+    private void flush() {
+        String chunk;
+        boolean clear;
+
+        synchronized (this) {
+            if (this.pending.isEmpty() && !this.cleared)
+                return;
+
+            chunk = this.pending.toString();
+            clear = this.cleared;
+
+            this.pending.setLength(0);
+            this.pendingLines = 0;
+            this.cleared = false;
+        }
+
+        if (clear) {
+            this.textArea.clear();
+            this.lineCount = 0;
+        }
+
+        int removed = 0;
+        int start = 0;
+
+        for (int i = 0; i < chunk.length(); i++) {
+            if (chunk.charAt(i) != '\n')
+                continue;
+
+            if (this.lineCount == this.scrollback) {
+                removed += this.lineLengths[this.firstLine];
+                this.firstLine = (this.firstLine + 1) % this.scrollback;
+                this.lineCount--;
+            }
+
+            this.lineLengths[(this.firstLine + this.lineCount) % this.scrollback] = i + 1 - start;
+            this.lineCount++;
+            start = i + 1;
+        }
+
+        this.textArea.appendText(chunk);
+
+        if (removed > 0)
+            this.textArea.deleteText(0, removed);
+    }
+}
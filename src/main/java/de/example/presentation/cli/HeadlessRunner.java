@@ -0,0 +1,474 @@
+package de.example.presentation.cli;
+
+import de.example.domain.entities.InputQueue;
+import de.example.domain.entities.Limits;
+import de.example.domain.entities.Status;
+import de.example.domain.entities.batch.BatchJob;
+import de.example.domain.entities.batch.BatchResult;
+import de.example.domain.entities.batch.ResultCache;
+import de.example.domain.entities.machines.Compiler;
+import de.example.domain.entities.machines.Decoder;
+import de.example.domain.entities.machines.Machine;
+import de.example.domain.entities.machines.Problem;
+import de.example.domain.entities.machines.ram.CompiledRandomAccessMachine;
+import de.example.domain.entities.machines.ram.RandomAccessMachine;
+import de.example.domain.entities.machines.ram.RandomAccessMachineBytecodeGenerator;
+import de.example.domain.entities.machines.ram.RandomAccessMachineCompiler;
+import de.example.domain.entities.machines.ram.RandomAccessMachineDecoder;
+import de.example.domain.entities.machines.ram.RandomAccessMachineEvaluator;
+import de.example.domain.usecases.BatchUsecase;
+import de.example.domain.usecases.ExecuteUsecase;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.ResourceBundle;
+import java.util.Scanner;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * This type runs a program from the command line without starting the JavaFX user interface.
+ *
+ * <br><br><b>Discussion</b><br>
+ * Every output of the program is written to the standard output in a separate line. Inputs are read from the
+ * standard input or a file, whereby all values are separated by whitespaces. All messages are written to the standard
+ * error output, so that the standard output only contains the outputs of the program.
+ * <br><br>
+ * In batch mode, every given program is executed once for every input vector, which is a line of the input file, and
+ * all jobs are executed in parallel. The results are written to the standard output, one line per job. Identical
+ * jobs are only executed once, and their results can additionally be stored in a directory, so that they are reused
+ * when the batch is executed again.
+ */
+public class HeadlessRunner {
+
+    //: SECTION: - ATTRIBUTES
+
+    /** This attribute stores the exit code of a program that has finished successfully. */
+    public static final int EXIT_SUCCESS = 0;
+
+    /** This attribute stores the exit code of a program that has not finished successfully. */
+    public static final int EXIT_FAILURE = 1;
+
+    /** This attribute stores the exit code used if the arguments are invalid or a file could not be read. */
+    public static final int EXIT_USAGE = 2;
+
+    /** This attribute stores the option selecting the engine executing the program. */
+    private static final String ENGINE_OPTION = "--engine";
+
+    /** This attribute stores the option naming the file the inputs are read from. */
+    private static final String INPUT_OPTION = "--input";
+
+    /** This attribute stores the option running several programs against several input vectors. */
+    private static final String BATCH_OPTION = "--batch";
+
+    /** This attribute stores the option setting the number of jobs executed in parallel in batch mode. */
+    private static final String JOBS_OPTION = "--jobs";
+
+    /** This attribute stores the option setting the maximum number of executed commands. */
+    private static final String STEP_LIMIT_OPTION = "--step-limit";
+
+    /** This attribute stores the option setting the maximum time in milliseconds a program is allowed to run. */
+    private static final String TIME_LIMIT_OPTION = "--time-limit";
+
+    /** This attribute stores the option setting the maximum number of outputs. */
+    private static final String OUTPUT_LIMIT_OPTION = "--output-limit";
+
+    /** This attribute stores the option enabling the detection of infinite loops. */
+    private static final String DETECT_LOOPS_OPTION = "--detect-loops";
+
+    /** This attribute stores the option naming the directory the results of a batch are stored in. */
+    private static final String CACHE_OPTION = "--cache";
+
+    /** This attribute stores the name of the engine interpreting every command. */
+    private static final String INTERPRETER_ENGINE = "interpreter";
+
+    /** This attribute stores the name of the engine translating frequently executed programs into bytecode. */
+    private static final String COMPILED_ENGINE = "compiled";
+
+    /** This attribute contains the messages of the current locale. */
+    private final ResourceBundle bundle;
+
+    /** This attribute stores the stream the inputs are read from, unless an input file is given. */
+    private final InputStream in;
+
+    /** This attribute stores the stream the outputs of the program are written to. */
+    private final PrintStream out;
+
+    /** This attribute stores the stream all messages are written to. */
+    private final PrintStream err;
+
+    /** This attribute stores the maximum number of fields a program is allowed to initialize. */
+    private final int memoryLimit;
+
+    /** This attribute stores the maximum number of commands of a program that are executed at compile time. */
+    private final long evaluationLimit;
+
+    //: SECTION: - CONSTRUCTORS
+
+    /**
+     * This constructor creates a new runner which uses the given streams.
+     *
+     * @param in The stream the inputs are read from, unless an input file is given
+     * @param out The stream the outputs of the program are written to
+     * @param err The stream all messages are written to
+     */
+    public HeadlessRunner(InputStream in, PrintStream out, PrintStream err) {
+        this.bundle = ResourceBundle.getBundle("strings", Locale.getDefault());
+        this.in = Objects.requireNonNull(in);
+        this.out = Objects.requireNonNull(out);
+        this.err = Objects.requireNonNull(err);
+        this.memoryLimit = Integer.getInteger("interpredit.memoryLimit", RandomAccessMachine.DEFAULT_MEMORY_LIMIT);
+        this.evaluationLimit = Long.getLong("interpredit.evaluationLimit", RandomAccessMachineEvaluator.DEFAULT_LIMIT);
+    }
+
+    //: SECTION: - METHODS
+
+    /**
+     * This method grants access to the messages of the resource bundle of the current locale.
+     *
+     * @param key The key of the message in the resource bundle
+     * @param arguments Arguments to fill placeholders in the message with dynamic values
+     * @return The formatted message of the given key together with the passed arguments
+     */
+    private String s(String key, Object... arguments) {
+        return MessageFormat.format(this.bundle.getString(key), arguments);
+    }
+
+    /**
+     * This method creates the machine for the given engine.
+     *
+     * @param engine The name of the engine
+     * @param decoder The decoder used by the machine
+     * @return The machine or {@code null}, if there is no engine with the given name
+     */
+    private Machine createMachine(String engine, Decoder decoder) {
+        return switch (engine) {
+            case INTERPRETER_ENGINE -> new RandomAccessMachine(new InputQueue(), decoder, this.memoryLimit);
+            case COMPILED_ENGINE -> new CompiledRandomAccessMachine(
+                    new InputQueue(), decoder, new RandomAccessMachineBytecodeGenerator(),
+                    CompiledRandomAccessMachine.DEFAULT_TIER_UP_THRESHOLD, this.memoryLimit);
+            default -> null;
+        };
+    }
+
+    /**
+     * This method determines the message describing the given final status.
+     *
+     * @param status The final status of the program
+     * @return The message describing the status
+     */
+    private String describe(Status status) {
+        String hint = this.hint(status);
+        return hint == null ? s("finishFailureHintMessage") : hint + "\n" + s("finishFailureHintMessage");
+    }
+
+    /**
+     * This method determines the message describing all given problems found before the program was executed.
+     *
+     * @param problems The problems of the program, which must not be empty
+     * @return The message describing every problem together with its line
+     */
+    private String describe(List<Problem> problems) {
+        StringBuilder message = new StringBuilder();
+
+        for (Problem problem : problems) {
+            String hint = this.hint(problem.getStatus());
+            if (hint != null)
+                message.append(s("lineProblemMessage", hint, String.valueOf(problem.getLine()))).append('\n');
+        }
+
+        return message.append(s("finishFailureHintMessage")).toString();
+    }
+
+    /**
+     * This method determines the hint describing the given error.
+     *
+     * @param status The status of the error
+     * @return The hint or {@code null}, if the status is not an error with a hint
+     */
+    private String hint(Status status) {
+        return switch (status) {
+            case SET_ERROR -> s("setErrorHintMessage");
+            case MEMORY_ADDRESS_ERROR -> s("memoryAddressErrorHintMessage");
+            case COMMAND_ERROR -> s("commandErrorHintMessage");
+            case DECODE_ERROR -> s("decodeErrorHintMessage");
+            case PROGRAM_ADDRESS_ERROR -> s("programAddressErrorHintMessage");
+            case DIVISION_BY_ZERO_ERROR -> s("divisionByZeroErrorHintMessage");
+            case INPUT_ERROR -> s("inputErrorHintMessage");
+            case STEP_LIMIT_ERROR -> s("stepLimitErrorHintMessage");
+            case TIME_LIMIT_ERROR -> s("timeLimitErrorHintMessage");
+            case OUTPUT_LIMIT_ERROR -> s("outputLimitErrorHintMessage");
+            case INFINITE_LOOP_ERROR -> s("infiniteLoopErrorHintMessage");
+            default -> null;
+        };
+    }
+
+    /**
+     * This method reads the program stored in the given file.
+     *
+     * <br><br><b>Discussion</b><br>
+     * In contrast to the {@code OpenUsecase}, the file is neither opened in an editor nor backed up, so that the path
+     * may also be relative to the working directory. Multiple lines are joined by the {@code \n} character.
+     *
+     * @param programFile The path to the file containing the program
+     * @return The program or {@code null}, if the file could not be read
+     */
+    private String read(String programFile) {
+        try {
+            return String.join("\n", Files.readAllLines(Path.of(programFile)));
+        } catch (IOException | InvalidPathException _) {
+            return null;
+        }
+    }
+
+    /**
+     * This method runs the program given by the command line arguments.
+     *
+     * @param args The command line arguments, which are the options followed by the path to the program
+     * @return The exit code, which is {@code EXIT_SUCCESS} if the program finished successfully, {@code EXIT_FAILURE}
+     *         if it did not, and {@code EXIT_USAGE} if the arguments are invalid or a file could not be read
+     */
+    public int run(String[] args) {
+        if (args.length > 0 && args[0].equals(BATCH_OPTION))
+            return this.runBatch(Arrays.copyOfRange(args, 1, args.length));
+
+        String engine = INTERPRETER_ENGINE;
+        String inputFile = null;
+        String programFile = null;
+        boolean detectLoops = false;
+        long stepLimit = Long.MAX_VALUE;
+        Duration timeLimit = null;
+        long outputLimit = Long.MAX_VALUE;
+        Limits limits;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                boolean hasValue = i + 1 < args.length;
+
+                if (args[i].equals(ENGINE_OPTION) && hasValue)
+                    engine = args[++i];
+                else if (args[i].equals(INPUT_OPTION) && hasValue)
+                    inputFile = args[++i];
+                else if (args[i].equals(STEP_LIMIT_OPTION) && hasValue)
+                    stepLimit = Long.parseLong(args[++i]);
+                else if (args[i].equals(TIME_LIMIT_OPTION) && hasValue)
+                    timeLimit = Duration.ofMillis(Long.parseLong(args[++i]));
+                else if (args[i].equals(OUTPUT_LIMIT_OPTION) && hasValue)
+                    outputLimit = Long.parseLong(args[++i]);
+                else if (args[i].equals(DETECT_LOOPS_OPTION))
+                    detectLoops = true;
+                else if (programFile == null && !args[i].startsWith("--"))
+                    programFile = args[i];
+                else
+                    throw new IllegalArgumentException(args[i]);
+            }
+
+            if (programFile == null)
+                throw new IllegalArgumentException();
+
+            limits = new Limits(stepLimit, timeLimit, outputLimit);
+        } catch (IllegalArgumentException _) {
+            this.err.println(s("headlessUsageMessage"));
+            return EXIT_USAGE;
+        }
+
+        Decoder decoder = new RandomAccessMachineDecoder();
+        Machine machine = this.createMachine(engine, decoder);
+
+        if (machine == null) {
+            this.err.println(s("headlessUsageMessage"));
+            return EXIT_USAGE;
+        }
+
+        machine.setLoopDetection(detectLoops);
+
+        String program = this.read(programFile);
+
+        if (program == null) {
+            this.err.println(s("headlessReadFailureMessage", programFile));
+            return EXIT_USAGE;
+        }
+
+        try (InputStream inputStream = inputFile == null ? this.in : new FileInputStream(inputFile)) {
+            Scanner scanner = new Scanner(inputStream);
+
+            // The whole input file is delivered at once, so that the machine queues all of its inputs right away.
+            if (inputFile != null)
+                scanner.useDelimiter("\\A");
+
+            // Flush the outputs before waiting for an input, so that interactive users see them in time.
+            Supplier<String> input = () -> {
+                this.out.flush();
+                return scanner.hasNext() ? scanner.next() : null;
+            };
+
+            Compiler compiler = new RandomAccessMachineCompiler(decoder, this.memoryLimit, this.evaluationLimit);
+            ExecuteUsecase executeUsecase = new ExecuteUsecase(machine, compiler);
+            Status status = executeUsecase.execute(program, input, this.out::println, limits);
+            this.out.flush();
+
+            if (status == Status.FINISH_SUCCESS)
+                return EXIT_SUCCESS;
+
+            // An infinite loop is reported together with the line the program has been stopped at.
+            if (status == Status.INFINITE_LOOP_ERROR) {
+                this.err.println(s("lineProblemMessage", this.hint(status), String.valueOf(executeUsecase.getLine())));
+                this.err.println(s("finishFailureHintMessage"));
+                return EXIT_FAILURE;
+            }
+
+            // If the program could not be compiled, report all of its problems at once instead of only the first one.
+            List<Problem> problems = compiler.validate(program);
+            this.err.println(problems.isEmpty() ? this.describe(status) : this.describe(problems));
+            return EXIT_FAILURE;
+        } catch (IOException e) {
+            this.err.println(s("headlessReadFailureMessage", inputFile));
+            return EXIT_USAGE;
+        }
+    }
+
+    /**
+     * This method runs every given program against every input vector in parallel.
+     *
+     * @param args The command line arguments without the batch option, which are the options followed by the paths
+     *             to the programs or to directories containing programs
+     * @return The exit code, which is {@code EXIT_SUCCESS} if all jobs finished successfully, {@code EXIT_FAILURE} if
+     *         at least one did not, and {@code EXIT_USAGE} if the arguments are invalid or a file could not be read
+     */
+    private int runBatch(String[] args) {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        long stepLimit = Long.MAX_VALUE;
+        Duration timeLimit = null;
+        long outputLimit = Long.MAX_VALUE;
+        Limits limits;
+        String inputFile = null;
+        String cacheDirectory = null;
+        boolean detectLoops = false;
+        List<String> paths = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                boolean hasValue = i + 1 < args.length;
+
+                if (args[i].equals(JOBS_OPTION) && hasValue)
+                    parallelism = Integer.parseInt(args[++i]);
+                else if (args[i].equals(STEP_LIMIT_OPTION) && hasValue)
+                    stepLimit = Long.parseLong(args[++i]);
+                else if (args[i].equals(TIME_LIMIT_OPTION) && hasValue)
+                    timeLimit = Duration.ofMillis(Long.parseLong(args[++i]));
+                else if (args[i].equals(OUTPUT_LIMIT_OPTION) && hasValue)
+                    outputLimit = Long.parseLong(args[++i]);
+                else if (args[i].equals(INPUT_OPTION) && hasValue)
+                    inputFile = args[++i];
+                else if (args[i].equals(CACHE_OPTION) && hasValue)
+                    cacheDirectory = args[++i];
+                else if (args[i].equals(DETECT_LOOPS_OPTION))
+                    detectLoops = true;
+                else if (!args[i].startsWith("--"))
+                    paths.add(args[i]);
+                else
+                    throw new IllegalArgumentException(args[i]);
+            }
+
+            if (paths.isEmpty() || parallelism < 1)
+                throw new IllegalArgumentException();
+
+            limits = new Limits(stepLimit, timeLimit, outputLimit);
+        } catch (IllegalArgumentException _) {
+            this.err.println(s("headlessBatchUsageMessage"));
+            return EXIT_USAGE;
+        }
+
+        List<String> programFiles = new ArrayList<>();
+
+        for (String path : paths) {
+            Path file = Path.of(path);
+
+            if (!Files.isDirectory(file)) {
+                programFiles.add(path);
+                continue;
+            }
+
+            try (Stream<Path> files = Files.list(file)) {
+                files.filter(Files::isRegularFile).map(Path::toString).sorted().forEach(programFiles::add);
+            } catch (IOException _) {
+                this.err.println(s("headlessReadFailureMessage", path));
+                return EXIT_USAGE;
+            }
+        }
+
+        List<List<String>> vectors = new ArrayList<>();
+
+        if (inputFile == null) {
+            vectors.add(List.of());
+        } else {
+            try {
+                for (String line : Files.readAllLines(Path.of(inputFile)))
+                    if (!line.isBlank())
+                        vectors.add(List.of(line.trim().split("\\s+")));
+            } catch (IOException _) {
+                this.err.println(s("headlessReadFailureMessage", inputFile));
+                return EXIT_USAGE;
+            }
+        }
+
+        List<BatchJob> jobs = new ArrayList<>();
+
+        for (String programFile : programFiles) {
+            String program = this.read(programFile);
+
+            if (program == null) {
+                this.err.println(s("headlessReadFailureMessage", programFile));
+                return EXIT_USAGE;
+            }
+
+            for (List<String> vector : vectors)
+                jobs.add(new BatchJob(programFile, program, vector));
+        }
+
+        Decoder decoder = new RandomAccessMachineDecoder();
+        boolean detecting = detectLoops;
+        // Results of differently configured machines must not be mixed up, e.g. a program running forever only stops
+        // with `INFINITE_LOOP_ERROR` if infinite loops are detected.
+        ResultCache cache = new ResultCache(ResultCache.DEFAULT_CAPACITY,
+                                            cacheDirectory == null ? null : Path.of(cacheDirectory),
+                                            "memoryLimit=" + this.memoryLimit + " detectLoops=" + detecting);
+        BatchUsecase batchUsecase = new BatchUsecase(() -> {
+            Machine machine = new RandomAccessMachine(new InputQueue(), decoder, this.memoryLimit);
+            machine.setLoopDetection(detecting);
+            return machine;
+        }, new RandomAccessMachineCompiler(decoder, this.memoryLimit, this.evaluationLimit), cache);
+        List<BatchResult> results = batchUsecase.execute(jobs, limits, parallelism);
+        int exitCode = EXIT_SUCCESS;
+
+        // Every line contains the program, the number of the input vector, the status,
+        // the duration in milliseconds and the outputs, which are separated by tabs.
+        for (int i = 0; i < results.size(); i++) {
+            BatchResult result = results.get(i);
+
+            this.out.println(String.join("\t",
+                                         result.getJob().getName(),
+                                         String.valueOf(i % vectors.size() + 1),
+                                         result.getStatus().name(),
+                                         String.format(Locale.ROOT, "%.3f", result.getDuration() / 1e6),
+                                         String.join(" ", result.getOutputs())));
+
+            if (result.getStatus() != Status.FINISH_SUCCESS)
+                exitCode = EXIT_FAILURE;
+        }
+
+        this.out.flush();
+        return exitCode;
+    }
+}
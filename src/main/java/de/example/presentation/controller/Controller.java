@@ -7,6 +7,7 @@ import de.example.core.di.Di;
 import de.example.presentation.Model;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
+import javafx.scene.control.CheckMenuItem;
 import javafx.scene.control.Label;
 import javafx.scene.control.Menu;
 import javafx.scene.control.MenuItem;
@@ -44,11 +45,18 @@ public class Controller {
     @FXML private MenuItem deleteFileMenuItem;
     @FXML private MenuItem runFileMenuItem;
     @FXML private MenuItem stopMenuItem;
+    @FXML private CheckMenuItem profileMenuItem;
+    @FXML private CheckMenuItem limitMenuItem;
+    @FXML private MenuItem pauseMenuItem;
+    @FXML private MenuItem resumeMenuItem;
+    @FXML private MenuItem stepMenuItem;
 
     @FXML private Label fileLabel;
+    @FXML private Label problemLabel;
 
     @FXML private TextField inputTextField;
     @FXML private TextArea editorTextArea;
+    @FXML private TextArea profileTextArea;
     @FXML private TextArea outputTextArea;
 
     /** This attribute is used to check whether a given font is available on the system. */
@@ -67,8 +75,21 @@ public class Controller {
     /** This method initializes the user interface. */
     @FXML private void initialize() {
         this.editorTextArea.textProperty().bindBidirectional(this.model.editorTextAreaTextProperty());
-        this.outputTextArea.textProperty().bindBidirectional(this.model.outputTextAreaTextProperty());
+        this.model.attachOutput(this.outputTextArea);
         this.fileLabel.textProperty().bind(this.model.fileLabelTextProperty());
+        this.problemLabel.textProperty().bind(this.model.problemLabelTextProperty());
+        this.problemLabel.visibleProperty().bind(this.problemLabel.textProperty().isNotEmpty());
+        this.problemLabel.managedProperty().bind(this.problemLabel.visibleProperty());
+
+        // The profile is shown next to the editor as long as it matches the program, which is why it is hidden as
+        // soon as the program is changed. Both text areas are scrolled together, so that every count stays next to
+        // its line.
+        this.profileTextArea.textProperty().bind(this.model.profileTextAreaTextProperty());
+        this.profileTextArea.visibleProperty().bind(this.profileTextArea.textProperty().isNotEmpty());
+        this.profileTextArea.managedProperty().bind(this.profileTextArea.visibleProperty());
+        this.editorTextArea.textProperty().addListener((_, _, _) -> this.model.clearProfile());
+        this.editorTextArea.scrollTopProperty().addListener(
+                (_, _, scrollTop) -> this.profileTextArea.setScrollTop(scrollTop.doubleValue()));
 
         this.inputTextField.setOnKeyPressed(
                 (keyEvent -> {
@@ -91,13 +112,20 @@ public class Controller {
         this.deleteFileMenuItem.setText(s("deleteFileMenuItemText"));
         this.runFileMenuItem.setText(s("runFileMenuItemText"));
         this.stopMenuItem.setText(s("stopMenuItemText"));
+        this.profileMenuItem.setText(s("profileMenuItemText"));
+        this.limitMenuItem.setText(s("limitMenuItemText"));
+        this.pauseMenuItem.setText(s("pauseMenuItemText"));
+        this.resumeMenuItem.setText(s("resumeMenuItemText"));
+        this.stepMenuItem.setText(s("stepMenuItemText"));
 
         if (fontChecker.isFontAvailable(SF_MONO_FONT_NAME)) {
             this.editorTextArea.setFont(SF_MONO);
+            this.profileTextArea.setFont(SF_MONO);
             this.inputTextField.setFont(SF_MONO);
             this.outputTextArea.setFont(SF_MONO);
         } else if (fontChecker.isFontAvailable(COURIER_NEW_FONT_NAME)) {
             this.editorTextArea.setFont(COURIER_NEW);
+            this.profileTextArea.setFont(COURIER_NEW);
             this.inputTextField.setFont(COURIER_NEW);
             this.outputTextArea.setFont(COURIER_NEW);
         }
@@ -118,7 +146,7 @@ public class Controller {
         File file = new FileChooser().showOpenDialog(this.editorTextArea.getScene().getWindow());
 
         if (file != null) {
-            this.outputTextArea.setText("");
+            this.model.clearOutput();
             this.model.openFile(file.getAbsolutePath());
         }
     }
@@ -136,16 +164,21 @@ public class Controller {
             return;
         }
 
-        this.outputTextArea.setText("");
+        this.model.clearOutput();
         this.runFileMenuItem.setDisable(true);
         this.stopMenuItem.setDisable(false);
+        this.pauseMenuItem.setDisable(false);
 
-        this.model.run(program);
+        this.model.run(program, this.profileMenuItem.isSelected(), this.limitMenuItem.isSelected());
         new Thread(() -> {
             try {
                 stopSignal.await();
+                Platform.runLater(() -> model.showProfile());
                 Platform.runLater(() -> runFileMenuItem.setDisable(false));
                 Platform.runLater(() -> stopMenuItem.setDisable(true));
+                Platform.runLater(() -> pauseMenuItem.setDisable(true));
+                Platform.runLater(() -> resumeMenuItem.setDisable(true));
+                Platform.runLater(() -> stepMenuItem.setDisable(true));
             } catch (InterruptedException | BrokenBarrierException e) {
                 throw new RuntimeException(e);
             }
@@ -162,4 +195,27 @@ public class Controller {
     @FXML private void stop() {
         this.model.stop();
     }
+
+    /** This method is called when the user clicks on the {@code pauseMenuItem}. */
+    @FXML private void pause() {
+        if (this.model.pause()) {
+            this.pauseMenuItem.setDisable(true);
+            this.resumeMenuItem.setDisable(false);
+            this.stepMenuItem.setDisable(false);
+        }
+    }
+
+    /** This method is called when the user clicks on the {@code resumeMenuItem}. */
+    @FXML private void resume() {
+        if (this.model.resume()) {
+            this.pauseMenuItem.setDisable(false);
+            this.resumeMenuItem.setDisable(true);
+            this.stepMenuItem.setDisable(true);
+        }
+    }
+
+    /** This method is called when the user clicks on the {@code stepMenuItem}. */
+    @FXML private void step() {
+        this.model.step();
+    }
 }
@@ -3,6 +3,7 @@ open module Interpredit {
     requires javafx.fxml;
     requires io.vavr;
     requires com.google.guice;
+    requires org.objectweb.asm;
     requires jdk.jfr;
     requires java.desktop;
 }
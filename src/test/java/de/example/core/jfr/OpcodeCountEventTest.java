@@ -0,0 +1,93 @@
+package de.example.core.jfr;
+
+import de.example.domain.entities.InputQueue;
+import de.example.domain.entities.Status;
+import de.example.domain.entities.machines.Program;
+import de.example.domain.entities.machines.ram.RandomAccessMachine;
+import de.example.domain.entities.machines.ram.RandomAccessMachineCompiler;
+import de.example.domain.entities.machines.ram.RandomAccessMachineDecoder;
+import de.example.domain.usecases.ExecuteUsecase;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OpcodeCountEventTest {
+    private RandomAccessMachineCompiler compiler;
+    private ExecuteUsecase executeUsecase;
+
+    private static final String PROGRAM = "SET 2\nLDK 1\nSTA 2\nLDK 3\nSTA 1\nLDA 1\nSUB 2\nSTA 1\nJGZ 6\nHLT 99";
+
+    @BeforeEach
+    void setUp() {
+        RandomAccessMachineDecoder decoder = new RandomAccessMachineDecoder();
+        compiler = new RandomAccessMachineCompiler(decoder);
+        executeUsecase = new ExecuteUsecase(new RandomAccessMachine(mock(InputQueue.class), decoder), compiler);
+    }
+
+    private List<RecordedEvent> record(Runnable runnable, boolean countOpcodes) throws IOException {
+        Path file = Files.createTempFile("interpredit", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(ProgramRunEvent.class);
+            recording.enable(CompileEvent.class);
+
+            if (countOpcodes)
+                recording.enable(OpcodeCountEvent.class);
+
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(file);
+
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void countOpcodes() throws IOException {
+        Program compiled = compiler.compile(PROGRAM).get();
+
+        List<RecordedEvent> events = record(() -> executeUsecase.execute(compiled, () -> null, _ -> {}), true);
+
+        Map<String, Long> counts = events.stream()
+                .filter(event -> event.getEventType().getName().equals("de.example.OpcodeCount"))
+                .collect(Collectors.toMap(event -> event.getString("opcode"), event -> event.getLong("count")));
+
+        assertEquals(counts, Map.of("SET", 1L, "LDK", 2L, "STA", 5L, "LDA", 3L, "SUB", 3L, "JGZ", 3L, "HLT", 1L));
+
+        RecordedEvent run = events.stream()
+                .filter(event -> event.getEventType().getName().equals("de.example.ProgramRun"))
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals(run.getString("status"), Status.FINISH_SUCCESS.name());
+        assertEquals(run.getLong("instructions"), 18);
+        assertEquals(run.getInt("lines"), 10);
+        assertEquals(run.getInt("programHash"), compiled.hashCode());
+    }
+
+    @Test
+    void countOpcodesDisabled() throws IOException {
+        List<RecordedEvent> events = record(() -> executeUsecase.execute(PROGRAM, () -> null, _ -> {}), false);
+
+        assertTrue(events.stream().noneMatch(event -> event.getEventType().getName().equals("de.example.OpcodeCount")));
+        assertEquals(events.stream()
+                             .filter(event -> event.getEventType().getName().equals("de.example.Compile"))
+                             .map(event -> event.getString("status"))
+                             .toList(),
+                     List.of(Status.OK.name()));
+    }
+}
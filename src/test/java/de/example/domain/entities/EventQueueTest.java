@@ -0,0 +1,75 @@
+package de.example.domain.entities;
+
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventQueueTest {
+    @Test
+    void drainAvailable() {
+        EventQueue queue = new EventQueue(4);
+        Status[] statuses = new Status[8];
+        int[] values = new int[8];
+
+        queue.put(Status.OUTPUT, 174);
+        queue.put(Status.OUTPUT, -3);
+        queue.put(Status.FINISH_SUCCESS, 0);
+
+        int count = queue.drain(statuses, values);
+
+        assertEquals(count, 3);
+        assertEquals(statuses[0], Status.OUTPUT);
+        assertEquals(values[0], 174);
+        assertEquals(values[1], -3);
+        assertEquals(statuses[2], Status.FINISH_SUCCESS);
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void drainLimited() {
+        EventQueue queue = new EventQueue(4);
+        Status[] statuses = new Status[2];
+        int[] values = new int[2];
+
+        for (int i = 0; i < 3; i++)
+            queue.put(Status.OUTPUT, i);
+
+        assertEquals(queue.drain(statuses, values), 2);
+        assertEquals(queue.drain(statuses, values), 1);
+        assertEquals(values[0], 2);
+    }
+
+    @Test
+    void putFull() {
+        EventQueue queue = new EventQueue(2);
+        int total = 10_000;
+
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < total; i++)
+                queue.put(Status.OUTPUT, i);
+
+            queue.put(Status.FINISH_SUCCESS, 0);
+        });
+        writer.start();
+
+        Status[] statuses = new Status[3];
+        int[] values = new int[3];
+        int expected = 0;
+
+        // The writer is blocked whenever the queue is full, so every value has to arrive exactly once and in order.
+        outer:
+        while (true) {
+            int count = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> queue.drain(statuses, values));
+
+            for (int i = 0; i < count; i++) {
+                if (statuses[i] == Status.FINISH_SUCCESS)
+                    break outer;
+
+                assertEquals(values[i], expected++);
+            }
+        }
+
+        assertEquals(expected, total);
+    }
+}
@@ -0,0 +1,37 @@
+package de.example.domain.entities;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExecutionMetricsTest {
+    @Test
+    void measure() throws InterruptedException {
+        ExecutionMetrics metrics = new ExecutionMetrics();
+
+        metrics.start();
+        Thread.sleep(20);
+        metrics.addOutputWaitTime(2_000_000);
+        metrics.addOutputWaitTime(3_000_000);
+        metrics.end(1_000, 4_000_000);
+
+        assertTrue(metrics.getWallTime() >= 20_000_000);
+        assertEquals(metrics.getInputWaitTime(), 4_000_000);
+        assertEquals(metrics.getOutputWaitTime(), 5_000_000);
+        assertEquals(metrics.getComputeTime(), metrics.getWallTime() - 9_000_000);
+        assertEquals(metrics.getInstructions(), 1_000);
+        assertEquals(metrics.getInstructionsPerSecond(), 1_000 * 1e9 / metrics.getComputeTime(), 1e-6);
+    }
+
+    @Test
+    void measureNothing() {
+        ExecutionMetrics metrics = new ExecutionMetrics();
+
+        metrics.start();
+        metrics.addOutputWaitTime(Long.MAX_VALUE / 2);
+        metrics.end(5, 0);
+
+        assertEquals(metrics.getComputeTime(), 0);
+        assertEquals(metrics.getInstructionsPerSecond(), 0);
+    }
+}
@@ -0,0 +1,87 @@
+package de.example.domain.entities;
+
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputQueueTest {
+    @Test
+    void writeSeveral() throws InterruptedException {
+        InputQueue inputs = new InputQueue();
+        inputs.write(" 174\n-3\t+8 ");
+
+        assertEquals(inputs.read(), 174);
+        assertEquals(inputs.poll(), -3);
+        assertEquals(inputs.poll(), 8);
+        assertEquals(inputs.poll(), InputQueue.EMPTY);
+    }
+
+    @Test
+    void writeInvalid() {
+        InputQueue inputs = new InputQueue();
+        inputs.write("1 A 2");
+        inputs.write("3");
+
+        // Every input delivered after an invalid one is dropped.
+        assertEquals(inputs.poll(), 1);
+        assertEquals(inputs.poll(), InputQueue.INVALID);
+        assertEquals(inputs.poll(), InputQueue.INVALID);
+
+        inputs.reset();
+        inputs.write("  ");
+        assertEquals(inputs.poll(), InputQueue.INVALID);
+
+        inputs.reset();
+        inputs.write("2147483648");
+        assertEquals(inputs.poll(), InputQueue.INVALID);
+    }
+
+    @Test
+    void writeMany() {
+        InputQueue inputs = new InputQueue();
+
+        for (int i = 0; i < 100; i++) {
+            inputs.write(i + " " + -i);
+            assertEquals(inputs.poll(), i / 2 * (i % 2 == 0 ? 1 : -1));
+        }
+
+        assertFalse(inputs.isEmpty());
+    }
+
+    @Test
+    void readEmpty() throws Exception {
+        InputQueue inputs = new InputQueue();
+        FutureTask<Long> reader = new FutureTask<>(inputs::read);
+        new Thread(reader).start();
+
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertFalse(reader.isDone());
+
+        inputs.write("203");
+        assertEquals(reader.get(5, TimeUnit.SECONDS), 203);
+    }
+
+    @Test
+    void readClosed() throws InterruptedException {
+        InputQueue inputs = new InputQueue();
+        inputs.write("174");
+        inputs.close();
+
+        assertFalse(inputs.isEmpty());
+        assertEquals(inputs.read(), 174);
+        assertEquals(inputs.read(), InputQueue.CLOSED);
+    }
+
+    @Test
+    void reset() {
+        InputQueue inputs = new InputQueue();
+        inputs.write("174 A");
+        inputs.close();
+        inputs.reset();
+
+        assertTrue(inputs.isEmpty());
+        assertEquals(inputs.poll(), InputQueue.EMPTY);
+    }
+}
@@ -0,0 +1,86 @@
+package de.example.domain.entities.batch;
+
+import de.example.domain.entities.Limits;
+import de.example.domain.entities.Status;
+import de.example.domain.entities.machines.Program;
+import de.example.domain.entities.machines.ram.RandomAccessMachineCompiler;
+import de.example.domain.entities.machines.ram.RandomAccessMachineDecoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultCacheTest {
+    private RandomAccessMachineCompiler compiler;
+    private ResultCache cache;
+
+    private static final String SQUARE = "SET 2\nINP 1\nLDA 1\nMUL 1\nSTA 2\nOUT 2\nHLT 0";
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() {
+        compiler = new RandomAccessMachineCompiler(new RandomAccessMachineDecoder());
+        cache = new ResultCache(2, null, "");
+    }
+
+    private Program compile(String program) {
+        return compiler.compile(program).get();
+    }
+
+    @Test
+    void key() {
+        String key = cache.key(compile(SQUARE), List.of("3"), Limits.NONE);
+
+        // Comments, whitespaces and case do not change the compiled program.
+        assertEquals(cache.key(compile(SQUARE.toLowerCase().replace("INP 1", "inp   1 // read")), List.of("3"),
+                               Limits.NONE), key);
+        assertEquals(cache.key(compile(SQUARE), List.of("3"), new Limits(Long.MAX_VALUE, null, Long.MAX_VALUE)), key);
+        assertEquals(key.length(), 64);
+
+        assertNotEquals(cache.key(compile(SQUARE), List.of("4"), Limits.NONE), key);
+        assertNotEquals(cache.key(compile(SQUARE.replace("MUL", "ADD")), List.of("3"), Limits.NONE), key);
+        assertNotEquals(cache.key(compile(SQUARE), List.of("3"), new Limits(10, null, Long.MAX_VALUE)), key);
+        assertNotEquals(new ResultCache(2, null, "detectLoops=true").key(compile(SQUARE), List.of("3"), Limits.NONE),
+                        key);
+    }
+
+    @Test
+    void getLeastRecentlyUsed() {
+        ResultCache.Entry entry = new ResultCache.Entry(Status.FINISH_SUCCESS, List.of("9"), 7);
+
+        cache.put("a", entry);
+        cache.put("b", entry);
+        assertSame(cache.get("a"), entry);
+
+        // The least recently used result is evicted.
+        cache.put("c", entry);
+        assertNull(cache.get("b"));
+        assertSame(cache.get("a"), entry);
+        assertSame(cache.get("c"), entry);
+    }
+
+    @Test
+    void getFromDirectory() throws Exception {
+        new ResultCache(1, directory, "").put("a", new ResultCache.Entry(Status.FINISH_SUCCESS, List.of("1", "-2"), 9));
+        new ResultCache(1, directory, "").put("b", new ResultCache.Entry(Status.STEP_LIMIT_ERROR, List.of(), 100));
+        Files.writeString(directory.resolve("c"), "UNKNOWN\n1\n\n");
+
+        ResultCache cache = new ResultCache(1, directory, "");
+        ResultCache.Entry a = cache.get("a");
+        ResultCache.Entry b = cache.get("b");
+
+        assertEquals(a.getStatus(), Status.FINISH_SUCCESS);
+        assertEquals(a.getOutputs(), List.of("1", "-2"));
+        assertEquals(a.getSteps(), 9);
+        assertEquals(b.getStatus(), Status.STEP_LIMIT_ERROR);
+        assertEquals(b.getOutputs(), List.of());
+        assertNull(cache.get("c"));
+        assertNull(cache.get("d"));
+    }
+}
@@ -0,0 +1,175 @@
+package de.example.domain.entities.machines.ram;
+
+import de.example.domain.entities.InputQueue;
+import de.example.domain.entities.Status;
+import de.example.domain.entities.machines.Command;
+import de.example.domain.entities.machines.Program;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CompiledRandomAccessMachineTest {
+    private RandomAccessMachineCompiler compiler;
+    private RandomAccessMachineBytecodeGenerator generator;
+    private CompiledRandomAccessMachine compiledRam;
+    private RandomAccessMachine ram;
+
+    private static final String MULTIPLICATION = """
+            SET 4
+            LDK 7
+            STA 1
+            LDK 6
+            STA 2
+            LDK 1
+            STA 4
+            LDK 0
+            STA 3
+
+            LDA 3
+            ADD 1
+            STA 3
+            LDA 2
+            SUB 4
+            STA 2
+            OUT 2
+            JGZ 11
+            OUT 3
+            HLT 0""";
+
+    @BeforeEach
+    void setUp() {
+        RandomAccessMachineDecoder decoder = new RandomAccessMachineDecoder();
+        compiler = new RandomAccessMachineCompiler(decoder);
+        generator = spy(new RandomAccessMachineBytecodeGenerator());
+        compiledRam = new CompiledRandomAccessMachine(new InputQueue(), decoder, generator, 1);
+        ram = new RandomAccessMachine(new InputQueue(), decoder);
+    }
+
+    /** Executes the given program and returns all outputs followed by the final status and program counter. */
+    private List<String> execute(RandomAccessMachine machine, String program) {
+        return execute(machine, compiler.compile(program).get());
+    }
+
+    /** Executes the given compiled program like {@code execute(RandomAccessMachine, String)}. */
+    private List<String> execute(RandomAccessMachine machine, Program program) {
+        List<String> result = new ArrayList<>();
+        machine.load(program);
+        machine.setOutput(value -> result.add(String.valueOf(value)));
+
+        Status status = machine.run();
+        result.add(status.name());
+        result.add(String.valueOf(machine.getPc()));
+        return result;
+    }
+
+    @Test
+    void generate() {
+        RandomAccessMachineBytecodeGenerator generator = new RandomAccessMachineBytecodeGenerator();
+        assertNotNull(generator.generate(compiler.compile(MULTIPLICATION).get()));
+
+        // A program whose bytecode exceeds the maximum size of a method is not translated.
+        String large = "SET 1\n" + "LDK 100000\nSTA 1\n".repeat(10_000) + "HLT 0";
+        assertNull(generator.generate(compiler.compile(large).get()));
+    }
+
+    @Test
+    void runLikeInterpreter() {
+        List<String> expected = execute(ram, MULTIPLICATION);
+        List<String> result = execute(compiledRam, MULTIPLICATION);
+
+        assertEquals(result, expected);
+        assertEquals(result.get(result.size() - 3), "42");
+        assertEquals(result.get(result.size() - 2), Status.FINISH_SUCCESS.name());
+        assertEquals(compiledRam.getSteps(), ram.getSteps());
+        verify(generator, times(1)).generate(any());
+    }
+
+    @Test
+    void runTiered() {
+        compiledRam = new CompiledRandomAccessMachine(new InputQueue(), new RandomAccessMachineDecoder(), generator, 6);
+        Program program = compiler.compile(MULTIPLICATION).get();
+
+        // The loop of the program only jumps back five times, which is why it is interpreted as a whole.
+        execute(compiledRam, program);
+        verify(generator, never()).generate(any());
+
+        // The same program is translated at most once, even if it is loaded again.
+        compiledRam = new CompiledRandomAccessMachine(new InputQueue(), new RandomAccessMachineDecoder(), generator, 5);
+        for (int i = 0; i < 3; i++) {
+            compiledRam.reset();
+            assertEquals(execute(compiledRam, program), execute(ram, program));
+            assertEquals(compiledRam.getSteps(), ram.getSteps());
+            ram.reset();
+        }
+
+        verify(generator, times(1)).generate(program);
+    }
+
+    @Test
+    void runProfiled() {
+        ram.setProfiling(true);
+        compiledRam.setProfiling(true);
+
+        assertEquals(execute(compiledRam, MULTIPLICATION), execute(ram, MULTIPLICATION));
+        assertArrayEquals(compiledRam.getProfile(), ram.getProfile());
+        assertEquals(compiledRam.getProfile()[10], 6);
+    }
+
+    /** Decodes the given program without validating it, so that it may contain problems the compiler rejects. */
+    private Program decode(String program) {
+        RandomAccessMachineDecoder decoder = new RandomAccessMachineDecoder();
+        return new Program(Arrays.stream(program.split("\n")).map(decoder::decode).toArray(Command[]::new));
+    }
+
+    @Test
+    void runErrors() {
+        String memoryAddressError = "SET 2\nLDK 3\nSTA 1\nADD 3\nHLT 0";
+        assertEquals(execute(compiledRam, decode(memoryAddressError)),
+                     List.of(Status.MEMORY_ADDRESS_ERROR.name(), "3"));
+
+        compiledRam.reset();
+        String divisionByZeroError = "SET 2\nLDK 3\nSTA 1\nDIV 2\nHLT 0";
+        assertEquals(execute(compiledRam, divisionByZeroError), List.of(Status.DIVISION_BY_ZERO_ERROR.name(), "3"));
+
+        compiledRam.reset();
+        String programAddressError = "SET 1\nLDK 3\nJGZ 5\nHLT 0";
+        assertEquals(execute(compiledRam, decode(programAddressError)), List.of(Status.PROGRAM_ADDRESS_ERROR.name(), "4"));
+    }
+
+    @Test
+    void runStepLimit() {
+        Program program = compiler.compile(MULTIPLICATION).get();
+        List<String> result = RandomAccessMachineTestUtils.execute(ram, program, "", Long.MAX_VALUE);
+        long steps = Long.parseLong(result.getLast());
+
+        // The generated code stops at exactly the same command as the interpreter for every limit.
+        for (long limit = 0; limit <= steps; limit++)
+            assertEquals(RandomAccessMachineTestUtils.execute(compiledRam, program, "", limit),
+                         RandomAccessMachineTestUtils.execute(ram, program, "", limit), "limit " + limit);
+
+        verify(generator, times(1)).generate(program);
+    }
+
+    @Test
+    void runInterrupted() {
+        compiledRam.load(compiler.compile("SET 1\nLDK 1\nJMP 2\nHLT 0").get());
+
+        new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException _) {}
+
+            compiledRam.interrupt();
+        }).start();
+
+        Status status = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> compiledRam.run());
+        assertEquals(status, Status.OK);
+        assertTrue(compiledRam.isInterrupt());
+    }
+}
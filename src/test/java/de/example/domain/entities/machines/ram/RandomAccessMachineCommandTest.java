@@ -7,6 +7,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,4 +52,21 @@ class RandomAccessMachineCommandTest {
         verify(ram, times(1)).hop(HOP_VALUE);
         assertEquals(status, Status.OK);
     }
+
+    @Test
+    void executeInvalid() {
+        RandomAccessMachineCommand command = new RandomAccessMachineCommand("CMD", SET_VALUE);
+        Status status = command.execute(ram);
+
+        assertNull(command.getOpcode());
+        assertEquals(status, Status.COMMAND_ERROR);
+    }
+
+    @Test
+    void resolve() {
+        assertEquals(RandomAccessMachineOpcode.resolve("jgz"), RandomAccessMachineOpcode.JGZ);
+        assertEquals(RandomAccessMachineOpcode.resolve("Set"), RandomAccessMachineOpcode.SET);
+        assertNull(RandomAccessMachineOpcode.resolve("HOP"));
+        assertNull(RandomAccessMachineOpcode.resolve("CMD"));
+    }
 }
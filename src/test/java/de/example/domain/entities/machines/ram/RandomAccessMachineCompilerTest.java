@@ -0,0 +1,94 @@
+package de.example.domain.entities.machines.ram;
+
+import de.example.domain.entities.Status;
+import de.example.domain.entities.machines.Problem;
+import de.example.domain.entities.machines.Program;
+import io.vavr.control.Either;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class RandomAccessMachineCompilerTest {
+    private RandomAccessMachineCompiler compiler;
+
+    @BeforeEach
+    void setUp() {
+        compiler = new RandomAccessMachineCompiler(new RandomAccessMachineDecoder());
+    }
+
+    @Test
+    void compileSuccess() {
+        Either<Status, Program> result = compiler.compile("SET 1\n\n  LDK 7\nHLT 0");
+
+        assertTrue(result.isRight());
+        assertEquals(result.get().size(), 4);
+        assertNotNull(result.get().get(1));
+    }
+
+    @Test
+    void compileLines() {
+        for (String program : new String[] {"", "\n", "\n\n", "SET 1\nHLT 0\n\n", "\nSET 1", " \n", "SET 1\n\n\nHLT 0"})
+            assertEquals(compiler.compile(program).get().size(), program.split("\n").length);
+    }
+
+    @Test
+    void compileFailure() {
+        Either<Status, Program> result;
+
+        result = compiler.compile(null);
+        assertEquals(result.getLeft(), Status.DECODE_ERROR);
+
+        result = compiler.compile("SET 1\nLDK\nHLT 0");
+        assertEquals(result.getLeft(), Status.DECODE_ERROR);
+
+        result = compiler.compile("SET 1\nHLT 0\nLDK A");
+        assertEquals(result.getLeft(), Status.DECODE_ERROR);
+
+        result = compiler.compile("SET 1\nCMD 1\nHLT 0");
+        assertEquals(result.getLeft(), Status.COMMAND_ERROR);
+
+        result = compiler.compile("SET 1\nHOP 1\nHLT 0");
+        assertEquals(result.getLeft(), Status.COMMAND_ERROR);
+
+        result = compiler.compile("LDK 1\nHLT 0");
+        assertEquals(result.getLeft(), Status.SET_ERROR);
+
+        result = compiler.compile("SET 1\nLDA 2\nHLT 0");
+        assertEquals(result.getLeft(), Status.MEMORY_ADDRESS_ERROR);
+
+        result = compiler.compile("SET 1\nJMP 4\nHLT 0");
+        assertEquals(result.getLeft(), Status.PROGRAM_ADDRESS_ERROR);
+    }
+
+    @Test
+    void compileVerified() {
+        assertTrue(compiler.compile("SET 1\nLDK 7\nJGZ 4\nHLT 0").get().isVerified());
+        assertFalse(compiler.compile("SET 1\nLDK 7\nJGZ 2").get().isVerified());
+    }
+
+    @Test
+    void compileEvaluated() {
+        RandomAccessMachineCompiler evaluating = new RandomAccessMachineCompiler(
+                new RandomAccessMachineDecoder(), RandomAccessMachine.DEFAULT_MEMORY_LIMIT, 100);
+        Program program = evaluating.compile("SET 1\nLDK 7\nINP 1\nHLT 0").get();
+
+        assertEquals(program.getSnapshot().getPc(), 2);
+        assertEquals(program, compiler.compile("SET 1\nLDK 7\nINP 1\nHLT 0").get());
+        assertNull(compiler.compile("SET 1\nLDK 7\nINP 1\nHLT 0").get().getSnapshot());
+    }
+
+    @Test
+    void validate() {
+        assertEquals(compiler.validate("SET 1\nHLT 0"), List.of());
+        assertEquals(compiler.validate(null), List.of(new Problem(1, Status.DECODE_ERROR)));
+        assertEquals(compiler.validate("SET 1\nLDK\nSTA 2\nJMP 0\nHLT 0\n\n"),
+                     List.of(new Problem(2, Status.DECODE_ERROR),
+                             new Problem(3, Status.MEMORY_ADDRESS_ERROR),
+                             new Problem(4, Status.PROGRAM_ADDRESS_ERROR)));
+    }
+}
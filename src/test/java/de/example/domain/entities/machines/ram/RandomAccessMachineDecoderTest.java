@@ -50,4 +50,40 @@ class RandomAccessMachineDecoderTest {
         result = decoder.decode("\tCMD 1");
         assertNotNull(result);
     }
+
+    @Test
+    void decodeWhitespace() {
+        RandomAccessMachineDecoder decoder = new RandomAccessMachineDecoder();
+        Command expected = new RandomAccessMachineCommand(RandomAccessMachineOpcode.LDK, 7);
+
+        assertEquals(decoder.decode("LDK 7"), expected);
+        assertEquals(decoder.decode("ldk\t7"), expected);
+        assertEquals(decoder.decode("LDK 7\r"), expected);
+        assertEquals(decoder.decode("\u2003LDK\n\u000B+7 "), expected);
+        assertNull(decoder.decode("LDK 7 7"));
+        assertNull(decoder.decode("LDK 2147483648"));
+        assertNull(decoder.decode("LDK 7A"));
+        assertEquals(decoder.decode("LDK -2147483648"),
+                     new RandomAccessMachineCommand(RandomAccessMachineOpcode.LDK, Integer.MIN_VALUE));
+    }
+
+    @Test
+    void decodeRegion() {
+        RandomAccessMachineDecoder decoder = new RandomAccessMachineDecoder();
+        String program = "SET 4\nSTA  300\nHLT 0";
+
+        assertEquals(decoder.decode(program, 6, 14), new RandomAccessMachineCommand(RandomAccessMachineOpcode.STA, 300));
+        assertEquals(decoder.decode(program, 5, 6), new RandomAccessMachineCommand(RandomAccessMachineOpcode.HOP, 0));
+        assertNull(decoder.decode(program, 0, 14));
+    }
+
+    @Test
+    void decodeShared() {
+        RandomAccessMachineDecoder decoder = new RandomAccessMachineDecoder();
+
+        assertSame(decoder.decode("ADD 1"), decoder.decode(" add   1"));
+        assertSame(decoder.decode(""), decoder.decode("\t"));
+        assertNotSame(decoder.decode("ADD 1000"), decoder.decode("ADD 1000"));
+        assertNull(((RandomAccessMachineCommand) decoder.decode("HOP 1")).getOpcode());
+    }
 }
@@ -0,0 +1,110 @@
+package de.example.domain.entities.machines.ram;
+
+import de.example.domain.entities.Status;
+import de.example.domain.entities.machines.Decoder;
+import de.example.domain.entities.machines.Problem;
+import de.example.domain.entities.machines.Program;
+import io.vavr.control.Either;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RandomAccessMachineDocumentTest {
+    private RandomAccessMachineCompiler compiler;
+    private Decoder decoder;
+    private RandomAccessMachineDocument document;
+
+    @BeforeEach
+    void setUp() {
+        decoder = spy(new RandomAccessMachineDecoder());
+        compiler = new RandomAccessMachineCompiler(new RandomAccessMachineDecoder());
+        document = new RandomAccessMachineDocument(decoder);
+    }
+
+    /** Asserts that the document contains the same program the compiler produces for the same content. */
+    private void assertCompiled(String text) {
+        Either<Status, Program> expected = compiler.compile(text);
+        Either<Status, Program> result = document.getProgram();
+
+        assertEquals(result.isLeft(), expected.isLeft(), text);
+        assertEquals(result.isLeft() ? result.getLeft() : result.get(),
+                     expected.isLeft() ? expected.getLeft() : expected.get(), text);
+        assertEquals(result.isRight() && result.get().isVerified(),
+                     expected.isRight() && expected.get().isVerified(), text);
+        assertEquals(document.getProblems(), compiler.validate(text), text);
+    }
+
+    @Test
+    void update() {
+        assertCompiled("");
+
+        document.update("SET 2\nLDK 7\nOUT 1\nHLT 0");
+        assertCompiled("SET 2\nLDK 7\nOUT 1\nHLT 0");
+        assertEquals(document.getInvalidLines(), List.of());
+
+        document.update("SET 2\nLDK 7\nOUT A\nHLT 0");
+        assertCompiled("SET 2\nLDK 7\nOUT A\nHLT 0");
+        assertEquals(document.getInvalidLines(), List.of(3));
+
+        document.update("SET 2\nLDK 7\nCMD 1\nOUT A\nHLT 0\n\n");
+        assertCompiled("SET 2\nLDK 7\nCMD 1\nOUT A\nHLT 0\n\n");
+        assertEquals(document.getInvalidLines(), List.of(3, 4));
+
+        document.update("\n\n");
+        assertCompiled("\n\n");
+        assertEquals(document.getInvalidLines(), List.of());
+
+        document.update("SET 2\nLDA 3\nJMP 5\nHLT 0");
+        assertCompiled("SET 2\nLDA 3\nJMP 5\nHLT 0");
+        assertEquals(document.getInvalidLines(), List.of());
+        assertEquals(document.getProblems(), List.of(new Problem(2, Status.MEMORY_ADDRESS_ERROR),
+                                                     new Problem(3, Status.PROGRAM_ADDRESS_ERROR)));
+    }
+
+    @Test
+    void updateChangedLinesOnly() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 1000; i++)
+            text.append("LDK ").append(i).append('\n');
+
+        document.update(text.toString());
+        clearInvocations(decoder);
+
+        // Typing a single character decodes exactly the edited line.
+        text.insert(text.indexOf("LDK 500") + 7, '0');
+        document.update(text.toString());
+        verify(decoder, times(1)).decode(anyString(), anyInt(), anyInt());
+        assertCompiled(text.toString());
+
+        // Joining two lines decodes exactly the joined line.
+        clearInvocations(decoder);
+        text.deleteCharAt(text.indexOf("\nLDK 10\n"));
+        document.update(text.toString());
+        verify(decoder, times(1)).decode(anyString(), anyInt(), anyInt());
+        assertEquals(document.getInvalidLines(), List.of(10));
+    }
+
+    @Test
+    void updateRandomly() {
+        Random random = new Random(42);
+        String[] pieces = {"SET 1\n", "LDK 7", "ADD 1", "JMP 2", "\n", " ", "\t", "X", "1", "HLT 0\n", "CMD 2", "\n\n", ""};
+        StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < 2000; i++) {
+            int begin = text.isEmpty() ? 0 : random.nextInt(text.length() + 1);
+            int end = Math.min(text.length(), begin + random.nextInt(4));
+
+            if (random.nextBoolean())
+                text.replace(begin, end, pieces[random.nextInt(pieces.length)]);
+            else
+                text.insert(begin, pieces[random.nextInt(pieces.length)]);
+
+            document.update(text.toString());
+            assertCompiled(text.toString());
+        }
+    }
+}
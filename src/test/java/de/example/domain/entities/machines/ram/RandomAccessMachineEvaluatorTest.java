@@ -0,0 +1,109 @@
+package de.example.domain.entities.machines.ram;
+
+import de.example.domain.entities.InputQueue;
+import de.example.domain.entities.Status;
+import de.example.domain.entities.machines.Program;
+import de.example.domain.entities.machines.Snapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomAccessMachineEvaluatorTest {
+    private RandomAccessMachineDecoder decoder;
+    private RandomAccessMachineCompiler compiler;
+    private RandomAccessMachineEvaluator evaluator;
+
+    private static final String SQUARES = """
+            SET 4
+            LDK 3
+            STA 1
+            MUL 1
+            STA 2
+            OUT 2
+            INP 3
+            LDA 3
+            MUL 2
+            STA 4
+            OUT 4
+            HLT 0""";
+
+    @BeforeEach
+    void setUp() {
+        decoder = new RandomAccessMachineDecoder();
+        compiler = new RandomAccessMachineCompiler(decoder);
+        evaluator = new RandomAccessMachineEvaluator(decoder, RandomAccessMachine.DEFAULT_MEMORY_LIMIT, 1_000);
+    }
+
+    /** Executes the given program with the given input and limits and returns all outputs followed by the final
+     *  status, the program counter and the number of executed commands. */
+    private List<String> execute(Program program, String input, long limit, long outputLimit) {
+        RandomAccessMachine ram = new RandomAccessMachine(new InputQueue(), decoder);
+        ram.setOutputLimit(outputLimit);
+        return RandomAccessMachineTestUtils.execute(ram, program, input, limit);
+    }
+
+    @Test
+    void evaluate() {
+        Snapshot snapshot = evaluator.evaluate(compiler.compile(SQUARES).get());
+
+        // The evaluation stops right before the first INP command.
+        assertEquals(snapshot.getPc(), 6);
+        assertEquals(snapshot.getSteps(), 6);
+        assertArrayEquals(snapshot.getMemory(), new int[] {9, 3, 9, 0, 0});
+        assertArrayEquals(snapshot.getOutputs(), new int[] {9});
+    }
+
+    @Test
+    void evaluateWithoutInput() {
+        Snapshot snapshot = evaluator.evaluate(compiler.compile("SET 1\nLDK 5\nSTA 1\nOUT 1\nHLT 0").get());
+        Snapshot limited = evaluator.evaluate(compiler.compile("SET 1\nJMP 2").get());
+
+        // The HLT command is executed by the machine continuing from the snapshot.
+        assertEquals(snapshot.getPc(), 4);
+        assertEquals(snapshot.getSteps(), 4);
+        assertArrayEquals(snapshot.getOutputs(), new int[] {5});
+        assertEquals(limited.getPc(), 1);
+        assertEquals(limited.getSteps(), 1_000);
+    }
+
+    @Test
+    void evaluateNothing() {
+        Program program = compiler.compile(SQUARES).get();
+
+        assertNull(new RandomAccessMachineEvaluator(decoder, RandomAccessMachine.DEFAULT_MEMORY_LIMIT, 0)
+                           .evaluate(program));
+
+        int memoryLimit = 1 << 24;
+        String large = "SET " + memoryLimit + "\nINP 1\nHLT 0";
+
+        // A memory that is not stored in a single array is not part of a snapshot.
+        assertNull(new RandomAccessMachineEvaluator(decoder, memoryLimit, 1_000)
+                           .evaluate(new RandomAccessMachineCompiler(decoder, memoryLimit).compile(large).get()));
+    }
+
+    @Test
+    void runFromSnapshot() {
+        Program program = compiler.compile(SQUARES).get();
+        Program evaluated = program.withSnapshot(evaluator.evaluate(program));
+        long steps = Long.parseLong(execute(program, "2", Long.MAX_VALUE, Long.MAX_VALUE).getLast());
+
+        assertEquals(execute(evaluated, "2", Long.MAX_VALUE, Long.MAX_VALUE),
+                     List.of("9", "18", Status.FINISH_SUCCESS.name(), "11", "12"));
+
+        // The machine continues from the snapshot instead of executing the beginning again.
+        Program fabricated = program.withSnapshot(new Snapshot(6, new int[] {0, 0, 5, 0, 0}, 6, new int[] {42}));
+        assertEquals(execute(fabricated, "2", Long.MAX_VALUE, Long.MAX_VALUE),
+                     List.of("42", "10", Status.FINISH_SUCCESS.name(), "11", "12"));
+
+        // Every limit stops the program at the same command, even if it is exceeded by the snapshot.
+        for (long limit = 0; limit <= steps; limit++)
+            assertEquals(execute(evaluated, "2", limit, Long.MAX_VALUE), execute(program, "2", limit, Long.MAX_VALUE),
+                         "limit " + limit);
+
+        for (long outputLimit = 0; outputLimit <= 2; outputLimit++)
+            assertEquals(execute(evaluated, "2", Long.MAX_VALUE, outputLimit),
+                         execute(program, "2", Long.MAX_VALUE, outputLimit), "output limit " + outputLimit);
+    }
+}
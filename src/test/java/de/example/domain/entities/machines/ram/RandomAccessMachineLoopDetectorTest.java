@@ -0,0 +1,61 @@
+package de.example.domain.entities.machines.ram;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomAccessMachineLoopDetectorTest {
+    private RandomAccessMachineLoopDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        detector = new RandomAccessMachineLoopDetector();
+    }
+
+    @Test
+    void isRepeated() {
+        assertFalse(detector.isRepeated(3, 6));
+        assertFalse(detector.isRepeated(4, 6));
+        assertFalse(detector.isRepeated(3, 7));
+        assertTrue(detector.isRepeated(3, 6));
+    }
+
+    @Test
+    void isRepeatedAfterWrites() {
+        assertFalse(detector.isRepeated(3, 6));
+
+        detector.write(2, 0, 5);
+        assertFalse(detector.isRepeated(3, 6));
+
+        // Writing the previous values back restores the state, regardless of the order of the writes.
+        detector.write(1, 0, 7);
+        detector.write(2, 5, 0);
+        detector.write(1, 7, 0);
+        assertTrue(detector.isRepeated(3, 6));
+    }
+
+    @Test
+    void forget() {
+        assertFalse(detector.isRepeated(3, 6));
+
+        detector.forget();
+        assertFalse(detector.isRepeated(3, 6));
+        assertTrue(detector.isRepeated(3, 6));
+    }
+
+    @Test
+    void isRepeatedWithLongPeriod() {
+        // The table is cleared several times before the period fits into it.
+        boolean repeated = false;
+        int jumps = 0;
+
+        while (!repeated && jumps < 1_000_000) {
+            detector.write(1, jumps % 5_000, (jumps + 1) % 5_000);
+            repeated = detector.isRepeated(3, 6);
+            jumps++;
+        }
+
+        assertTrue(repeated);
+    }
+}
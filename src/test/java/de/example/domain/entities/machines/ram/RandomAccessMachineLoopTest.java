@@ -0,0 +1,187 @@
+package de.example.domain.entities.machines.ram;
+
+import de.example.domain.entities.Status;
+import de.example.domain.entities.machines.Program;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import static de.example.domain.entities.machines.ram.RandomAccessMachineTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomAccessMachineLoopTest {
+    private RandomAccessMachineCompiler compiler;
+    private RandomAccessMachineOptimizer optimizer;
+
+    private static final String MULTIPLICATION = """
+            SET 4
+            INP 1
+            INP 2
+            LDK 1
+            STA 4
+            LDK 0
+            STA 3
+            LDA 2
+            JLE 17
+            LDA 3
+            ADD 1
+            STA 3
+            LDA 2
+            SUB 4
+            STA 2
+            JGZ 10
+            OUT 3
+            HLT 0""";
+
+    private static final String DIVISION = """
+            SET 4
+            INP 1
+            INP 2
+            LDK 1
+            STA 4
+            LDK 0
+            STA 3
+            LDA 1
+            SUB 2
+            JLZ 16
+            STA 1
+            LDA 3
+            ADD 4
+            STA 3
+            JMP 8
+            OUT 3
+            OUT 1
+            HLT 0""";
+
+    private static final String EXPONENTIATION = """
+            SET 4
+            INP 1
+            INP 2
+            LDK 1
+            STA 3
+            STA 4
+            LDA 2
+            JEZ 16
+            LDA 3
+            MUL 1
+            STA 3
+            LDA 2
+            SUB 4
+            STA 2
+            JNE 9
+            OUT 3
+            HLT 0""";
+
+    private static final String SUM = """
+            SET 3
+            INP 1
+            LDK 1
+            STA 3
+            LDA 2
+            ADD 1
+            STA 2
+            LDA 1
+            SUB 3
+            STA 1
+            JGZ 5
+            OUT 2
+            HLT 0""";
+
+    @BeforeEach
+    void setUp() {
+        compiler = new RandomAccessMachineCompiler(new RandomAccessMachineDecoder());
+        optimizer = new RandomAccessMachineOptimizer();
+    }
+
+    /** Returns the loops of the given program, whose iterations might be skipped. */
+    private RandomAccessMachineLoop[] findLoops(String program) {
+        return optimizer.findLoops(commands(compiler.compile(program).get()));
+    }
+
+    /** Executes the given program once with loops being skipped and once without and compares the results for every
+     *  limit up to the number of commands the program executes. */
+    private void assertExecutesLikeSingleCommands(String program, String inputs) {
+        Program verified = compiler.compile(program).get();
+        Program unverified = new Program(commands(verified));
+        long steps = Long.parseLong(execute(unverified, inputs, Long.MAX_VALUE).getLast());
+
+        assertTrue(verified.isVerified());
+
+        for (long limit = 0; limit <= steps; limit++)
+            assertEquals(execute(verified, inputs, limit), execute(unverified, inputs, limit),
+                         inputs + ", limit " + limit);
+
+        assertEquals(execute(verified, inputs, Long.MAX_VALUE), execute(unverified, inputs, Long.MAX_VALUE), inputs);
+    }
+
+    @Test
+    void findLoops() {
+        RandomAccessMachineLoop[] multiplication = findLoops(MULTIPLICATION);
+        RandomAccessMachineLoop[] division = findLoops(DIVISION);
+
+        assertEquals(multiplication[9].getLength(), 7);
+        assertEquals(division[7].getLength(), 8);
+        assertEquals(Arrays.stream(multiplication).filter(loop -> loop != null).count(), 1);
+        assertNotNull(findLoops(EXPONENTIATION)[8]);
+
+        // The sum depends on the counter, which grows quadratically, and the loop outputs a value in every iteration.
+        assertNull(findLoops(SUM)[4]);
+        assertNull(findLoops(SUM.replace("ADD 1", "OUT 1"))[4]);
+    }
+
+    @Test
+    void executeLikeSingleCommands() {
+        for (String inputs : new String[] {"7 6", "-3 5", "4 0", "4 -2", "100000 1"})
+            assertExecutesLikeSingleCommands(MULTIPLICATION, inputs);
+        for (String inputs : new String[] {"17 5", "3 5", "20 1", "-4 2"})
+            assertExecutesLikeSingleCommands(DIVISION, inputs);
+        for (String inputs : new String[] {"3 4", "-2 7", "5 0", "7 1"})
+            assertExecutesLikeSingleCommands(EXPONENTIATION, inputs);
+        for (String inputs : new String[] {"5", "0"})
+            assertExecutesLikeSingleCommands(SUM, inputs);
+    }
+
+    @Test
+    void executeLargeInputs() {
+        Program multiplication = compiler.compile(MULTIPLICATION).get();
+        Program division = compiler.compile(DIVISION).get();
+        Program exponentiation = compiler.compile(EXPONENTIATION).get();
+
+        // The results wrap around like the single commands, and every skipped command is counted.
+        assertEquals(execute(multiplication, "123456789 2000000000", Long.MAX_VALUE),
+                     List.of(String.valueOf(123456789 * 2000000000), Status.FINISH_SUCCESS.name(), "17",
+                             String.valueOf(9 + 7 * 2000000000L + 2)));
+        assertEquals(execute(division, "2147483647 3", Long.MAX_VALUE).subList(0, 3),
+                     List.of(String.valueOf(2147483647 / 3), String.valueOf(2147483647 % 3),
+                             Status.FINISH_SUCCESS.name()));
+
+        // A negative exponent counts down until the counter wraps around to 0.
+        BigInteger modulus = BigInteger.ONE.shiftLeft(32);
+        int power = BigInteger.valueOf(3).modPow(modulus.subtract(BigInteger.ONE), modulus).intValue();
+        assertEquals(execute(exponentiation, "3 -1", Long.MAX_VALUE).getFirst(), String.valueOf(power));
+        assertEquals(execute(exponentiation, "3 5", Long.MAX_VALUE).getFirst(), "243");
+    }
+
+    @Test
+    void executeInfiniteLoop() {
+        String program = """
+                SET 2
+                INP 1
+                LDK 2
+                STA 2
+                LDA 1
+                SUB 2
+                STA 1
+                JNE 5
+                HLT 0""";
+
+        // Subtracting 2 from an odd counter never reaches 0, whereas an even one does after wrapping around.
+        assertEquals(execute(compiler.compile(program).get(), "5", 1_000_000_000_000L),
+                     List.of(Status.STEP_LIMIT_ERROR.name(), "4", "1000000000000"));
+        assertEquals(execute(compiler.compile(program).get(), "-4", Long.MAX_VALUE),
+                     List.of(Status.FINISH_SUCCESS.name(), "8", String.valueOf(5 + 4 * ((1L << 31) - 2))));
+        assertExecutesLikeSingleCommands(program, "6");
+    }
+}
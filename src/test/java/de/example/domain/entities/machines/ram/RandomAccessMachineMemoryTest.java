@@ -0,0 +1,43 @@
+package de.example.domain.entities.machines.ram;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomAccessMachineMemoryTest {
+
+    @Test
+    void allocate() {
+        RandomAccessMachineMemory small = RandomAccessMachineMemory.allocate(RandomAccessMachineMemory.DENSE_LIMIT);
+        RandomAccessMachineMemory large = RandomAccessMachineMemory.allocate(RandomAccessMachineMemory.DENSE_LIMIT + 1);
+
+        assertInstanceOf(RandomAccessMachineArrayMemory.class, small);
+        assertInstanceOf(RandomAccessMachinePagedMemory.class, large);
+        assertEquals(small.size(), RandomAccessMachineMemory.DENSE_LIMIT);
+        assertEquals(large.size(), RandomAccessMachineMemory.DENSE_LIMIT + 1);
+        assertNotNull(small.array());
+        assertNull(large.array());
+    }
+
+    @Test
+    void pagedMemory() {
+        RandomAccessMachineMemory memory = new RandomAccessMachinePagedMemory(Integer.MAX_VALUE);
+
+        assertEquals(memory.get(0), 0);
+        assertEquals(memory.get(Integer.MAX_VALUE - 1), 0);
+
+        memory.set(0, 3);
+        memory.set(4096, 5);
+        memory.set(Integer.MAX_VALUE - 1, -7);
+        memory.set(123_456_789, 0);
+
+        assertEquals(memory.get(0), 3);
+        assertEquals(memory.get(1), 0);
+        assertEquals(memory.get(4095), 0);
+        assertEquals(memory.get(4096), 5);
+        assertEquals(memory.get(123_456_789), 0);
+        assertEquals(memory.get(Integer.MAX_VALUE - 1), -7);
+        assertThrows(IndexOutOfBoundsException.class, () -> memory.get(Integer.MAX_VALUE));
+        assertThrows(IndexOutOfBoundsException.class, () -> memory.set(-1, 1));
+    }
+}
@@ -0,0 +1,95 @@
+package de.example.domain.entities.machines.ram;
+
+import de.example.domain.entities.InputQueue;
+import de.example.domain.entities.Status;
+import de.example.domain.entities.machines.Program;
+import de.example.domain.entities.machines.ram.RandomAccessMachineSuperinstruction.Form;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.List;
+
+import static de.example.domain.entities.machines.ram.RandomAccessMachineTestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomAccessMachineOptimizerTest {
+    private RandomAccessMachineCompiler compiler;
+    private RandomAccessMachineOptimizer optimizer;
+
+    private static final String COMPARISON = """
+            SET 4
+            LDK 5
+            STA 1
+            LDK 0
+            STA 2
+            LDK 1
+            STA 3
+
+
+            LDA 2
+            ADD 3
+            STA 2
+            STA 4
+            LDA 4
+            MUL 3
+            LDA 1
+            SUB 2
+            JGZ 10
+            LDA 2
+            JEZ 1
+            HLT 0""";
+
+    @BeforeEach
+    void setUp() {
+        compiler = new RandomAccessMachineCompiler(new RandomAccessMachineDecoder());
+        optimizer = new RandomAccessMachineOptimizer();
+    }
+
+    /** Returns the form of the superinstruction of every line, where an element is {@code null} if there is none. */
+    private List<Form> forms(String program) {
+        return Arrays.stream(optimizer.optimize(commands(compiler.compile(program).get())))
+                     .map(superinstruction -> superinstruction == null ? null : superinstruction.getForm())
+                     .toList();
+    }
+
+    /** Executes the given program with the given limit and returns the status, the program counter, the number of
+     *  executed commands and the memory. */
+    private static List<String> execute(Program program, long limit) {
+        RandomAccessMachine ram = new RandomAccessMachine(new InputQueue(), new RandomAccessMachineDecoder());
+        List<String> result = RandomAccessMachineTestUtils.execute(ram, program, "", limit);
+        result.add(ram.memory == null ? "null" : Arrays.toString(ram.memory.array()));
+        return result;
+    }
+
+    @Test
+    void optimize() {
+        List<Form> forms = forms(COMPARISON);
+
+        assertNull(forms.get(0));
+        assertEquals(forms.get(1), Form.LOAD_CONSTANT_STORE);
+        assertNull(forms.get(2));
+        assertEquals(forms.get(7), Form.HOPS);
+        assertNull(forms.get(8));
+        assertEquals(forms.get(9), Form.LOAD_OPERATE_STORE);
+        assertEquals(forms.get(10), Form.OPERATE_STORE);
+        assertEquals(forms.get(12), Form.STORE_LOAD);
+        assertEquals(forms.get(13), Form.LOAD_OPERATE);
+        assertEquals(forms.get(15), Form.LOAD_SUBTRACT_BRANCH);
+        assertEquals(forms.get(18), Form.LOAD_BRANCH);
+        assertEquals(optimizer.optimize(commands(compiler.compile(COMPARISON).get()))[7].getLength(), 2);
+    }
+
+    @Test
+    void executeLikeSingleCommands() {
+        Program verified = compiler.compile(COMPARISON).get();
+        Program unverified = new Program(commands(verified));
+
+        assertTrue(verified.isVerified());
+        assertEquals(execute(verified, Long.MAX_VALUE).getFirst(), Status.FINISH_SUCCESS.name());
+
+        // Every limit stops the program at the same command, even within a sequence of a superinstruction.
+        long steps = Long.parseLong(execute(unverified, Long.MAX_VALUE).get(2));
+        for (long limit = 0; limit <= steps; limit++)
+            assertEquals(execute(verified, limit), execute(unverified, limit), "limit " + limit);
+    }
+}
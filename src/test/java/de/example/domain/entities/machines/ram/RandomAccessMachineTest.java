@@ -1,8 +1,16 @@
 package de.example.domain.entities.machines.ram;
 
-import de.example.domain.entities.Buffer;
+import de.example.domain.entities.InputQueue;
 import de.example.domain.entities.Status;
+import de.example.domain.entities.Watchdog;
+import de.example.domain.entities.machines.Command;
 import de.example.domain.entities.machines.Decoder;
+import de.example.domain.entities.machines.Program;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,16 +21,16 @@ import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class RandomAccessMachineTest {
-    private Buffer<String> buffer;
+    private InputQueue inputs;
     private RandomAccessMachine ram;
 
     private static final int MEMORY_SIZE = 5;
 
     @BeforeEach
     void setUp() {
-        buffer = mock(Buffer.class);
+        inputs = mock(InputQueue.class);
         Decoder decoder = new RandomAccessMachineDecoder();
-        ram = new RandomAccessMachine(new int[MEMORY_SIZE+1], buffer , decoder);
+        ram = new RandomAccessMachine(new int[MEMORY_SIZE+1], inputs , decoder);
     }
 
     @Test
@@ -63,14 +71,13 @@ class RandomAccessMachineTest {
         assertEquals(status, Status.OK);
 
         status = ram.run("OUT 1");
-        assertEquals(status, Status.OUTPUT);
+        assertEquals(status, Status.OK);
 
-        when(buffer.isEmpty()).thenReturn(true);
+        when(inputs.poll()).thenReturn(InputQueue.EMPTY);
         status = ram.run("INP 1");
         assertEquals(status, Status.INPUT);
 
-        when(buffer.isEmpty()).thenReturn(false);
-        when(buffer.read()).thenReturn("174");
+        when(inputs.poll()).thenReturn(174L);
         status = ram.run("INP 1");
         assertEquals(status, Status.OK);
 
@@ -88,13 +95,237 @@ class RandomAccessMachineTest {
     }
 
     @Test
-    void requestOutput() throws InterruptedException {
-        when(buffer.read()).thenReturn("174");
+    void runProgram() {
+        RandomAccessMachineCompiler compiler = new RandomAccessMachineCompiler(new RandomAccessMachineDecoder());
+        List<Integer> outputs = new ArrayList<>();
+        ram.load(compiler.compile("SET 1\nLDK 7\n\nSTA 1\nOUT 1\nHLT 0").get());
+        ram.setOutput(outputs::add);
 
-        String result = ram.requestOutput();
+        Status status = ram.run();
+        assertEquals(status, Status.FINISH_SUCCESS);
+        assertEquals(ram.getPc(), 5);
+        assertEquals(outputs, List.of(7));
+    }
 
-        verify(buffer, times(1)).read();
-        assertEquals(result, "174");
+    @Test
+    void runProgramWithLargerSet() {
+        RandomAccessMachineCompiler compiler = new RandomAccessMachineCompiler(new RandomAccessMachineDecoder());
+        List<Integer> outputs = new ArrayList<>();
+        Program program = compiler.compile("SET 2\nSET 5\nLDK 1\nSTA 4\nOUT 4\nHLT 0").get();
+        ram.load(program);
+        ram.setOutput(outputs::add);
+
+        // The memory address 4 is only accessible after the second SET command, so that it is checked at runtime.
+        assertFalse(program.isVerified());
+        assertEquals(ram.run(), Status.FINISH_SUCCESS);
+        assertEquals(outputs, List.of(1));
+
+        ram.reset();
+        ram.load(compiler.compile("SET 5\nSET 2\nLDK 1\nSTA 4\nHLT 0").get());
+        assertEquals(ram.run(), Status.MEMORY_ADDRESS_ERROR);
+    }
+
+    @Test
+    void runWithQueuedInputs() {
+        RandomAccessMachineCompiler compiler = new RandomAccessMachineCompiler(new RandomAccessMachineDecoder());
+        RandomAccessMachine machine = new RandomAccessMachine(new InputQueue(), new RandomAccessMachineDecoder());
+        List<Integer> outputs = new ArrayList<>();
+        machine.load(compiler.compile("SET 2\nINP 1\nINP 2\nLDA 1\nADD 2\nSTA 1\nOUT 1\nINP 1\nHLT 0").get());
+        machine.setOutput(outputs::add);
+
+        // Inputs delivered before they are needed are read without requesting them.
+        assertTrue(machine.deliverInput("3 4"));
+        assertEquals(machine.run(), Status.INPUT);
+        assertEquals(machine.getPc(), 7);
+        assertEquals(outputs, List.of(7));
+
+        assertTrue(machine.deliverInput("A"));
+        assertEquals(machine.run(), Status.INPUT_ERROR);
+    }
+
+    @Test
+    void runOutputLimit() {
+        RandomAccessMachineCompiler compiler = new RandomAccessMachineCompiler(new RandomAccessMachineDecoder());
+        RandomAccessMachine machine = new RandomAccessMachine(new InputQueue(), new RandomAccessMachineDecoder());
+        List<Integer> outputs = new ArrayList<>();
+        machine.setOutputLimit(2);
+        machine.load(compiler.compile("SET 1\nLDK 1\nADD 1\nSTA 1\nOUT 1\nJMP 3").get());
+        machine.setOutput(outputs::add);
+
+        // The OUT command exceeding the limit is not executed.
+        assertEquals(machine.run(), Status.OUTPUT_LIMIT_ERROR);
+        assertEquals(machine.getPc(), 4);
+        assertEquals(outputs, List.of(1, 2));
+
+        // The limit is kept when the machine is reset and applies to every loaded program anew.
+        machine.reset();
+        outputs.clear();
+        machine.load(compiler.compile("SET 1\nLDK 1\nADD 1\nSTA 1\nOUT 1\nJMP 3").get());
+        machine.setOutput(outputs::add);
+        assertEquals(machine.run(), Status.OUTPUT_LIMIT_ERROR);
+        assertEquals(outputs, List.of(1, 2));
+    }
+
+    @Test
+    void runInfiniteLoop() {
+        RandomAccessMachineCompiler compiler = new RandomAccessMachineCompiler(new RandomAccessMachineDecoder());
+        RandomAccessMachine machine = new RandomAccessMachine(new InputQueue(), new RandomAccessMachineDecoder());
+        machine.setLoopDetection(true);
+
+        // The counter runs from 0 to 9 and back to 0 forever.
+        machine.load(compiler.compile("SET 2\nLDK 10\nSTA 2\nLDK 0\nSTA 1\nLDA 1\nADD 2\nSUB 2\nLDK 1\n" +
+                                      "ADD 1\nSTA 1\nSUB 2\nJLZ 6\nJMP 4").get());
+        assertEquals(machine.run(), Status.INFINITE_LOOP_ERROR);
+        assertEquals(machine.getPc(), 5);
+
+        // A loop reading an input in every iteration is not an infinite one.
+        machine.reset();
+        machine.load(compiler.compile("SET 1\nINP 1\nJMP 2").get());
+        machine.deliverInput("1 1 1 1");
+        machine.deliverInput(null);
+        assertEquals(machine.run(), Status.INPUT_ERROR);
+
+        // The setting is kept when the machine is reset.
+        machine.reset();
+        machine.load(compiler.compile("SET 1\nLDK 1\nJMP 2").get());
+        assertEquals(machine.run(), Status.INFINITE_LOOP_ERROR);
+
+        machine.reset();
+        machine.setLoopDetection(false);
+        machine.load(compiler.compile("SET 1\nLDK 1\nJMP 2").get());
+        assertEquals(machine.run(1_000), Status.STEP_LIMIT_ERROR);
+    }
+
+    @Test
+    void runOutOfProgram() {
+        RandomAccessMachineCompiler compiler = new RandomAccessMachineCompiler(new RandomAccessMachineDecoder());
+        ram.load(compiler.compile("SET 1\nLDK 7").get());
+
+        Status status = ram.run();
+        assertEquals(status, Status.PROGRAM_ADDRESS_ERROR);
+        assertEquals(ram.getPc(), 2);
+
+        // The compiler rejects a jump out of the program, which is why the program is not compiled.
+        RandomAccessMachineDecoder decoder = new RandomAccessMachineDecoder();
+        ram.load(new Program(new Command[] {decoder.decode("SET 1"), decoder.decode("JMP 0")}));
+        ram.pc = 0;
+
+        status = ram.run();
+        assertEquals(status, Status.PROGRAM_ADDRESS_ERROR);
+        assertEquals(ram.getPc(), -1);
+    }
+
+    @Test
+    void control() {
+        assertFalse(ram.resume());
+        assertFalse(ram.step());
+        assertTrue(ram.pause());
+        assertFalse(ram.pause());
+        assertTrue(ram.step());
+        assertFalse(ram.step());
+        assertTrue(ram.resume());
+        assertTrue(ram.isRunning());
+
+        ram.interrupt();
+        assertFalse(ram.pause());
+        assertFalse(ram.isRunning());
+        assertTrue(ram.isInterrupt());
+
+        ram.reset();
+        assertTrue(ram.isRunning());
+    }
+
+    @Test
+    void runStepwise() throws Exception {
+        RandomAccessMachineCompiler compiler = new RandomAccessMachineCompiler(new RandomAccessMachineDecoder());
+        ram.load(compiler.compile("SET 1\nLDK 7\nSTA 1\nINP 1\nHLT 0").get());
+        when(inputs.poll()).thenReturn(InputQueue.EMPTY);
+        ram.pause();
+
+        FutureTask<Status> runner = new FutureTask<>(ram::run);
+        new Thread(runner).start();
+
+        // Every step is only accepted after the previous one has been executed.
+        for (int i = 0; i < 4; i++)
+            while (!ram.step())
+                Thread.onSpinWait();
+
+        assertEquals(runner.get(5, TimeUnit.SECONDS), Status.INPUT);
+        assertEquals(ram.getPc(), 3);
+
+        // The INP command waiting for an input is not counted until it is executed again.
+        assertEquals(ram.getSteps(), 3);
+
+        ram.interrupt();
+        assertEquals(ram.run(), Status.OK);
+        assertEquals(ram.getPc(), 3);
+    }
+
+    @Test
+    void runTimeLimitWaitingForUser() throws Exception {
+        RandomAccessMachineCompiler compiler = new RandomAccessMachineCompiler(new RandomAccessMachineDecoder());
+        ram.load(compiler.compile("SET 1\nINP 1\nHLT 0").get());
+        when(inputs.poll()).thenReturn(InputQueue.EMPTY);
+        when(inputs.read()).thenAnswer(_ -> {
+            Thread.sleep(500);
+            return 7L;
+        });
+
+        Watchdog watchdog = new Watchdog(ram, Duration.ofMillis(250));
+        ram.setWatchdog(watchdog);
+        ram.pause();
+
+        FutureTask<Status> runner = new FutureTask<>(ram::run);
+        Thread thread = new Thread(runner);
+        thread.start();
+
+        // The machine is only resumed after the runner thread has been waiting longer than the time limit.
+        while (thread.isAlive() && thread.getState() != Thread.State.WAITING)
+            Thread.onSpinWait();
+
+        Thread.sleep(500);
+        ram.resume();
+
+        // Neither the pause nor the input wait counts towards the time limit.
+        assertEquals(runner.get(5, TimeUnit.SECONDS), Status.INPUT);
+        assertEquals(ram.run(), Status.FINISH_SUCCESS);
+        assertEquals(ram.getSteps(), 3);
+        assertFalse(watchdog.hasExpired());
+        watchdog.cancel();
+    }
+
+    @Test
+    void runStepLimit() {
+        RandomAccessMachineCompiler compiler = new RandomAccessMachineCompiler(new RandomAccessMachineDecoder());
+        ram.load(compiler.compile("SET 1\nLDK 7\nSTA 1\nOUT 1\nHLT 0").get());
+
+        Status status = ram.run(3);
+        assertEquals(status, Status.STEP_LIMIT_ERROR);
+        assertEquals(ram.getPc(), 3);
+
+        status = ram.run(4);
+        assertEquals(status, Status.STEP_LIMIT_ERROR);
+        assertEquals(ram.getPc(), 4);
+
+        status = ram.run(5);
+        assertEquals(status, Status.FINISH_SUCCESS);
+    }
+
+    @Test
+    void runProfiled() {
+        RandomAccessMachineCompiler compiler = new RandomAccessMachineCompiler(new RandomAccessMachineDecoder());
+        ram.load(compiler.compile("SET 1\nHLT 0").get());
+        ram.run();
+        assertNull(ram.getProfile());
+
+        ram.reset();
+        ram.setProfiling(true);
+        ram.load(compiler.compile("SET 2\nLDK 1\nSTA 2\nLDK 3\nSTA 1\nLDA 1\nSUB 2\nSTA 1\nJGZ 6\nHLT 0").get());
+        assertEquals(ram.run(), Status.FINISH_SUCCESS);
+        assertArrayEquals(ram.getProfile(), new long[] {1, 1, 1, 1, 1, 3, 3, 3, 3, 1});
+
+        ram.reset();
+        assertNull(ram.getProfile());
     }
 
     @Test
@@ -102,27 +333,27 @@ class RandomAccessMachineTest {
         boolean result;
 
         result = ram.deliverInput(null);
-        verify(buffer, never()).write(anyString());
+        verify(inputs, never()).write(anyString());
         assertFalse(result);
 
         result = ram.deliverInput("");
-        verify(buffer, times(1)).write("");
+        verify(inputs, times(1)).write("");
         assertTrue(result);
 
         result = ram.deliverInput("A");
-        verify(buffer, times(1)).write("A");
+        verify(inputs, times(1)).write("A");
         assertTrue(result);
 
         result = ram.deliverInput("  A ");
-        verify(buffer, times(1)).write("  A ");
+        verify(inputs, times(1)).write("  A ");
         assertTrue(result);
 
         result = ram.deliverInput("1");
-        verify(buffer, times(1)).write("1");
+        verify(inputs, times(1)).write("1");
         assertTrue(result);
 
         result = ram.deliverInput(" 17  ");
-        verify(buffer, times(1)).write(" 17  ");
+        verify(inputs, times(1)).write(" 17  ");
         assertTrue(result);
     }
 
@@ -146,6 +377,24 @@ class RandomAccessMachineTest {
         assertEquals(status, Status.SET_ERROR);
     }
 
+    @Test
+    void setMemoryLimit() {
+        RandomAccessMachine large = new RandomAccessMachine(inputs, new RandomAccessMachineDecoder(), 10_000_000);
+        RandomAccessMachineCompiler compiler = new RandomAccessMachineCompiler(new RandomAccessMachineDecoder(),
+                                                                               10_000_000);
+        List<Integer> outputs = new ArrayList<>();
+
+        assertEquals(large.set(10_000_001), Status.SET_ERROR);
+        assertEquals(large.getMemoryLimit(), 10_000_000);
+
+        large.load(compiler.compile("SET 10000000\nLDK 7\nSTA 10000000\nLDK 0\nOUT 9999999\n" +
+                                    "LDA 10000000\nSTA 1\nOUT 1\nHLT 0").get());
+        large.setOutput(outputs::add);
+
+        assertEquals(large.run(), Status.FINISH_SUCCESS);
+        assertEquals(outputs, List.of(0, 7));
+    }
+
     @Test
     void hop() {
         Status status;
@@ -313,9 +562,9 @@ class RandomAccessMachineTest {
     }
 
     @Test
-    void inpWithEmptyBuffer() {
+    void inpWithEmptyQueue() {
         Status status;
-        when(buffer.isEmpty()).thenReturn(true);
+        when(inputs.poll()).thenReturn(InputQueue.EMPTY);
 
         status = ram.inp(-1);
         assertEquals(status, Status.MEMORY_ADDRESS_ERROR);
@@ -333,9 +582,9 @@ class RandomAccessMachineTest {
     // Two different methods, as the test freezes if the INP command is called
     // twice in succession, as it then waits for user input.
     @Test
-    void inpWithEmptyBuffer1() {
+    void inpWithEmptyQueue1() {
         Status status;
-        when(buffer.isEmpty()).thenReturn(true);
+        when(inputs.poll()).thenReturn(InputQueue.EMPTY);
 
         status = ram.inp(MEMORY_SIZE-1);
         assertEquals(status, Status.INPUT);
@@ -344,19 +593,18 @@ class RandomAccessMachineTest {
     // Two different methods, as the test freezes if the INP command is called
     // twice in succession, as it then waits for user input.
     @Test
-    void inpWithEmptyBuffer2() {
+    void inpWithEmptyQueue2() {
         Status status;
-        when(buffer.isEmpty()).thenReturn(true);
+        when(inputs.poll()).thenReturn(InputQueue.EMPTY);
 
         status = ram.inp(MEMORY_SIZE);
         assertEquals(status, Status.INPUT);
     }
 
     @Test
-    void inpWithFilledBuffer() throws InterruptedException {
+    void inpWithFilledQueue() throws InterruptedException {
         Status status;
-        when(buffer.isEmpty()).thenReturn(false);
-        when(buffer.read()).thenReturn("174");
+        when(inputs.poll()).thenReturn(174L);
 
         status = ram.inp(-1);
         assertEquals(status, Status.MEMORY_ADDRESS_ERROR);
@@ -380,30 +628,28 @@ class RandomAccessMachineTest {
     @Test
     void out() {
         Status status;
+        List<Integer> outputs = new ArrayList<>();
+        ram.setOutput(outputs::add);
 
         status = ram.out(-1);
-        verify(buffer, never()).write(anyString());
         assertEquals(status, Status.MEMORY_ADDRESS_ERROR);
 
         status = ram.out(0);
-        verify(buffer, never()).write(anyString());
         assertEquals(status, Status.MEMORY_ADDRESS_ERROR);
 
         status = ram.out(1);
-        verify(buffer, times(1)).write(anyString());
-        assertEquals(status, Status.OUTPUT);
+        assertEquals(status, Status.OK);
 
         status = ram.out(MEMORY_SIZE-1);
-        verify(buffer, times(2)).write(anyString());
-        assertEquals(status, Status.OUTPUT);
+        assertEquals(status, Status.OK);
 
         status = ram.out(MEMORY_SIZE);
-        verify(buffer, times(3)).write(anyString());
-        assertEquals(status, Status.OUTPUT);
+        assertEquals(status, Status.OK);
 
         status = ram.out(MEMORY_SIZE+1);
-        verify(buffer, times(3)).write(anyString());
         assertEquals(status, Status.MEMORY_ADDRESS_ERROR);
+        assertEquals(outputs.size(), 3);
+        verify(inputs, never()).write(anyString());
     }
 
     @Test
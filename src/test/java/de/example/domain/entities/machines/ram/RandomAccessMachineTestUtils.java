@@ -0,0 +1,47 @@
+package de.example.domain.entities.machines.ram;
+
+import de.example.domain.entities.InputQueue;
+import de.example.domain.entities.machines.Program;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Provides the helpers shared by the tests of the random access machine and its execution engines. */
+final class RandomAccessMachineTestUtils {
+
+    private RandomAccessMachineTestUtils() {}
+
+    /** Returns the commands of the given program. */
+    static RandomAccessMachineCommand[] commands(Program program) {
+        RandomAccessMachineCommand[] commands = new RandomAccessMachineCommand[program.size()];
+        for (int i = 0; i < commands.length; i++)
+            commands[i] = (RandomAccessMachineCommand) program.get(i);
+
+        return commands;
+    }
+
+    /**
+     * Executes the given program with the given inputs and limit on the given machine and returns all outputs
+     * followed by the final status, the program counter and the number of executed commands. The machine is reset
+     * before, so that it can be used for several executions.
+     */
+    static List<String> execute(RandomAccessMachine machine, Program program, String inputs, long limit) {
+        List<String> result = new ArrayList<>();
+        machine.reset();
+        machine.load(program);
+        machine.setOutput(value -> result.add(String.valueOf(value)));
+
+        if (!inputs.isEmpty())
+            machine.deliverInput(inputs);
+
+        result.add(machine.run(limit).name());
+        result.add(String.valueOf(machine.getPc()));
+        result.add(String.valueOf(machine.getSteps()));
+        return result;
+    }
+
+    /** Executes the given program like {@code execute(RandomAccessMachine, Program, String, long)} on a new machine. */
+    static List<String> execute(Program program, String inputs, long limit) {
+        return execute(new RandomAccessMachine(new InputQueue(), new RandomAccessMachineDecoder()), program, inputs,
+                       limit);
+    }
+}
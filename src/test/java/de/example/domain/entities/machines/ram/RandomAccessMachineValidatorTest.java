@@ -0,0 +1,81 @@
+package de.example.domain.entities.machines.ram;
+
+import de.example.domain.entities.Status;
+import de.example.domain.entities.machines.Problem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomAccessMachineValidatorTest {
+    private RandomAccessMachineDecoder decoder;
+    private RandomAccessMachineValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        decoder = new RandomAccessMachineDecoder();
+        validator = new RandomAccessMachineValidator();
+    }
+
+    /** Decodes every line of the given program. */
+    private List<RandomAccessMachineCommand> decode(String program) {
+        return Arrays.stream(program.split("\n"))
+                     .map(line -> (RandomAccessMachineCommand) decoder.decode(line))
+                     .toList();
+    }
+
+    @Test
+    void validateSuccess() {
+        assertTrue(validator.validate(decode("SET 2\n\nINP 1\nLDA 1\nJEZ 7\nOUT 2\nHLT 0")).isEmpty());
+        assertTrue(validator.validate(decode("\n  \nSET 0\nLDK 1\nJMP 4")).isEmpty());
+    }
+
+    @Test
+    void validateAllProblems() {
+        List<Problem> problems = validator.validate(decode("SET 2\nLDK\nCMD 1\nADD 3\nSTA 0\nJMP 9\nSET 101\nHLT 0"));
+
+        assertEquals(problems, List.of(new Problem(2, Status.DECODE_ERROR),
+                                       new Problem(3, Status.COMMAND_ERROR),
+                                       new Problem(4, Status.MEMORY_ADDRESS_ERROR),
+                                       new Problem(5, Status.MEMORY_ADDRESS_ERROR),
+                                       new Problem(6, Status.PROGRAM_ADDRESS_ERROR),
+                                       new Problem(7, Status.SET_ERROR)));
+    }
+
+    @Test
+    void validateLeadingSet() {
+        assertEquals(validator.validate(decode("\nLDK 1\nSET 1\nHLT 0")), List.of(new Problem(2, Status.SET_ERROR)));
+        assertEquals(validator.validate(decode("HOP 1\nLDK 1\nHLT 0")), List.of(new Problem(1, Status.COMMAND_ERROR)));
+    }
+
+    @Test
+    void validateLargestSet() {
+        // An address above a smaller SET command might be accessed after the larger one, which is checked at runtime.
+        assertTrue(validator.validate(decode("SET 2\nSET 5\nLDK 1\nSTA 4\nOUT 4\nHLT 0")).isEmpty());
+        assertTrue(validator.validate(decode("SET 3\nSTA 3\nSET 2\nLDA 2\nHLT 0")).isEmpty());
+        assertEquals(validator.validate(decode("SET 2\nSET 5\nSTA 6\nHLT 0")),
+                     List.of(new Problem(3, Status.MEMORY_ADDRESS_ERROR)));
+    }
+
+    @Test
+    void validateMemoryLimit() {
+        RandomAccessMachineValidator large = new RandomAccessMachineValidator(1_000_000);
+
+        assertTrue(large.validate(decode("SET 1000000\nSTA 1000000\nHLT 0")).isEmpty());
+        assertEquals(large.validate(decode("SET 1000001\nHLT 0")), List.of(new Problem(1, Status.SET_ERROR)));
+        assertEquals(validator.validate(decode("SET 1000000\nHLT 0")), List.of(new Problem(1, Status.SET_ERROR)));
+    }
+
+    @Test
+    void isClosed() {
+        assertTrue(validator.isClosed(decode("SET 1\nHLT 0")));
+        assertTrue(validator.isClosed(decode("SET 1\nLDK 1\nJMP 2")));
+        assertFalse(validator.isClosed(decode("SET 1\nLDK 1\nJGZ 2")));
+        assertFalse(validator.isClosed(decode("SET 1\nHLT 0\n ")));
+        assertFalse(validator.isClosed(List.of()));
+        assertFalse(validator.isClosed(decode("SET 2\nSET 5\nLDK 1\nSTA 4\nOUT 4\nHLT 0")));
+        assertTrue(validator.isClosed(decode("SET 2\nSET 5\nLDK 1\nSTA 2\nOUT 2\nHLT 0")));
+    }
+}
@@ -0,0 +1,125 @@
+package de.example.domain.usecases;
+
+import de.example.domain.entities.InputQueue;
+import de.example.domain.entities.Limits;
+import de.example.domain.entities.Status;
+import de.example.domain.entities.batch.BatchJob;
+import de.example.domain.entities.batch.BatchResult;
+import de.example.domain.entities.batch.ResultCache;
+import de.example.domain.entities.machines.Decoder;
+import de.example.domain.entities.machines.ram.RandomAccessMachine;
+import de.example.domain.entities.machines.ram.RandomAccessMachineCompiler;
+import de.example.domain.entities.machines.ram.RandomAccessMachineDecoder;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchUsecaseTest {
+    private BatchUsecase batchUsecase;
+
+    private static final String SQUARE = "SET 2\nINP 1\nLDA 1\nMUL 1\nSTA 2\nOUT 2\nHLT 0";
+    private static final String ENDLESS = "SET 1\nJMP 2";
+
+    @BeforeEach
+    void setUp() {
+        Decoder decoder = new RandomAccessMachineDecoder();
+        batchUsecase = new BatchUsecase(() -> new RandomAccessMachine(new InputQueue(), decoder),
+                                        new RandomAccessMachineCompiler(decoder));
+    }
+
+    @Test
+    void executeSuccess() {
+        List<BatchJob> jobs = List.of(new BatchJob("a", SQUARE, List.of("3")),
+                                      new BatchJob("b", SQUARE, List.of("-12")),
+                                      new BatchJob("c", SQUARE, List.of("x")),
+                                      new BatchJob("d", "SET 1\nFOO 1", List.of()));
+
+        List<BatchResult> results = batchUsecase.execute(jobs, Limits.NONE, 4);
+
+        assertEquals(4, results.size());
+        assertEquals(Status.FINISH_SUCCESS, results.get(0).getStatus());
+        assertEquals(List.of("9"), results.get(0).getOutputs());
+        assertEquals(Status.FINISH_SUCCESS, results.get(1).getStatus());
+        assertEquals(List.of("144"), results.get(1).getOutputs());
+        assertEquals(Status.INPUT_ERROR, results.get(2).getStatus());
+        assertEquals(Status.COMMAND_ERROR, results.get(3).getStatus());
+        assertSame(jobs.get(3), results.get(3).getJob());
+    }
+
+    @Test
+    void executeSteps() {
+        List<BatchJob> jobs = List.of(new BatchJob("a", SQUARE, List.of("3")),
+                                      new BatchJob("b", "SET 1\nINP 1\nHLT 0", List.of("1")),
+                                      new BatchJob("c", "SET 1\nINP 1\nINP 1\nHLT 0", List.of("1")));
+
+        List<BatchResult> results = batchUsecase.execute(jobs, Limits.NONE, 1);
+
+        // Every command is counted exactly once, since the inputs are queued before the program starts.
+        assertEquals(results.get(0).getSteps(), 7);
+        assertEquals(results.get(1).getSteps(), 3);
+
+        // An INP command after the last input fails instead of waiting.
+        assertEquals(results.get(2).getStatus(), Status.INPUT_ERROR);
+        assertEquals(results.get(2).getSteps(), 3);
+    }
+
+    @Test
+    void executeStepLimit() {
+        List<BatchJob> jobs = List.of(new BatchJob("a", ENDLESS, List.of()),
+                                      new BatchJob("b", SQUARE, List.of("5")));
+
+        List<BatchResult> results = batchUsecase.execute(jobs, new Limits(1000, null, Long.MAX_VALUE), 2);
+
+        assertEquals(Status.STEP_LIMIT_ERROR, results.get(0).getStatus());
+        assertEquals(Status.FINISH_SUCCESS, results.get(1).getStatus());
+        assertEquals(List.of("25"), results.get(1).getOutputs());
+    }
+
+    @Test
+    void executeTimeLimit() {
+        List<BatchJob> jobs = List.of(new BatchJob("a", ENDLESS, List.of()));
+
+        Limits limits = new Limits(Long.MAX_VALUE, Duration.ofMillis(50), Long.MAX_VALUE);
+        List<BatchResult> results = batchUsecase.execute(jobs, limits, 1);
+
+        assertEquals(Status.TIME_LIMIT_ERROR, results.getFirst().getStatus());
+        assertTrue(results.getFirst().getDuration() >= Duration.ofMillis(50).toNanos());
+    }
+
+    @Test
+    void executeOutputLimit() {
+        List<BatchJob> jobs = List.of(new BatchJob("a", "SET 1\nOUT 1\nJMP 2", List.of()));
+
+        List<BatchResult> results = batchUsecase.execute(jobs, new Limits(Long.MAX_VALUE, null, 3), 1);
+
+        assertEquals(Status.OUTPUT_LIMIT_ERROR, results.getFirst().getStatus());
+        assertEquals(List.of("0", "0", "0"), results.getFirst().getOutputs());
+    }
+
+    @Test
+    void executeCached() {
+        Decoder decoder = new RandomAccessMachineDecoder();
+        batchUsecase = new BatchUsecase(() -> new RandomAccessMachine(new InputQueue(), decoder),
+                                        new RandomAccessMachineCompiler(decoder),
+                                        new ResultCache(ResultCache.DEFAULT_CAPACITY, null, ""));
+        List<BatchJob> jobs = List.of(new BatchJob("a", SQUARE, List.of("3")),
+                                      new BatchJob("b", ENDLESS, List.of()));
+        Limits limits = new Limits(Long.MAX_VALUE, Duration.ofMillis(50), Long.MAX_VALUE);
+
+        List<BatchResult> first = batchUsecase.execute(jobs, limits, 1);
+        List<BatchResult> second = batchUsecase.execute(jobs, limits, 1);
+
+        assertFalse(first.get(0).isCached());
+        assertTrue(second.get(0).isCached());
+        assertEquals(second.get(0).getStatus(), Status.FINISH_SUCCESS);
+        assertEquals(second.get(0).getOutputs(), List.of("9"));
+        assertEquals(second.get(0).getSteps(), first.get(0).getSteps());
+
+        // A program exceeding the time limit is executed again.
+        assertEquals(second.get(1).getStatus(), Status.TIME_LIMIT_ERROR);
+        assertFalse(second.get(1).isCached());
+    }
+}
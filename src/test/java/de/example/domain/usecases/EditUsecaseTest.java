@@ -0,0 +1,34 @@
+package de.example.domain.usecases;
+
+import de.example.domain.entities.machines.ram.RandomAccessMachineDocument;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EditUsecaseTest {
+    private RandomAccessMachineDocument document;
+    private EditUsecase editUsecase;
+
+    @BeforeEach
+    void setUp() {
+        document = mock(RandomAccessMachineDocument.class);
+        editUsecase = new EditUsecase(document);
+    }
+
+    @Test
+    void apply() {
+        when(document.getInvalidLines()).thenReturn(List.of(2));
+
+        assertEquals(editUsecase.apply("SET 1\nLDK A"), List.of(2));
+        verify(document).update("SET 1\nLDK A");
+
+        editUsecase.apply(null);
+        verify(document).update("");
+    }
+}
@@ -0,0 +1,91 @@
+package de.example.domain.usecases;
+
+import de.example.domain.entities.Limits;
+import de.example.domain.entities.Status;
+import de.example.domain.entities.machines.Compiler;
+import de.example.domain.entities.machines.Machine;
+import de.example.domain.entities.machines.Program;
+import de.example.domain.entities.machines.ram.RandomAccessMachineCommand;
+import io.vavr.control.Either;
+import java.util.function.IntConsumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExecuteUsecaseTest {
+    private Machine machine;
+    private Compiler compiler;
+    private ExecuteUsecase executeUsecase;
+
+    private static final String PROGRAM = "inp 1\nout 1\nhlt 99";
+    private static final String INPUT = "42";
+
+    @BeforeEach
+    void setUp() {
+        machine = mock(Machine.class);
+        compiler = mock(Compiler.class);
+        executeUsecase = new ExecuteUsecase(machine, compiler);
+    }
+
+    @Test
+    void executeSuccess() {
+        Program program = new Program(new RandomAccessMachineCommand[0]);
+        IntConsumer output = _ -> {};
+
+        when(compiler.compile(PROGRAM)).thenReturn(Either.right(program));
+        when(machine.run(Long.MAX_VALUE)).thenReturn(Status.INPUT, Status.FINISH_SUCCESS);
+
+        Status status = executeUsecase.execute(PROGRAM, () -> INPUT, output);
+
+        verify(machine, times(1)).load(program);
+        verify(machine, times(1)).setOutput(output);
+        verify(machine, times(1)).deliverInput(INPUT);
+        verify(machine, times(2)).run(Long.MAX_VALUE);
+        verify(machine, times(1)).reset();
+        assertEquals(Status.FINISH_SUCCESS, status);
+    }
+
+    @Test
+    void executeFailure() {
+        Program program = new Program(new RandomAccessMachineCommand[0]);
+
+        when(compiler.compile(PROGRAM)).thenReturn(Either.right(program));
+        when(machine.run(Long.MAX_VALUE)).thenReturn(Status.DIVISION_BY_ZERO_ERROR);
+
+        Status status = executeUsecase.execute(PROGRAM, () -> INPUT, _ -> fail());
+
+        verify(machine, times(1)).reset();
+        assertEquals(Status.DIVISION_BY_ZERO_ERROR, status);
+    }
+
+    @Test
+    void executeLimits() {
+        Program program = new Program(new RandomAccessMachineCommand[0]);
+
+        when(compiler.compile(PROGRAM)).thenReturn(Either.right(program));
+        when(machine.run(100)).thenReturn(Status.OUTPUT_LIMIT_ERROR);
+
+        Status status = executeUsecase.execute(PROGRAM, () -> INPUT, _ -> {}, new Limits(100, null, 7));
+
+        verify(machine, times(1)).setOutputLimit(7);
+        verify(machine, times(1)).run(100);
+        verify(machine, times(1)).reset();
+        assertEquals(Status.OUTPUT_LIMIT_ERROR, status);
+    }
+
+    @Test
+    void executeCompileFailure() {
+        when(compiler.compile(PROGRAM)).thenReturn(Either.left(Status.DECODE_ERROR));
+
+        Status status = executeUsecase.execute(PROGRAM, () -> INPUT, _ -> fail());
+
+        verify(machine, never()).load(any());
+        verify(machine, never()).run(anyLong());
+        assertEquals(Status.DECODE_ERROR, status);
+    }
+}
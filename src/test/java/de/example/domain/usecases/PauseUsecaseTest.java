@@ -0,0 +1,40 @@
+package de.example.domain.usecases;
+
+import de.example.domain.entities.machines.Machine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PauseUsecaseTest {
+    @Mock
+    private Machine machine;
+
+    @InjectMocks
+    private PauseUsecase pauseUsecase;
+
+    @Test
+    void getSuccess() {
+        when(machine.pause()).thenReturn(true);
+
+        boolean result = pauseUsecase.get();
+
+        verify(machine, times(1)).pause();
+        assertTrue(result);
+    }
+
+    @Test
+    void getFailure() {
+        when(machine.pause()).thenReturn(false);
+
+        boolean result = pauseUsecase.get();
+
+        verify(machine, times(1)).pause();
+        assertFalse(result);
+    }
+}
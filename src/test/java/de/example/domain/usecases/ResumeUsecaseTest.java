@@ -0,0 +1,40 @@
+package de.example.domain.usecases;
+
+import de.example.domain.entities.machines.Machine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResumeUsecaseTest {
+    @Mock
+    private Machine machine;
+
+    @InjectMocks
+    private ResumeUsecase resumeUsecase;
+
+    @Test
+    void getSuccess() {
+        when(machine.resume()).thenReturn(true);
+
+        boolean result = resumeUsecase.get();
+
+        verify(machine, times(1)).resume();
+        assertTrue(result);
+    }
+
+    @Test
+    void getFailure() {
+        when(machine.resume()).thenReturn(false);
+
+        boolean result = resumeUsecase.get();
+
+        verify(machine, times(1)).resume();
+        assertFalse(result);
+    }
+}
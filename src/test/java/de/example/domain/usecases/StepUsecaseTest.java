@@ -11,22 +11,30 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
-class OutputUsecaseTest {
+class StepUsecaseTest {
     @Mock
     private Machine machine;
 
     @InjectMocks
-    private OutputUsecase outputUsecase;
+    private StepUsecase stepUsecase;
 
-    private static final String OUTPUT = "rA2ggutvEgsT";
+    @Test
+    void getSuccess() {
+        when(machine.step()).thenReturn(true);
+
+        boolean result = stepUsecase.get();
+
+        verify(machine, times(1)).step();
+        assertTrue(result);
+    }
 
     @Test
-    void get() {
-        when(machine.requestOutput()).thenReturn(OUTPUT);
+    void getFailure() {
+        when(machine.step()).thenReturn(false);
 
-        String result = outputUsecase.get();
+        boolean result = stepUsecase.get();
 
-        verify(machine, times(1)).requestOutput();
-        assertEquals(result, OUTPUT);
+        verify(machine, times(1)).step();
+        assertFalse(result);
     }
 }
@@ -0,0 +1,129 @@
+package de.example.presentation.cli;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeadlessRunnerTest {
+    private ByteArrayOutputStream out;
+    private ByteArrayOutputStream err;
+
+    private static final String SQUARE = "SET 2\nINP 1\nLDA 1\nMUL 1\nSTA 2\nOUT 2\nHLT 0";
+    private static final String DIVISION = "SET 1\nLDK 1\nDIV 1\nHLT 0";
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() {
+        out = new ByteArrayOutputStream();
+        err = new ByteArrayOutputStream();
+    }
+
+    /** Runs the given arguments with the given content of the standard input and returns the exit code. */
+    private int run(String in, String... args) {
+        ByteArrayInputStream input = new ByteArrayInputStream(in.getBytes(StandardCharsets.UTF_8));
+
+        return new HeadlessRunner(input, new PrintStream(out, true, StandardCharsets.UTF_8),
+                                  new PrintStream(err, true, StandardCharsets.UTF_8)).run(args);
+    }
+
+    /** Writes the given content into a file of the temporary directory and returns its path. */
+    private String write(String name, String content) throws IOException {
+        return Files.writeString(directory.resolve(name), content).toString();
+    }
+
+    /** Returns the lines written to the given stream. */
+    private static List<String> lines(ByteArrayOutputStream stream) {
+        return stream.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    @Test
+    void runUsage() {
+        assertEquals(run(""), HeadlessRunner.EXIT_USAGE);
+        assertEquals(run("", "--engine", "unknown", "program.ram"), HeadlessRunner.EXIT_USAGE);
+        assertEquals(run("", "--step-limit", "many", "program.ram"), HeadlessRunner.EXIT_USAGE);
+        assertEquals(run("", "--batch"), HeadlessRunner.EXIT_USAGE);
+
+        // Unknown options, a second program and a missing option value are rejected before anything is executed.
+        assertEquals(run("", "--bogus", "program.ram"), HeadlessRunner.EXIT_USAGE);
+        assertEquals(run("", "a.ram", "b.ram", "c.ram"), HeadlessRunner.EXIT_USAGE);
+        assertEquals(run("", "program.ram", "--step-limit"), HeadlessRunner.EXIT_USAGE);
+        assertEquals(out.size(), 0);
+        assertFalse(lines(err).isEmpty());
+    }
+
+    @Test
+    void runSuccess() throws IOException {
+        String program = write("square.ram", SQUARE);
+
+        assertEquals(run("7", program), HeadlessRunner.EXIT_SUCCESS);
+        assertEquals(run("-3", "--engine", "compiled", program), HeadlessRunner.EXIT_SUCCESS);
+
+        // An input file replaces the standard input.
+        assertEquals(run("7", "--input", write("inputs.txt", "12"), program), HeadlessRunner.EXIT_SUCCESS);
+        assertEquals(lines(out), List.of("49", "9", "144"));
+        assertEquals(err.size(), 0);
+    }
+
+    @Test
+    void runRelativePath() throws IOException {
+        // A file created in the working directory is referred to by its bare name, which has no parent.
+        Path program = Files.createTempFile(Path.of(""), "square", ".ram");
+
+        try {
+            Files.writeString(program, SQUARE);
+            assertNull(program.getParent());
+
+            assertEquals(run("5", program.toString()), HeadlessRunner.EXIT_SUCCESS);
+            assertEquals(run("", "--batch", "--input", write("inputs.txt", "6"), program.toString()),
+                         HeadlessRunner.EXIT_SUCCESS);
+            assertEquals(lines(out).getFirst(), "25");
+            assertTrue(lines(out).get(1).endsWith("\t36"));
+        } finally {
+            Files.deleteIfExists(program);
+        }
+    }
+
+    @Test
+    void runFailure() throws IOException {
+        assertEquals(run("", write("division.ram", DIVISION)), HeadlessRunner.EXIT_FAILURE);
+        assertEquals(run("", "--step-limit", "2", write("endless.ram", "SET 1\nJMP 2")), HeadlessRunner.EXIT_FAILURE);
+        assertEquals(run("", write("invalid.ram", "SET 1\nFOO 1\nHLT 0")), HeadlessRunner.EXIT_FAILURE);
+        assertEquals(out.size(), 0);
+        assertFalse(lines(err).isEmpty());
+
+        // A program that cannot be read is a usage error.
+        assertEquals(run("", directory.resolve("missing.ram").toString()), HeadlessRunner.EXIT_USAGE);
+    }
+
+    @Test
+    void runBatch() throws IOException {
+        String square = write("square.ram", SQUARE);
+        String division = write("division.ram", DIVISION);
+        String inputs = write("inputs.txt", "3\n\n-4\n");
+
+        assertEquals(run("", "--batch", "--jobs", "2", "--input", inputs, square), HeadlessRunner.EXIT_SUCCESS);
+        assertEquals(run("", "--batch", "--input", inputs, square, division), HeadlessRunner.EXIT_FAILURE);
+
+        // Every line contains the program, the input vector, the status, the duration and the outputs.
+        List<String[]> results = lines(out).stream().map(line -> line.split("\t", -1)).toList();
+        assertEquals(results.size(), 6);
+        assertEquals(List.of(results.get(0)[0], results.get(0)[1], results.get(0)[2], results.get(0)[4]),
+                     List.of(square, "1", "FINISH_SUCCESS", "9"));
+        assertEquals(List.of(results.get(1)[1], results.get(1)[4]), List.of("2", "16"));
+        assertEquals(List.of(results.get(5)[0], results.get(5)[2], results.get(5)[4]),
+                     List.of(division, "DIVISION_BY_ZERO_ERROR", ""));
+        assertEquals(err.size(), 0);
+    }
+}